@@ -128,6 +128,11 @@ public class VertxOptionsConverter {
             obj.setUseDaemonThread((Boolean)member.getValue());
           }
           break;
+        case "lockFreeTaskQueue":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLockFreeTaskQueue((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -181,5 +186,6 @@ public class VertxOptionsConverter {
     if (obj.getUseDaemonThread() != null) {
       json.put("useDaemonThread", obj.getUseDaemonThread());
     }
+    json.put("lockFreeTaskQueue", obj.getLockFreeTaskQueue());
   }
 }
@@ -83,6 +83,16 @@ public class EventBusOptionsConverter {
             obj.setClusterNodeMetadata(((JsonObject)member.getValue()).copy());
           }
           break;
+        case "clusterWriteBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatchMaxLinger":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxLinger(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -113,5 +123,7 @@ public class EventBusOptionsConverter {
     if (obj.getClusterNodeMetadata() != null) {
       json.put("clusterNodeMetadata", obj.getClusterNodeMetadata());
     }
+    json.put("clusterWriteBatchMaxBytes", obj.getClusterWriteBatchMaxBytes());
+    json.put("clusterWriteBatchMaxLinger", obj.getClusterWriteBatchMaxLinger());
   }
 }
@@ -0,0 +1,43 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.BodyAggregationOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.BodyAggregationOptions} original class using Vert.x codegen.
+ */
+public class BodyAggregationOptionsConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, BodyAggregationOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "copyThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCopyThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(BodyAggregationOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(BodyAggregationOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+    json.put("copyThreshold", obj.getCopyThreshold());
+  }
+}
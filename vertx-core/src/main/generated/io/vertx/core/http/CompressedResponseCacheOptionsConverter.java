@@ -0,0 +1,43 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.CompressedResponseCacheOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.CompressedResponseCacheOptions} original class using Vert.x codegen.
+ */
+public class CompressedResponseCacheOptionsConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CompressedResponseCacheOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxEntrySize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxEntrySize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CompressedResponseCacheOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CompressedResponseCacheOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+    json.put("maxEntrySize", obj.getMaxEntrySize());
+  }
+}
@@ -0,0 +1,55 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.HedgingOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.HedgingOptions} original class using Vert.x codegen.
+ */
+public class HedgingOptionsConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, HedgingOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "percentile":
+          if (member.getValue() instanceof Number) {
+            obj.setPercentile(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "delay":
+          if (member.getValue() instanceof Number) {
+            obj.setDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "budgetRatio":
+          if (member.getValue() instanceof Number) {
+            obj.setBudgetRatio(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "budgetCapacity":
+          if (member.getValue() instanceof Number) {
+            obj.setBudgetCapacity(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(HedgingOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(HedgingOptions obj, java.util.Map<String, Object> json) {
+    json.put("percentile", obj.getPercentile());
+    json.put("delay", obj.getDelay());
+    json.put("budgetRatio", obj.getBudgetRatio());
+    json.put("budgetCapacity", obj.getBudgetCapacity());
+  }
+}
@@ -28,6 +28,16 @@ public class HttpClientOptionsConverter {
             obj.setHttp2ConnectionWindowSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http2AdaptiveWindowSize":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHttp2AdaptiveWindowSize((Boolean)member.getValue());
+          }
+          break;
+        case "http2MaxAdaptiveWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setHttp2MaxAdaptiveWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "http2KeepAliveTimeout":
           if (member.getValue() instanceof Number) {
             obj.setHttp2KeepAliveTimeout(((Number)member.getValue()).intValue());
@@ -138,6 +148,11 @@ public class HttpClientOptionsConverter {
             obj.setTracingPolicy(io.vertx.core.tracing.TracingPolicy.valueOf((String)member.getValue()));
           }
           break;
+        case "hedgingOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setHedgingOptions(new io.vertx.core.http.HedgingOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
         case "shared":
           if (member.getValue() instanceof Boolean) {
             obj.setShared((Boolean)member.getValue());
@@ -159,6 +174,8 @@ public class HttpClientOptionsConverter {
    static void toJson(HttpClientOptions obj, java.util.Map<String, Object> json) {
     json.put("http2MultiplexingLimit", obj.getHttp2MultiplexingLimit());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
+    json.put("http2AdaptiveWindowSize", obj.isHttp2AdaptiveWindowSize());
+    json.put("http2MaxAdaptiveWindowSize", obj.getHttp2MaxAdaptiveWindowSize());
     json.put("http2KeepAliveTimeout", obj.getHttp2KeepAliveTimeout());
     json.put("keepAlive", obj.isKeepAlive());
     json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
@@ -192,6 +209,9 @@ public class HttpClientOptionsConverter {
     if (obj.getTracingPolicy() != null) {
       json.put("tracingPolicy", obj.getTracingPolicy().name());
     }
+    if (obj.getHedgingOptions() != null) {
+      json.put("hedgingOptions", obj.getHedgingOptions().toJson());
+    }
     json.put("shared", obj.isShared());
     if (obj.getName() != null) {
       json.put("name", obj.getName());
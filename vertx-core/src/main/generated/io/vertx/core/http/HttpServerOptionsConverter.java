@@ -28,6 +28,36 @@ public class HttpServerOptionsConverter {
             obj.setCompressionLevel(((Number)member.getValue()).intValue());
           }
           break;
+        case "compressionContentSizeThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionContentSizeThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "compressionContentTypes":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setCompressionContentTypes(list);
+          }
+          break;
+        case "compressionExcludedContentTypes":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setCompressionExcludedContentTypes(list);
+          }
+          break;
+        case "compressionSaturationThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionSaturationThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
         case "acceptUnmaskedFrames":
           if (member.getValue() instanceof Boolean) {
             obj.setAcceptUnmaskedFrames((Boolean)member.getValue());
@@ -113,11 +143,26 @@ public class HttpServerOptionsConverter {
             obj.setHttp2ConnectionWindowSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http2AdaptiveWindowSize":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHttp2AdaptiveWindowSize((Boolean)member.getValue());
+          }
+          break;
+        case "http2MaxAdaptiveWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setHttp2MaxAdaptiveWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "decompressionSupported":
           if (member.getValue() instanceof Boolean) {
             obj.setDecompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "precompressedFilesSupported":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPrecompressedFilesSupported((Boolean)member.getValue());
+          }
+          break;
         case "decoderInitialBufferSize":
           if (member.getValue() instanceof Number) {
             obj.setDecoderInitialBufferSize(((Number)member.getValue()).intValue());
@@ -178,6 +223,46 @@ public class HttpServerOptionsConverter {
             obj.setHttp2RstFloodWindowDurationTimeUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
           }
           break;
+        case "sendFileCacheOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setSendFileCacheOptions(new io.vertx.core.http.SendFileCacheOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "compressedResponseCacheOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCompressedResponseCacheOptions(new io.vertx.core.http.CompressedResponseCacheOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "sendDateHeader":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSendDateHeader((Boolean)member.getValue());
+          }
+          break;
+        case "serverHeader":
+          if (member.getValue() instanceof String) {
+            obj.setServerHeader((String)member.getValue());
+          }
+          break;
+        case "bodyAggregationOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setBodyAggregationOptions(new io.vertx.core.http.BodyAggregationOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "multipartStreamingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMultipartStreamingEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "preloadLinks":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.core.http.PreloadLink> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.core.http.PreloadLink((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setPreloadLinks(list);
+          }
+          break;
       }
     }
   }
@@ -189,6 +274,18 @@ public class HttpServerOptionsConverter {
    static void toJson(HttpServerOptions obj, java.util.Map<String, Object> json) {
     json.put("compressionSupported", obj.isCompressionSupported());
     json.put("compressionLevel", obj.getCompressionLevel());
+    json.put("compressionContentSizeThreshold", obj.getCompressionContentSizeThreshold());
+    if (obj.getCompressionContentTypes() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCompressionContentTypes().forEach(item -> array.add(item));
+      json.put("compressionContentTypes", array);
+    }
+    if (obj.getCompressionExcludedContentTypes() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCompressionExcludedContentTypes().forEach(item -> array.add(item));
+      json.put("compressionExcludedContentTypes", array);
+    }
+    json.put("compressionSaturationThreshold", obj.getCompressionSaturationThreshold());
     json.put("acceptUnmaskedFrames", obj.isAcceptUnmaskedFrames());
     json.put("maxWebSocketFrameSize", obj.getMaxWebSocketFrameSize());
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
@@ -214,7 +311,10 @@ public class HttpServerOptionsConverter {
     }
     json.put("http2ClearTextEnabled", obj.isHttp2ClearTextEnabled());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
+    json.put("http2AdaptiveWindowSize", obj.isHttp2AdaptiveWindowSize());
+    json.put("http2MaxAdaptiveWindowSize", obj.getHttp2MaxAdaptiveWindowSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
+    json.put("precompressedFilesSupported", obj.isPrecompressedFilesSupported());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
@@ -231,5 +331,24 @@ public class HttpServerOptionsConverter {
     if (obj.getHttp2RstFloodWindowDurationTimeUnit() != null) {
       json.put("http2RstFloodWindowDurationTimeUnit", obj.getHttp2RstFloodWindowDurationTimeUnit().name());
     }
+    if (obj.getSendFileCacheOptions() != null) {
+      json.put("sendFileCacheOptions", obj.getSendFileCacheOptions().toJson());
+    }
+    if (obj.getCompressedResponseCacheOptions() != null) {
+      json.put("compressedResponseCacheOptions", obj.getCompressedResponseCacheOptions().toJson());
+    }
+    json.put("sendDateHeader", obj.isSendDateHeader());
+    if (obj.getServerHeader() != null) {
+      json.put("serverHeader", obj.getServerHeader());
+    }
+    if (obj.getBodyAggregationOptions() != null) {
+      json.put("bodyAggregationOptions", obj.getBodyAggregationOptions().toJson());
+    }
+    json.put("multipartStreamingEnabled", obj.isMultipartStreamingEnabled());
+    if (obj.getPreloadLinks() != null) {
+      JsonArray array = new JsonArray();
+      obj.getPreloadLinks().forEach(item -> array.add(item.toJson()));
+      json.put("preloadLinks", array);
+    }
   }
 }
@@ -43,6 +43,11 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "connectionSelectionPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setConnectionSelectionPolicy(io.vertx.core.http.ConnectionSelectionPolicy.valueOf((String)member.getValue()));
+          }
+          break;
       }
     }
   }
@@ -57,5 +62,8 @@ public class PoolOptionsConverter {
     json.put("cleanerPeriod", obj.getCleanerPeriod());
     json.put("eventLoopSize", obj.getEventLoopSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    if (obj.getConnectionSelectionPolicy() != null) {
+      json.put("connectionSelectionPolicy", obj.getConnectionSelectionPolicy().name());
+    }
   }
 }
@@ -0,0 +1,69 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.PreloadLink}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.PreloadLink} original class using Vert.x codegen.
+ */
+public class PreloadLinkConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PreloadLink obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "path":
+          if (member.getValue() instanceof String) {
+            obj.setPath((String)member.getValue());
+          }
+          break;
+        case "uri":
+          if (member.getValue() instanceof String) {
+            obj.setUri((String)member.getValue());
+          }
+          break;
+        case "as":
+          if (member.getValue() instanceof String) {
+            obj.setAs((String)member.getValue());
+          }
+          break;
+        case "type":
+          if (member.getValue() instanceof String) {
+            obj.setType((String)member.getValue());
+          }
+          break;
+        case "push":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPush((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(PreloadLink obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(PreloadLink obj, java.util.Map<String, Object> json) {
+    if (obj.getPath() != null) {
+      json.put("path", obj.getPath());
+    }
+    if (obj.getUri() != null) {
+      json.put("uri", obj.getUri());
+    }
+    if (obj.getAs() != null) {
+      json.put("as", obj.getAs());
+    }
+    if (obj.getType() != null) {
+      json.put("type", obj.getType());
+    }
+    json.put("push", obj.isPush());
+  }
+}
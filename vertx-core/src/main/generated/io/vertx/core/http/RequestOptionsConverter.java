@@ -53,6 +53,11 @@ public class RequestOptionsConverter {
             obj.setRoutingKey((String)member.getValue());
           }
           break;
+        case "hedged":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHedged((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -76,5 +81,6 @@ public class RequestOptionsConverter {
     if (obj.getRoutingKey() != null) {
       json.put("routingKey", obj.getRoutingKey());
     }
+    json.put("hedged", obj.isHedged());
   }
 }
@@ -0,0 +1,57 @@
+package io.vertx.core.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.shareddata.CacheOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.shareddata.CacheOptions} original class using Vert.x codegen.
+ */
+public class CacheOptionsConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CacheOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxWeight":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWeight(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "evictionPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setEvictionPolicy(io.vertx.core.shareddata.EvictionPolicy.valueOf((String)member.getValue()));
+          }
+          break;
+        case "ttl":
+          if (member.getValue() instanceof Number) {
+            obj.setTtl(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CacheOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CacheOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+    json.put("maxWeight", obj.getMaxWeight());
+    if (obj.getEvictionPolicy() != null) {
+      json.put("evictionPolicy", obj.getEvictionPolicy().name());
+    }
+    json.put("ttl", obj.getTtl());
+  }
+}
@@ -0,0 +1,37 @@
+package io.vertx.core.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.shareddata.CounterOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.shareddata.CounterOptions} original class using Vert.x codegen.
+ */
+public class CounterOptionsConverter {
+
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CounterOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "striped":
+          if (member.getValue() instanceof Boolean) {
+            obj.setStriped((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(CounterOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(CounterOptions obj, java.util.Map<String, Object> json) {
+    json.put("striped", obj.isStriped());
+  }
+}
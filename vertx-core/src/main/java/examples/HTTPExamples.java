@@ -1173,6 +1173,17 @@ public class HTTPExamples {
     webSocket.writeTextMessage(message);
   }
 
+  public void webSocketBroadcast(Vertx vertx, HttpServer server) {
+    ServerWebSocketGroup group = ServerWebSocketGroup.create(vertx);
+    server.webSocketHandler(webSocket -> {
+      group.add(webSocket);
+      webSocket.closeHandler(v -> group.remove(webSocket));
+    });
+
+    // Broadcast a message to all the connected WebSockets
+    vertx.setPeriodic(1000, id -> group.writeTextMessage("tick"));
+  }
+
   public void example56(WebSocket webSocket, Buffer buffer1, Buffer buffer2, Buffer buffer3) {
 
     WebSocketFrame frame1 = WebSocketFrame.binaryFrame(buffer1, false);
@@ -1444,6 +1455,24 @@ public class HTTPExamples {
     LoadBalancer loadBalancer = LoadBalancer.consistentHashing(10, LoadBalancer.POWER_OF_TWO_CHOICES);
   }
 
+  public static void hedgedRequest(Vertx vertx) {
+    HttpClientAgent client = vertx
+      .httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions()
+        .setPercentile(0.99)
+        .setBudgetRatio(0.05)))
+      .withLoadBalancer(LoadBalancer.ROUND_ROBIN)
+      .build();
+
+    client
+      .send(new RequestOptions()
+        .setHost("example.com")
+        .setURI("/test")
+        .setHedged(true), null)
+      .compose(HttpClientResponse::body)
+      .onSuccess(body -> System.out.println("Received " + body));
+  }
+
   public static void customLoadBalancingPolicy(Vertx vertx) {
     LoadBalancer loadBalancer = endpoints -> {
       // Returns an endpoint selector for the given endpoints
@@ -43,6 +43,31 @@ public class SharedDataExamples {
     Buffer buff = map2.get("eek");
   }
 
+  public void localCache(Vertx vertx) {
+    SharedData sharedData = vertx.sharedData();
+
+    LocalCache<String, Buffer> cache = sharedData.getLocalCache("mycache", new CacheOptions()
+      .setMaxSize(1000)
+      .setEvictionPolicy(EvictionPolicy.TINY_LFU)
+      .setTtl(60_000));
+
+    cache.put("eek", Buffer.buffer().appendInt(123));
+
+    // This entry expires after 5 seconds instead of one minute
+    cache.put("short-lived", Buffer.buffer().appendInt(456), 5_000);
+
+    Buffer buff = cache.get("eek");
+  }
+
+  public void localCacheWeight(Vertx vertx) {
+    SharedData sharedData = vertx.sharedData();
+
+    // The cache retains at most 16MB of buffers
+    LocalCache<String, Buffer> cache = sharedData.getLocalCache("mycache", new CacheOptions()
+      .setMaxWeight(16 * 1024 * 1024)
+      .setWeigher((String key, Buffer value) -> value.length()));
+  }
+
   public void asyncMap(Vertx vertx) {
     SharedData sharedData = vertx.sharedData();
 
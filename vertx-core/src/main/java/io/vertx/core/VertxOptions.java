@@ -122,6 +122,11 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_USE_DAEMON_THREAD = false;
 
+  /**
+   * The default value of lock-free task queue usage = {@code false}
+   */
+  public static final boolean DEFAULT_LOCK_FREE_TASK_QUEUE = false;
+
   private int eventLoopPoolSize = DEFAULT_EVENT_LOOP_POOL_SIZE;
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
   private int internalBlockingPoolSize = DEFAULT_INTERNAL_BLOCKING_POOL_SIZE;
@@ -144,6 +149,7 @@ public class VertxOptions {
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
   private boolean disableTCCL = DEFAULT_DISABLE_TCCL;
   private Boolean useDaemonThread = DEFAULT_USE_DAEMON_THREAD;
+  private boolean lockFreeTaskQueue = DEFAULT_LOCK_FREE_TASK_QUEUE;
 
   /**
    * Default constructor
@@ -179,6 +185,7 @@ public class VertxOptions {
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
     this.disableTCCL = other.disableTCCL;
     this.useDaemonThread = other.useDaemonThread;
+    this.lockFreeTaskQueue = other.lockFreeTaskQueue;
   }
 
   /**
@@ -679,6 +686,27 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether contexts order their tasks with a lock-free task queue
+   */
+  public boolean getLockFreeTaskQueue() {
+    return lockFreeTaskQueue;
+  }
+
+  /**
+   * Configures whether contexts order their tasks (e.g. worker tasks or ordered {@code executeBlocking} tasks) with a
+   * lock-free task queue instead of a task queue guarded by a monitor.
+   *
+   * The lock-free task queue reduces contention when many threads submit ordered tasks to the same context.
+   *
+   * @param lockFreeTaskQueue {@code true} to use a lock-free task queue
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setLockFreeTaskQueue(boolean lockFreeTaskQueue) {
+    this.lockFreeTaskQueue = lockFreeTaskQueue;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     VertxOptionsConverter.toJson(this, json);
@@ -710,6 +738,7 @@ public class VertxOptions {
         ", warningExceptionTime=" + warningExceptionTime +
         ", disableTCCL=" + disableTCCL +
         ", useDaemonThread=" + useDaemonThread +
+        ", lockFreeTaskQueue=" + lockFreeTaskQueue +
         '}';
   }
 }
@@ -61,11 +61,24 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = TimeUnit.SECONDS.toMillis(20);
 
+  /**
+   * The default value of cluster write batch max bytes = 0, which means write batching is disabled.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES = 0;
+
+  /**
+   * The default value of cluster write batch max linger = 0 µs, which means the batch is flushed at the end of the
+   * current event-loop task.
+   */
+  public static final long DEFAULT_CLUSTER_WRITE_BATCH_MAX_LINGER = 0L;
+
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
   private JsonObject clusterNodeMetadata;
+  private int clusterWriteBatchMaxBytes = DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES;
+  private long clusterWriteBatchMaxLinger = DEFAULT_CLUSTER_WRITE_BATCH_MAX_LINGER;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
@@ -143,6 +156,8 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
+    this.clusterWriteBatchMaxBytes = other.clusterWriteBatchMaxBytes;
+    this.clusterWriteBatchMaxLinger = other.clusterWriteBatchMaxLinger;
 
     this.port = other.port;
     this.host = other.host;
@@ -654,4 +669,55 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterNodeMetadata = clusterNodeMetadata;
     return this;
   }
+
+  /**
+   * @return the max number of bytes of a cluster write batch, {@code 0} when write batching is disabled
+   */
+  public int getClusterWriteBatchMaxBytes() {
+    return clusterWriteBatchMaxBytes;
+  }
+
+  /**
+   * Set the max number of bytes of a cluster write batch.
+   * <p>
+   * When set to a positive value, messages sent to a remote node are encoded in a single pooled buffer and written
+   * to the connection in batches instead of being written and flushed one by one. A batch is flushed when it reaches
+   * this size or when its linger time expires, see {@link #setClusterWriteBatchMaxLinger(long)}.
+   * <p>
+   * The default value is {@code 0} which disables write batching.
+   *
+   * @param clusterWriteBatchMaxBytes the max number of bytes of a batch
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxBytes(int clusterWriteBatchMaxBytes) {
+    if (clusterWriteBatchMaxBytes < 0) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxBytes must be >= 0");
+    }
+    this.clusterWriteBatchMaxBytes = clusterWriteBatchMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return the max time a cluster write batch waits for more messages, in µs
+   */
+  public long getClusterWriteBatchMaxLinger() {
+    return clusterWriteBatchMaxLinger;
+  }
+
+  /**
+   * Set the max time a cluster write batch waits for more messages before being flushed, in µs.
+   * <p>
+   * The default value is {@code 0} which flushes the batch at the end of the current event-loop task of the
+   * connection.
+   *
+   * @param clusterWriteBatchMaxLinger the max linger time, in µs
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxLinger(long clusterWriteBatchMaxLinger) {
+    if (clusterWriteBatchMaxLinger < 0) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxLinger must be >= 0");
+    }
+    this.clusterWriteBatchMaxLinger = clusterWriteBatchMaxLinger;
+    return this;
+  }
 }
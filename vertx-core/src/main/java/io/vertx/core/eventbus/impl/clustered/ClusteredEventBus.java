@@ -34,7 +34,6 @@ import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.NetClientBuilder;
-import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.NodeSelector;
@@ -287,35 +286,21 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
-      RecordParser parser = RecordParser.newFixed(4);
-      Handler<Buffer> handler = new Handler<Buffer>() {
-        int size = -1;
-
-        public void handle(Buffer buff) {
-          if (size == -1) {
-            size = buff.getInt(0);
-            parser.fixedSizeMode(size);
-          } else {
-            ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
-            received.readFromWire(buff, codecManager);
-            if (metrics != null) {
-              metrics.messageRead(received.address(), buff.length());
-            }
-            parser.fixedSizeMode(4);
-            size = -1;
-            if (received.hasFailure()) {
-              received.internalError();
-            } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
-            } else {
-              deliverMessageLocally(received);
-            }
-          }
+      socket.handler(new MessageFrameDecoder(buff -> {
+        ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
+        received.readFromWire(buff, codecManager);
+        if (metrics != null) {
+          metrics.messageRead(received.address(), buff.length());
+        }
+        if (received.hasFailure()) {
+          received.internalError();
+        } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+          // Just send back pong directly on connection
+          socket.write(PONG);
+        } else {
+          deliverMessageLocally(received);
         }
-      };
-      parser.setOutput(handler);
-      socket.handler(parser);
+      }));
     };
   }
 
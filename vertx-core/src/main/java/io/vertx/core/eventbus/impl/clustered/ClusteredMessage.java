@@ -11,9 +11,12 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.ReplyException;
@@ -41,6 +44,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private Buffer wireBuffer;
   private int bodyPos;
   private int headersPos;
+  private int senderPos;
   private boolean fromWire;
   private boolean toWire;
   private String failure;
@@ -62,6 +66,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       this.wireBuffer = other.wireBuffer;
       this.bodyPos = other.bodyPos;
       this.headersPos = other.headersPos;
+      this.senderPos = other.senderPos;
     }
     this.fromWire = other.fromWire;
   }
@@ -69,7 +74,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   @Override
   protected MessageImpl createReply(Object message, DeliveryOptions options) {
     ClusteredMessage reply = (ClusteredMessage) super.createReply(message, options);
-    reply.repliedTo = sender;
+    reply.repliedTo = getSender();
     return reply;
   }
 
@@ -108,9 +113,20 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   public Buffer encodeToWire() {
-    toWire = true;
     int length = 1024; // TODO make this configurable
     Buffer buffer = Buffer.buffer(length);
+    encodeToWire(buffer);
+    return buffer;
+  }
+
+  /**
+   * Append the wire representation of this message to the {@code buffer}.
+   *
+   * @param buffer the buffer to append to
+   */
+  public void encodeToWire(Buffer buffer) {
+    toWire = true;
+    int start = buffer.length();
     buffer.appendInt(0);
     buffer.appendByte(WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
@@ -126,11 +142,10 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     } else {
       buffer.appendInt(0);
     }
-    writeString(buffer, sender);
+    writeString(buffer, getSender());
     encodeHeaders(buffer);
     writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    buffer.setInt(start, buffer.length() - start - 4);
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
@@ -147,8 +162,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       // User codec
       int length = buffer.getInt(pos);
       pos += 4;
-      byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      String codecName = readString(buffer, pos, length);
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         setFailure("No message codec registered with name " + codecName);
@@ -162,21 +176,18 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     pos++;
     int length = buffer.getInt(pos);
     pos += 4;
-    byte[] bytes = buffer.getBytes(pos, pos + length);
-    address = new String(bytes, CharsetUtil.UTF_8);
+    address = readString(buffer, pos, length);
     pos += length;
     length = buffer.getInt(pos);
     pos += 4;
     if (length != 0) {
-      bytes = buffer.getBytes(pos, pos + length);
-      replyAddress = new String(bytes, CharsetUtil.UTF_8);
+      replyAddress = readString(buffer, pos, length);
       pos += length;
     }
+    // Lazily decode the sender, it is only needed when replying
+    senderPos = pos;
     length = buffer.getInt(pos);
-    pos += 4;
-    bytes = buffer.getBytes(pos, pos + length);
-    sender = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
+    pos += 4 + length;
     headersPos = pos;
     int headersLength = buffer.getInt(pos);
     pos += headersLength;
@@ -223,13 +234,11 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       for (int i = 0; i < numHeaders; i++) {
         int keyLength = wireBuffer.getInt(headersPos);
         headersPos += 4;
-        byte[] bytes = wireBuffer.getBytes(headersPos, headersPos + keyLength);
-        String key = new String(bytes, CharsetUtil.UTF_8);
+        String key = readString(wireBuffer, headersPos, keyLength);
         headersPos += keyLength;
         int valLength = wireBuffer.getInt(headersPos);
         headersPos += 4;
-        bytes = wireBuffer.getBytes(headersPos, headersPos + valLength);
-        String val = new String(bytes, CharsetUtil.UTF_8);
+        String val = readString(wireBuffer, headersPos, valLength);
         headersPos += valLength;
         headers.add(key, val);
       }
@@ -242,12 +251,35 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   private void writeString(Buffer buff, String str) {
-    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
-    buff.appendInt(strBytes.length);
-    buff.appendBytes(strBytes);
+    if (buff instanceof BufferImpl) {
+      // Encode the string in place
+      ByteBuf byteBuf = ((BufferImpl) buff).byteBuf();
+      int lengthPos = byteBuf.writerIndex();
+      byteBuf.writeInt(0);
+      int length = ByteBufUtil.writeUtf8(byteBuf, str);
+      byteBuf.setInt(lengthPos, length);
+    } else {
+      byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
+      buff.appendInt(strBytes.length);
+      buff.appendBytes(strBytes);
+    }
+  }
+
+  private static String readString(Buffer buff, int pos, int length) {
+    if (buff instanceof BufferImpl) {
+      // Decode the string from the buffer without an intermediate copy
+      return ((BufferImpl) buff).byteBuf().toString(pos, length, CharsetUtil.UTF_8);
+    } else {
+      return buff.getString(pos, pos + length);
+    }
   }
 
   String getSender() {
+    if (senderPos != 0) {
+      int length = wireBuffer.getInt(senderPos);
+      sender = readString(wireBuffer, senderPos + 4, length);
+      senderPos = 0;
+    }
     return sender;
   }
 
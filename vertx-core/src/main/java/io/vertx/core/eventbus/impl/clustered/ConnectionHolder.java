@@ -11,21 +11,28 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.impl.MessageImpl;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.internal.net.NetSocketInternal;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -40,6 +47,8 @@ class ConnectionHolder {
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics metrics;
+  private final int batchMaxBytes;
+  private final long batchMaxLinger;
 
   private Queue<MessageWrite> pendingWrites;
   private NetSocket socket;
@@ -47,11 +56,19 @@ class ConnectionHolder {
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
 
+  // Write batching state
+  private ByteBuf batch;
+  private Buffer batchBuffer;
+  private List<Promise<Void>> batchPromises;
+  private boolean batchFlushScheduled;
+
   ConnectionHolder(ClusteredEventBus eventBus, String remoteNodeId) {
     this.eventBus = eventBus;
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.batchMaxBytes = eventBus.options().getClusterWriteBatchMaxBytes();
+    this.batchMaxLinger = eventBus.options().getClusterWriteBatchMaxLinger();
   }
 
   void connect() {
@@ -72,11 +89,11 @@ class ConnectionHolder {
   // TODO optimise this (contention on monitor)
   synchronized void writeMessage(MessageImpl<?, ?> message, Promise<Void> writePromise) {
     if (connected) {
-      Buffer data = ((ClusteredMessage) message).encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(message.address(), data.length());
+      if (batchMaxBytes > 0) {
+        batchMessage((ClusteredMessage<?, ?>) message, writePromise);
+      } else {
+        writeToSocket((ClusteredMessage<?, ?>) message, writePromise);
       }
-      socket.write(data).onComplete(writePromise);
     } else {
       if (pendingWrites == null) {
         if (log.isDebugEnabled()) {
@@ -88,6 +105,82 @@ class ConnectionHolder {
     }
   }
 
+  /**
+   * Encode the message in a pooled buffer of the connection and write it.
+   */
+  private void writeToSocket(ClusteredMessage<?, ?> message, Promise<Void> writePromise) {
+    ByteBuf data = ((NetSocketInternal) socket).channelHandlerContext().alloc().directBuffer();
+    try {
+      message.encodeToWire(BufferInternal.buffer(data));
+    } catch (Throwable t) {
+      data.release();
+      throw t;
+    }
+    if (metrics != null) {
+      metrics.messageWritten(message.address(), data.readableBytes());
+    }
+    ((NetSocketInternal) socket).writeMessage(data).onComplete(writePromise);
+  }
+
+  /**
+   * Encode the message in the current batch, the batch is flushed when it reaches the max batch size
+   * or when the scheduled flush happens on the connection event-loop.
+   */
+  private void batchMessage(ClusteredMessage<?, ?> message, Promise<Void> writePromise) {
+    if (batch == null) {
+      ChannelHandlerContext chctx = ((NetSocketInternal) socket).channelHandlerContext();
+      batch = chctx.alloc().directBuffer(Math.min(batchMaxBytes, 1024));
+      batchBuffer = BufferInternal.buffer(batch);
+      batchPromises = new ArrayList<>();
+    }
+    int start = batch.writerIndex();
+    try {
+      message.encodeToWire(batchBuffer);
+    } catch (Throwable t) {
+      // Discard the partially encoded message
+      batch.writerIndex(start);
+      throw t;
+    }
+    if (metrics != null) {
+      metrics.messageWritten(message.address(), batch.writerIndex() - start);
+    }
+    batchPromises.add(writePromise);
+    if (batch.readableBytes() >= batchMaxBytes) {
+      flushBatch();
+    } else if (!batchFlushScheduled) {
+      batchFlushScheduled = true;
+      ChannelHandlerContext chctx = ((NetSocketInternal) socket).channelHandlerContext();
+      if (batchMaxLinger > 0) {
+        chctx.executor().schedule(this::scheduledFlush, batchMaxLinger, TimeUnit.MICROSECONDS);
+      } else {
+        chctx.executor().execute(this::scheduledFlush);
+      }
+    }
+  }
+
+  private synchronized void scheduledFlush() {
+    batchFlushScheduled = false;
+    if (batch != null) {
+      flushBatch();
+    }
+  }
+
+  private void flushBatch() {
+    ByteBuf data = batch;
+    List<Promise<Void>> promises = batchPromises;
+    batch = null;
+    batchBuffer = null;
+    batchPromises = null;
+    if (metrics != null) {
+      metrics.messageBatchWritten(remoteNodeId, promises.size(), data.readableBytes());
+    }
+    ((NetSocketInternal) socket).writeMessage(data).onComplete(ar -> {
+      for (Promise<Void> promise : promises) {
+        promise.handle(ar);
+      }
+    });
+  }
+
   void close() {
     close(ConnectionBase.CLOSED_EXCEPTION);
   }
@@ -106,6 +199,15 @@ class ConnectionHolder {
           msg.writePromise.tryFail(cause);
         }
       }
+      if (batch != null) {
+        batch.release();
+        for (Promise<Void> promise : batchPromises) {
+          promise.tryFail(cause);
+        }
+        batch = null;
+        batchBuffer = null;
+        batchPromises = null;
+      }
     }
     // The holder can be null or different if the target server is restarted with same nodeInfo
     // before the cleanup for the previous one has been processed
@@ -151,11 +253,11 @@ class ConnectionHolder {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
       for (MessageWrite ctx : pendingWrites) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
+        if (batchMaxBytes > 0) {
+          batchMessage((ClusteredMessage<?, ?>) ctx.message, ctx.writePromise);
+        } else {
+          writeToSocket((ClusteredMessage<?, ?>) ctx.message, ctx.writePromise);
         }
-        socket.write(data).onComplete(ctx.writePromise);
       }
     }
     pendingWrites = null;
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Decodes the length prefixed message frames of the clustered event bus.
+ *
+ * <p>Frames are emitted as slices of the received buffers, so they are not copied. A frame spanning several
+ * received buffers is accumulated in a single growing buffer, which is compacted only once a frame has been
+ * consumed.</p>
+ */
+class MessageFrameDecoder implements Handler<Buffer> {
+
+  private final Handler<Buffer> frameHandler;
+  private Buffer pending;
+
+  MessageFrameDecoder(Handler<Buffer> frameHandler) {
+    this.frameHandler = frameHandler;
+  }
+
+  @Override
+  public void handle(Buffer buff) {
+    if (pending != null) {
+      buff = pending.appendBuffer(buff);
+    }
+    int len = buff.length();
+    int pos = 0;
+    while (len - pos >= 4) {
+      int size = buff.getInt(pos);
+      int end = pos + 4 + size;
+      if (end > len) {
+        break;
+      }
+      frameHandler.handle(buff.slice(pos + 4, end));
+      pos = end;
+    }
+    if (pos == len) {
+      pending = null;
+    } else if (pos > 0 || pending == null) {
+      // Copy the incomplete frame, emitted frames may still use the buffer
+      pending = Buffer.buffer(len - pos).appendBuffer(buff, pos, len - pos);
+    }
+  }
+}
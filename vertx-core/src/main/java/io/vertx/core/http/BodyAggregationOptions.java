@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring the aggregation of the request bodies by {@link HttpServerRequest#body()}.
+ *
+ * <p> The chunks of a body larger than the {@link #setCopyThreshold(int) copy threshold} are not copied into a
+ * contiguous buffer, they are retained and exposed as a single composite buffer. Decoding such a body, e.g. with
+ * {@link io.vertx.core.buffer.Buffer#toJsonObject()}, reads the chunks in place.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class BodyAggregationOptions {
+
+  /**
+   * The default maximum number of bytes of an aggregated body = {@code -1} (unlimited)
+   */
+  public static final long DEFAULT_MAX_SIZE = -1L;
+
+  /**
+   * The default number of bytes under which an aggregated body is copied into a contiguous buffer = 8 KiB
+   */
+  public static final int DEFAULT_COPY_THRESHOLD = 8 * 1024;
+
+  private long maxSize;
+  private int copyThreshold;
+
+  /**
+   * Default constructor
+   */
+  public BodyAggregationOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    copyThreshold = DEFAULT_COPY_THRESHOLD;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public BodyAggregationOptions(BodyAggregationOptions other) {
+    this.maxSize = other.maxSize;
+    this.copyThreshold = other.copyThreshold;
+  }
+
+  /**
+   * Constructor to create an options from JSON
+   *
+   * @param json  the JSON
+   */
+  public BodyAggregationOptions(JsonObject json) {
+    this();
+    BodyAggregationOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of bytes of an aggregated body
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of bytes of an aggregated body, the body future of a larger request is failed with a
+   * {@link io.netty.handler.codec.http.TooLongHttpContentException}. The value {@code -1} does not limit the size.
+   *
+   * @param maxSize the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BodyAggregationOptions setMaxSize(long maxSize) {
+    if (maxSize < -1) {
+      throw new IllegalArgumentException("maxSize must be >= -1");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the number of bytes under which an aggregated body is copied into a contiguous buffer
+   */
+  public int getCopyThreshold() {
+    return copyThreshold;
+  }
+
+  /**
+   * Set the number of bytes under which the chunks of an aggregated body are copied into a contiguous buffer, larger
+   * bodies are exposed as a composite buffer of their chunks.
+   *
+   * @param copyThreshold the number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BodyAggregationOptions setCopyThreshold(int copyThreshold) {
+    if (copyThreshold < 0) {
+      throw new IllegalArgumentException("copyThreshold must be >= 0");
+    }
+    this.copyThreshold = copyThreshold;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    BodyAggregationOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring the cache of the compressed response bodies of an HTTP server.
+ *
+ * <p> The cache maps a response body and a content encoding to the compressed body, a body sent repeatedly, e.g. a
+ * static asset or a rarely changing JSON document, is compressed once instead of once per response. A body is admitted
+ * the second time it is sent, only gzip and deflate bodies are cached.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class CompressedResponseCacheOptions {
+
+  /**
+   * The default maximum number of bytes of the cached bodies = 16 MiB
+   */
+  public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * The default maximum number of bytes of a cached body = 64 KiB
+   */
+  public static final int DEFAULT_MAX_ENTRY_SIZE = 64 * 1024;
+
+  private long maxSize;
+  private int maxEntrySize;
+
+  /**
+   * Default constructor
+   */
+  public CompressedResponseCacheOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public CompressedResponseCacheOptions(CompressedResponseCacheOptions other) {
+    this.maxSize = other.maxSize;
+    this.maxEntrySize = other.maxEntrySize;
+  }
+
+  /**
+   * Constructor to create an options from JSON
+   *
+   * @param json  the JSON
+   */
+  public CompressedResponseCacheOptions(JsonObject json) {
+    this();
+    CompressedResponseCacheOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of bytes of the cached bodies
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of bytes of the cached bodies, counting both the original and the compressed bodies. The
+   * least recently sent bodies are evicted when a new body makes the cache exceed this size.
+   *
+   * @param maxSize the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CompressedResponseCacheOptions setMaxSize(long maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be > 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes of a cached body
+   */
+  public int getMaxEntrySize() {
+    return maxEntrySize;
+  }
+
+  /**
+   * Set the maximum number of bytes of a cached body before compression, larger bodies are compressed on each
+   * response.
+   *
+   * @param maxEntrySize the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CompressedResponseCacheOptions setMaxEntrySize(int maxEntrySize) {
+    if (maxEntrySize < 1) {
+      throw new IllegalArgumentException("maxEntrySize must be > 0");
+    }
+    this.maxEntrySize = maxEntrySize;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    CompressedResponseCacheOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
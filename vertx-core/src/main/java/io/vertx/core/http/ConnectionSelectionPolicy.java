@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy choosing the pooled connection a request is sent on when several connections can accept it.
+ */
+@VertxGen
+public enum ConnectionSelectionPolicy {
+
+  /**
+   * The connection that received a response most recently, this keeps the number of active connections low.
+   *
+   * <p> When HTTP/1.1 pipelining is enabled, a request is instead scheduled on the connection with the lowest expected
+   * completion time, based on the number of requests pipelined on the connection and its latency.
+   */
+  LIFO,
+
+  /**
+   * The connection with the fewest in-flight requests, this spreads the HTTP/2 streams over the connections.
+   */
+  LEAST_IN_FLIGHT,
+
+  /**
+   * The least loaded connection of two connections chosen at random, this avoids herding requests on a connection
+   * when its load is not up-to-date.
+   */
+  POWER_OF_TWO_CHOICES,
+
+  /**
+   * The connection with the lowest exponentially weighted moving average of its request latency, weighted by its number
+   * of in-flight requests.
+   */
+  LEAST_LATENCY
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring how a client hedges the {@link RequestOptions#setHedged(boolean) hedged} requests.
+ * <p>
+ * A hedged request is sent a second time, to another server when the client load balances requests, when its
+ * response has not been received after a delay. The delay is the {@link #setPercentile(double) percentile} of the
+ * response times of the client, the first response received wins and the other request is reset.
+ * <p>
+ * Second attempts are limited by a retry budget: each request adds {@link #setBudgetRatio(double) a fraction of
+ * a token} to a bucket of {@link #setBudgetCapacity(int) capacity} tokens, and each second attempt takes a token.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class HedgingOptions {
+
+  /**
+   * The default percentile of the response times = 0.95
+   */
+  public static final double DEFAULT_PERCENTILE = 0.95;
+
+  /**
+   * The default delay before the second attempt until enough response times are known = 100 milliseconds
+   */
+  public static final long DEFAULT_DELAY = 100L;
+
+  /**
+   * The default fraction of a token added to the retry budget by each request = 0.1
+   */
+  public static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+  /**
+   * The default capacity of the retry budget = 10 tokens
+   */
+  public static final int DEFAULT_BUDGET_CAPACITY = 10;
+
+  private double percentile;
+  private long delay;
+  private double budgetRatio;
+  private int budgetCapacity;
+
+  /**
+   * Default constructor
+   */
+  public HedgingOptions() {
+    percentile = DEFAULT_PERCENTILE;
+    delay = DEFAULT_DELAY;
+    budgetRatio = DEFAULT_BUDGET_RATIO;
+    budgetCapacity = DEFAULT_BUDGET_CAPACITY;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public HedgingOptions(HedgingOptions other) {
+    this.percentile = other.percentile;
+    this.delay = other.delay;
+    this.budgetRatio = other.budgetRatio;
+    this.budgetCapacity = other.budgetCapacity;
+  }
+
+  /**
+   * Constructor to create options from JSON
+   *
+   * @param json  the JSON
+   */
+  public HedgingOptions(JsonObject json) {
+    this();
+    HedgingOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the percentile of the response times after which a second attempt is sent
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Set the percentile of the response times after which a second attempt is sent, e.g. {@code 0.95}.
+   *
+   * @param percentile the percentile, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setPercentile(double percentile) {
+    Arguments.require(percentile > 0 && percentile < 1, "percentile must be between 0 and 1");
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * @return the delay in milliseconds before a second attempt is sent until enough response times are known
+   */
+  public long getDelay() {
+    return delay;
+  }
+
+  /**
+   * Set the delay in milliseconds before a second attempt is sent, until the client knows enough response times to
+   * compute the {@link #setPercentile(double) percentile}.
+   *
+   * @param delay the delay
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setDelay(long delay) {
+    Arguments.require(delay > 0, "delay must be > 0");
+    this.delay = delay;
+    return this;
+  }
+
+  /**
+   * @return the fraction of a token added to the retry budget by each request
+   */
+  public double getBudgetRatio() {
+    return budgetRatio;
+  }
+
+  /**
+   * Set the fraction of a token added to the retry budget by each request, e.g. {@code 0.1} sends at most a second
+   * attempt for ten requests once the budget is exhausted.
+   *
+   * @param budgetRatio the ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setBudgetRatio(double budgetRatio) {
+    Arguments.require(budgetRatio >= 0, "budgetRatio must be >= 0");
+    this.budgetRatio = budgetRatio;
+    return this;
+  }
+
+  /**
+   * @return the capacity of the retry budget in tokens
+   */
+  public int getBudgetCapacity() {
+    return budgetCapacity;
+  }
+
+  /**
+   * Set the capacity of the retry budget in tokens, the budget is initially full.
+   *
+   * @param budgetCapacity the capacity
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setBudgetCapacity(int budgetCapacity) {
+    Arguments.require(budgetCapacity >= 0, "budgetCapacity must be >= 0");
+    this.budgetCapacity = budgetCapacity;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    HedgingOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
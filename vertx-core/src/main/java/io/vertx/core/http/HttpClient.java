@@ -11,8 +11,10 @@
 
 package io.vertx.core.http;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +43,22 @@ public interface HttpClient {
    */
   Future<HttpClientRequest> request(RequestOptions options);
 
+  /**
+   * Send an HTTP request with a {@code body} to the server, a {@link RequestOptions#setHedged(boolean) hedged}
+   * request might be sent twice and the first response received wins.
+   *
+   * @implSpec
+   * The default implementation creates a request with {@link #request(RequestOptions)} and sends it, it does not
+   * hedge requests.
+   *
+   * @param options    the request options
+   * @param body       the request body, {@code null} for no body
+   * @return a future notified with the response
+   */
+  default Future<HttpClientResponse> send(RequestOptions options, @Nullable Buffer body) {
+    return request(options).compose(request -> body != null ? request.send(body) : request.send());
+  }
+
   /**
    * Create an HTTP request to send to the server at the {@code host} and {@code port}.
    *
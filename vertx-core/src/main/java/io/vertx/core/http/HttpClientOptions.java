@@ -11,6 +11,7 @@
 
 package io.vertx.core.http;
 
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.logging.ByteBufFormat;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.json.annotations.JsonGen;
@@ -42,6 +43,16 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE = -1;
 
+  /**
+   * Default value of whether the HTTP/2 window sizes are adapted to the bandwidth-delay product = {@code false}
+   */
+  public static final boolean DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE = false;
+
+  /**
+   * The default maximum HTTP/2 window size reached by adaptive window sizing = 16 MiB
+   */
+  public static final int DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE = 16 * 1024 * 1024;
+
   /**
    * The default keep alive timeout for HTTP/2 connection can send = 60 seconds
    */
@@ -159,6 +170,8 @@ public class HttpClientOptions extends ClientOptionsBase {
   private boolean pipelining;
   private int http2MultiplexingLimit;
   private int http2ConnectionWindowSize;
+  private boolean http2AdaptiveWindowSize;
+  private int http2MaxAdaptiveWindowSize;
   private int http2KeepAliveTimeout;
 
   private boolean decompressionSupported;
@@ -177,6 +190,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int decoderInitialBufferSize;
 
   private TracingPolicy tracingPolicy;
+  private HedgingOptions hedgingOptions;
 
   private boolean shared;
   private String name;
@@ -213,6 +227,8 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.pipeliningLimit = other.getPipeliningLimit();
     this.http2MultiplexingLimit = other.http2MultiplexingLimit;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
+    this.http2AdaptiveWindowSize = other.http2AdaptiveWindowSize;
+    this.http2MaxAdaptiveWindowSize = other.http2MaxAdaptiveWindowSize;
     this.http2KeepAliveTimeout = other.getHttp2KeepAliveTimeout();
     this.decompressionSupported = other.decompressionSupported;
     this.defaultHost = other.defaultHost;
@@ -229,6 +245,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.tracingPolicy = other.tracingPolicy;
+    this.hedgingOptions = other.hedgingOptions != null ? new HedgingOptions(other.hedgingOptions) : null;
     this.shared = other.shared;
     this.name = other.name;
   }
@@ -263,6 +280,8 @@ public class HttpClientOptions extends ClientOptionsBase {
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
     http2MultiplexingLimit = DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+    http2AdaptiveWindowSize = DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE;
+    http2MaxAdaptiveWindowSize = DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE;
     http2KeepAliveTimeout = DEFAULT_HTTP2_KEEP_ALIVE_TIMEOUT;
     decompressionSupported = DEFAULT_DECOMPRESSION_SUPPORTED;
     defaultHost = DEFAULT_DEFAULT_HOST;
@@ -279,6 +298,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     forceSni = DEFAULT_FORCE_SNI;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
     tracingPolicy = DEFAULT_TRACING_POLICY;
+    hedgingOptions = new HedgingOptions();
     shared = DEFAULT_SHARED;
     name = DEFAULT_NAME;
   }
@@ -505,6 +525,49 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/2 window sizes are adapted to the bandwidth-delay product
+   */
+  public boolean isHttp2AdaptiveWindowSize() {
+    return http2AdaptiveWindowSize;
+  }
+
+  /**
+   * Set whether the HTTP/2 window sizes are adapted to the bandwidth-delay product of the connections.
+   * <p/>
+   * When enabled, a {@code PING} frame is sent along the received data to sample the round-trip time and the bytes
+   * received during it. When a sample reaches two thirds of the current window, the connection window and the initial
+   * window of the streams are doubled, up to {@link #setHttp2MaxAdaptiveWindowSize(int)}. The windows never shrink.
+   *
+   * @param http2AdaptiveWindowSize whether to adapt the window sizes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHttp2AdaptiveWindowSize(boolean http2AdaptiveWindowSize) {
+    this.http2AdaptiveWindowSize = http2AdaptiveWindowSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum HTTP/2 window size reached by adaptive window sizing
+   */
+  public int getHttp2MaxAdaptiveWindowSize() {
+    return http2MaxAdaptiveWindowSize;
+  }
+
+  /**
+   * Set the maximum HTTP/2 window size reached by adaptive window sizing, it bounds the memory buffered by a connection.
+   *
+   * @param http2MaxAdaptiveWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHttp2MaxAdaptiveWindowSize(int http2MaxAdaptiveWindowSize) {
+    if (http2MaxAdaptiveWindowSize < Http2CodecUtil.DEFAULT_WINDOW_SIZE || http2MaxAdaptiveWindowSize > Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE) {
+      throw new IllegalArgumentException("http2MaxAdaptiveWindowSize must be between " + Http2CodecUtil.DEFAULT_WINDOW_SIZE + " and " + Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE);
+    }
+    this.http2MaxAdaptiveWindowSize = http2MaxAdaptiveWindowSize;
+    return this;
+  }
+
   /**
    * @return the keep alive timeout value in seconds for HTTP/2 connections
    */
@@ -966,6 +1029,24 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the options configuring how the client hedges the requests
+   */
+  public HedgingOptions getHedgingOptions() {
+    return hedgingOptions;
+  }
+
+  /**
+   * Set the options configuring how the client hedges the {@link RequestOptions#setHedged(boolean) hedged} requests.
+   *
+   * @param hedgingOptions the hedging options
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgingOptions(HedgingOptions hedgingOptions) {
+    this.hedgingOptions = hedgingOptions;
+    return this;
+  }
+
   /**
    * @return whether the pool is shared
    */
@@ -12,6 +12,7 @@
 package io.vertx.core.http;
 
 import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.logging.ByteBufFormat;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.GenIgnore;
@@ -60,6 +61,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_COMPRESSION_LEVEL = 6;
 
+  /**
+   * Default minimum size of a compressed response body = 0
+   */
+  public static final int DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD = 0;
+
+  /**
+   * Default number of pending event loop tasks above which responses are compressed with the fastest level = 0 (disabled)
+   */
+  public static final int DEFAULT_COMPRESSION_SATURATION_THRESHOLD = 0;
+
   /**
    * Default max WebSocket frame size = 65536
    */
@@ -126,11 +137,41 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE = -1;
 
+  /**
+   * Default value of whether the HTTP/2 window sizes are adapted to the bandwidth-delay product = {@code false}
+   */
+  public static final boolean DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE = false;
+
+  /**
+   * The default maximum HTTP/2 window size reached by adaptive window sizing = 16 MiB
+   */
+  public static final int DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE = 16 * 1024 * 1024;
+
   /**
    * Default value of whether decompression is supported = {@code false}
    */
   public static final boolean DEFAULT_DECOMPRESSION_SUPPORTED = false;
 
+  /**
+   * Default value of whether precompressed files are supported = {@code false}
+   */
+  public static final boolean DEFAULT_PRECOMPRESSED_FILES_SUPPORTED = false;
+
+  /**
+   * Default value of whether the server sends a {@code Date} header = {@code false}
+   */
+  public static final boolean DEFAULT_SEND_DATE_HEADER = false;
+
+  /**
+   * Default value of the {@code Server} header = {@code null}
+   */
+  public static final String DEFAULT_SERVER_HEADER = null;
+
+  /**
+   * Default value of whether multipart requests are decoded in streaming mode = {@code false}
+   */
+  public static final boolean DEFAULT_MULTIPART_STREAMING_ENABLED = false;
+
   /**
    * Default WebSocket Masked bit is true as depicted by RFC = {@code false}
    */
@@ -199,6 +240,10 @@ public class HttpServerOptions extends NetServerOptions {
   private boolean compressionSupported;
   private int compressionLevel;
   private List<CompressionOptions> compressors;
+  private int compressionContentSizeThreshold;
+  private List<String> compressionContentTypes;
+  private List<String> compressionExcludedContentTypes;
+  private int compressionSaturationThreshold;
   private int maxWebSocketFrameSize;
   private int maxWebSocketMessageSize;
   private List<String> webSocketSubProtocols;
@@ -213,6 +258,8 @@ public class HttpServerOptions extends NetServerOptions {
   private List<HttpVersion> alpnVersions;
   private boolean http2ClearTextEnabled;
   private int http2ConnectionWindowSize;
+  private boolean http2AdaptiveWindowSize;
+  private int http2MaxAdaptiveWindowSize;
   private boolean decompressionSupported;
   private boolean acceptUnmaskedFrames;
   private int decoderInitialBufferSize;
@@ -227,6 +274,14 @@ public class HttpServerOptions extends NetServerOptions {
   private int http2RstFloodMaxRstFramePerWindow;
   private int http2RstFloodWindowDuration;
   private TimeUnit http2RstFloodWindowDurationTimeUnit;
+  private SendFileCacheOptions sendFileCacheOptions;
+  private boolean precompressedFilesSupported;
+  private CompressedResponseCacheOptions compressedResponseCacheOptions;
+  private boolean sendDateHeader;
+  private String serverHeader;
+  private BodyAggregationOptions bodyAggregationOptions;
+  private boolean multipartStreamingEnabled;
+  private List<PreloadLink> preloadLinks;
 
   /**
    * Default constructor
@@ -247,6 +302,10 @@ public class HttpServerOptions extends NetServerOptions {
     this.compressionSupported = other.isCompressionSupported();
     this.compressionLevel = other.getCompressionLevel();
     this.compressors = other.compressors != null ? new ArrayList<>(other.compressors) : null;
+    this.compressionContentSizeThreshold = other.compressionContentSizeThreshold;
+    this.compressionContentTypes = other.compressionContentTypes != null ? new ArrayList<>(other.compressionContentTypes) : null;
+    this.compressionExcludedContentTypes = other.compressionExcludedContentTypes != null ? new ArrayList<>(other.compressionExcludedContentTypes) : null;
+    this.compressionSaturationThreshold = other.compressionSaturationThreshold;
     this.maxWebSocketFrameSize = other.maxWebSocketFrameSize;
     this.maxWebSocketMessageSize = other.maxWebSocketMessageSize;
     this.webSocketSubProtocols = other.webSocketSubProtocols != null ? new ArrayList<>(other.webSocketSubProtocols) : null;
@@ -261,6 +320,8 @@ public class HttpServerOptions extends NetServerOptions {
     this.alpnVersions = other.alpnVersions != null ? new ArrayList<>(other.alpnVersions) : null;
     this.http2ClearTextEnabled = other.http2ClearTextEnabled;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
+    this.http2AdaptiveWindowSize = other.http2AdaptiveWindowSize;
+    this.http2MaxAdaptiveWindowSize = other.http2MaxAdaptiveWindowSize;
     this.decompressionSupported = other.isDecompressionSupported();
     this.acceptUnmaskedFrames = other.isAcceptUnmaskedFrames();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
@@ -275,6 +336,19 @@ public class HttpServerOptions extends NetServerOptions {
     this.http2RstFloodMaxRstFramePerWindow = other.http2RstFloodMaxRstFramePerWindow;
     this.http2RstFloodWindowDuration = other.http2RstFloodWindowDuration;
     this.http2RstFloodWindowDurationTimeUnit = other.http2RstFloodWindowDurationTimeUnit;
+    this.sendFileCacheOptions = other.sendFileCacheOptions != null ? new SendFileCacheOptions(other.sendFileCacheOptions) : null;
+    this.precompressedFilesSupported = other.precompressedFilesSupported;
+    this.compressedResponseCacheOptions = other.compressedResponseCacheOptions != null ? new CompressedResponseCacheOptions(other.compressedResponseCacheOptions) : null;
+    this.sendDateHeader = other.sendDateHeader;
+    this.serverHeader = other.serverHeader;
+    this.bodyAggregationOptions = other.bodyAggregationOptions != null ? new BodyAggregationOptions(other.bodyAggregationOptions) : null;
+    this.multipartStreamingEnabled = other.multipartStreamingEnabled;
+    if (other.preloadLinks != null) {
+      this.preloadLinks = new ArrayList<>(other.preloadLinks.size());
+      for (PreloadLink link : other.preloadLinks) {
+        this.preloadLinks.add(new PreloadLink(link));
+      }
+    }
   }
 
   /**
@@ -303,6 +377,8 @@ public class HttpServerOptions extends NetServerOptions {
   private void init() {
     compressionSupported = DEFAULT_COMPRESSION_SUPPORTED;
     compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    compressionContentSizeThreshold = DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD;
+    compressionSaturationThreshold = DEFAULT_COMPRESSION_SATURATION_THRESHOLD;
     maxWebSocketFrameSize = DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
     maxWebSocketMessageSize = DEFAULT_MAX_WEBSOCKET_MESSAGE_SIZE;
     handle100ContinueAutomatically = DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
@@ -316,7 +392,10 @@ public class HttpServerOptions extends NetServerOptions {
     alpnVersions = new ArrayList<>(DEFAULT_ALPN_VERSIONS);
     http2ClearTextEnabled = DEFAULT_HTTP2_CLEAR_TEXT_ENABLED;
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+    http2AdaptiveWindowSize = DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE;
+    http2MaxAdaptiveWindowSize = DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE;
     decompressionSupported = DEFAULT_DECOMPRESSION_SUPPORTED;
+    precompressedFilesSupported = DEFAULT_PRECOMPRESSED_FILES_SUPPORTED;
     acceptUnmaskedFrames = DEFAULT_ACCEPT_UNMASKED_FRAMES;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
     perFrameWebSocketCompressionSupported = DEFAULT_PER_FRAME_WEBSOCKET_COMPRESSION_SUPPORTED;
@@ -330,6 +409,9 @@ public class HttpServerOptions extends NetServerOptions {
     http2RstFloodMaxRstFramePerWindow = DEFAULT_HTTP2_RST_FLOOD_MAX_RST_FRAME_PER_WINDOW;
     http2RstFloodWindowDuration = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION;
     http2RstFloodWindowDurationTimeUnit = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION_TIME_UNIT;
+    sendDateHeader = DEFAULT_SEND_DATE_HEADER;
+    serverHeader = DEFAULT_SERVER_HEADER;
+    multipartStreamingEnabled = DEFAULT_MULTIPART_STREAMING_ENABLED;
   }
 
   /**
@@ -625,6 +707,123 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the minimum size of a compressed response body
+   */
+  public int getCompressionContentSizeThreshold() {
+    return compressionContentSizeThreshold;
+  }
+
+  /**
+   * Set the minimum size of a compressed response body, a smaller body is sent uncompressed since compressing it
+   * costs more than it saves.
+   *
+   * <p> The size of a body is known when the response is sent in one go or declares its {@code Content-Length}, a
+   * chunked response is always compressed.
+   *
+   * @param compressionContentSizeThreshold the minimum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionContentSizeThreshold(int compressionContentSizeThreshold) {
+    if (compressionContentSizeThreshold < 0) {
+      throw new IllegalArgumentException("compressionContentSizeThreshold must be >= 0");
+    }
+    this.compressionContentSizeThreshold = compressionContentSizeThreshold;
+    return this;
+  }
+
+  /**
+   * @return the content types of the compressed responses
+   */
+  public List<String> getCompressionContentTypes() {
+    return compressionContentTypes;
+  }
+
+  /**
+   * Add a content type to the compressed responses.
+   *
+   * @see #setCompressionContentTypes(List)
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addCompressionContentType(String contentType) {
+    if (compressionContentTypes == null) {
+      compressionContentTypes = new ArrayList<>();
+    }
+    compressionContentTypes.add(contentType);
+    return this;
+  }
+
+  /**
+   * Set the content types of the compressed responses, e.g. {@code text/*} or {@code application/json}, the responses
+   * of other content types are sent uncompressed. All the content types are compressed when this list is {@code null}
+   * or empty.
+   *
+   * @param compressionContentTypes the media types, a {@code type/*} value matches all the subtypes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionContentTypes(List<String> compressionContentTypes) {
+    this.compressionContentTypes = compressionContentTypes;
+    return this;
+  }
+
+  /**
+   * @return the content types of the responses never compressed
+   */
+  public List<String> getCompressionExcludedContentTypes() {
+    return compressionExcludedContentTypes;
+  }
+
+  /**
+   * Add a content type to the responses never compressed.
+   *
+   * @see #setCompressionExcludedContentTypes(List)
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addCompressionExcludedContentType(String contentType) {
+    if (compressionExcludedContentTypes == null) {
+      compressionExcludedContentTypes = new ArrayList<>();
+    }
+    compressionExcludedContentTypes.add(contentType);
+    return this;
+  }
+
+  /**
+   * Set the content types of the responses never compressed, typically already compressed payloads such as
+   * {@code image/*}, {@code video/*} or {@code application/x-protobuf}.
+   *
+   * @param compressionExcludedContentTypes the media types, a {@code type/*} value matches all the subtypes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionExcludedContentTypes(List<String> compressionExcludedContentTypes) {
+    this.compressionExcludedContentTypes = compressionExcludedContentTypes;
+    return this;
+  }
+
+  /**
+   * @return the number of pending event loop tasks above which the responses are compressed with the fastest level
+   */
+  public int getCompressionSaturationThreshold() {
+    return compressionSaturationThreshold;
+  }
+
+  /**
+   * Set the number of tasks pending on a connection event loop above which its HTTP/1.x responses are compressed with
+   * the fastest gzip/deflate level instead of the configured level: a saturated event loop trades compression ratio
+   * for latency.
+   *
+   * <p> The value {@code 0} disables this behavior.
+   *
+   * @param compressionSaturationThreshold the number of pending tasks
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionSaturationThreshold(int compressionSaturationThreshold) {
+    if (compressionSaturationThreshold < 0) {
+      throw new IllegalArgumentException("compressionSaturationThreshold must be >= 0");
+    }
+    this.compressionSaturationThreshold = compressionSaturationThreshold;
+    return this;
+  }
+
   public boolean isAcceptUnmaskedFrames() {
     return acceptUnmaskedFrames;
   }
@@ -912,6 +1111,49 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/2 window sizes are adapted to the bandwidth-delay product
+   */
+  public boolean isHttp2AdaptiveWindowSize() {
+    return http2AdaptiveWindowSize;
+  }
+
+  /**
+   * Set whether the HTTP/2 window sizes are adapted to the bandwidth-delay product of the connections.
+   * <p/>
+   * When enabled, a {@code PING} frame is sent along the received data to sample the round-trip time and the bytes
+   * received during it. When a sample reaches two thirds of the current window, the connection window and the initial
+   * window of the streams are doubled, up to {@link #setHttp2MaxAdaptiveWindowSize(int)}. The windows never shrink.
+   *
+   * @param http2AdaptiveWindowSize whether to adapt the window sizes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2AdaptiveWindowSize(boolean http2AdaptiveWindowSize) {
+    this.http2AdaptiveWindowSize = http2AdaptiveWindowSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum HTTP/2 window size reached by adaptive window sizing
+   */
+  public int getHttp2MaxAdaptiveWindowSize() {
+    return http2MaxAdaptiveWindowSize;
+  }
+
+  /**
+   * Set the maximum HTTP/2 window size reached by adaptive window sizing, it bounds the memory buffered by a connection.
+   *
+   * @param http2MaxAdaptiveWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2MaxAdaptiveWindowSize(int http2MaxAdaptiveWindowSize) {
+    if (http2MaxAdaptiveWindowSize < Http2CodecUtil.DEFAULT_WINDOW_SIZE || http2MaxAdaptiveWindowSize > Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE) {
+      throw new IllegalArgumentException("http2MaxAdaptiveWindowSize must be between " + Http2CodecUtil.DEFAULT_WINDOW_SIZE + " and " + Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE);
+    }
+    this.http2MaxAdaptiveWindowSize = http2MaxAdaptiveWindowSize;
+    return this;
+  }
+
   @Override
   public HttpServerOptions setLogActivity(boolean logEnabled) {
     return (HttpServerOptions) super.setLogActivity(logEnabled);
@@ -960,6 +1202,29 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return {@code true} if the server sends the precompressed siblings of the files
+   */
+  public boolean isPrecompressedFilesSupported() {
+    return precompressedFilesSupported;
+  }
+
+  /**
+   * Set whether {@link HttpServerResponse#sendFile(String)} sends the precompressed sibling of a file when the client
+   * accepts its encoding, e.g. {@code app.js.br}, {@code app.js.zst} or {@code app.js.gz} for {@code app.js}.
+   * <p/>
+   * A precompressed file is sent as is with a {@code Content-Encoding} header, it is not compressed again and can be
+   * transferred with zero-copy. Siblings are only considered when the whole file is sent. With HTTP/2 they are not
+   * considered when the server {@link #setCompressionSupported(boolean) compresses} the responses.
+   *
+   * @param precompressedFilesSupported {@code true} if precompressed files are supported
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPrecompressedFilesSupported(boolean precompressedFilesSupported) {
+    this.precompressedFilesSupported = precompressedFilesSupported;
+    return this;
+  }
+
   /**
    * @return the initial buffer size for the HTTP decoder
    */
@@ -1224,6 +1489,168 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the options of the cache of the files sent with {@link HttpServerResponse#sendFile(String)}, {@code null}
+   *         when the files are not cached
+   */
+  public SendFileCacheOptions getSendFileCacheOptions() {
+    return sendFileCacheOptions;
+  }
+
+  /**
+   * Enable the in-memory cache of the small files sent with {@link HttpServerResponse#sendFile(String)}, a cached file
+   * is sent from memory without accessing the file system. The cache is disabled by default.
+   *
+   * @param sendFileCacheOptions the cache options or {@code null} to disable the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendFileCacheOptions(SendFileCacheOptions sendFileCacheOptions) {
+    this.sendFileCacheOptions = sendFileCacheOptions;
+    return this;
+  }
+
+  /**
+   * @return the options of the cache of the compressed responses, {@code null} when the responses are not cached
+   */
+  public CompressedResponseCacheOptions getCompressedResponseCacheOptions() {
+    return compressedResponseCacheOptions;
+  }
+
+  /**
+   * Enable the cache of the compressed representations of the response bodies, a body sent repeatedly is compressed
+   * once per content encoding. The cache applies to the HTTP/1.x responses sent in one go with
+   * {@link HttpServerResponse#end(io.vertx.core.buffer.Buffer)} when the server
+   * {@link #setCompressionSupported(boolean) compresses} the responses. The cache is disabled by default.
+   *
+   * @param compressedResponseCacheOptions the cache options or {@code null} to disable the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressedResponseCacheOptions(CompressedResponseCacheOptions compressedResponseCacheOptions) {
+    this.compressedResponseCacheOptions = compressedResponseCacheOptions;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the server adds a {@code Date} header to the HTTP/1.x responses
+   */
+  public boolean isSendDateHeader() {
+    return sendDateHeader;
+  }
+
+  /**
+   * Set whether the server adds a {@code Date} header to the HTTP/1.x responses that do not have one.
+   * <p/>
+   * The header value is formatted once per second by each event-loop and shared by its responses.
+   *
+   * @param sendDateHeader {@code true} to add the {@code Date} header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendDateHeader(boolean sendDateHeader) {
+    this.sendDateHeader = sendDateHeader;
+    return this;
+  }
+
+  /**
+   * @return the value of the {@code Server} header added to the HTTP/1.x responses
+   */
+  public String getServerHeader() {
+    return serverHeader;
+  }
+
+  /**
+   * Set the value of the {@code Server} header added to the HTTP/1.x responses that do not have one, the value is
+   * encoded once.
+   *
+   * @param serverHeader the header value or {@code null} to not add the header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setServerHeader(String serverHeader) {
+    this.serverHeader = serverHeader;
+    return this;
+  }
+
+  /**
+   * @return the options of the aggregation of the request bodies, {@code null} when the bodies are copied into a
+   *         contiguous buffer
+   */
+  public BodyAggregationOptions getBodyAggregationOptions() {
+    return bodyAggregationOptions;
+  }
+
+  /**
+   * Set the options of the aggregation of the request bodies by {@link HttpServerRequest#body()}, the chunks of a large
+   * body are then retained in a composite buffer instead of being copied in a growing buffer. The chunks are shared with
+   * the request {@link HttpServerRequest#handler(io.vertx.core.Handler) handler}, they should not be modified.
+   *
+   * @param bodyAggregationOptions the options or {@code null} to copy the bodies
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setBodyAggregationOptions(BodyAggregationOptions bodyAggregationOptions) {
+    this.bodyAggregationOptions = bodyAggregationOptions;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if {@code multipart/form-data} requests are decoded in streaming mode
+   */
+  public boolean isMultipartStreamingEnabled() {
+    return multipartStreamingEnabled;
+  }
+
+  /**
+   * Set whether {@code multipart/form-data} requests are decoded in streaming mode.
+   * <p/>
+   * In streaming mode, the content of a file upload is handed to its {@link HttpServerFileUpload} as it is received,
+   * without intermediate buffering, and {@link HttpServerFileUpload#pause()}/{@link HttpServerFileUpload#fetch(long)}
+   * control the flow of the request. Only the part headers, bounded by {@link #getMaxFormBufferedBytes()}, and the
+   * attributes, bounded by {@link #getMaxFormAttributeSize()}, are buffered. {@code application/x-www-form-urlencoded}
+   * requests are not affected.
+   *
+   * @param multipartStreamingEnabled {@code true} to decode in streaming mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMultipartStreamingEnabled(boolean multipartStreamingEnabled) {
+    this.multipartStreamingEnabled = multipartStreamingEnabled;
+    return this;
+  }
+
+  /**
+   * @return the links preloaded by the server, {@code null} when none is configured
+   */
+  public List<PreloadLink> getPreloadLinks() {
+    return preloadLinks;
+  }
+
+  /**
+   * Set the links preloaded by the server, see {@link #addPreloadLink(PreloadLink)}.
+   *
+   * @param preloadLinks the links
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPreloadLinks(List<PreloadLink> preloadLinks) {
+    this.preloadLinks = preloadLinks;
+    return this;
+  }
+
+  /**
+   * Add a link preloaded by the server.
+   * <p/>
+   * The {@code GET} requests of the link {@link PreloadLink#getPath() path} are preceded by a {@code 103 Early Hints}
+   * response carrying a {@code Link} header for the resource, or by the push of the resource when the link is pushed
+   * and the HTTP/2 client accepts pushes. A connection sends a resource once: the requests of a connection do not preload the
+   * resources already hinted or pushed on this connection. HTTP/1.0 requests are never preceded by early hints.
+   *
+   * @param preloadLink the link
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addPreloadLink(PreloadLink preloadLink) {
+    if (preloadLinks == null) {
+      preloadLinks = new ArrayList<>();
+    }
+    preloadLinks.add(preloadLink);
+    return this;
+  }
+
   /**
    * @return
    */
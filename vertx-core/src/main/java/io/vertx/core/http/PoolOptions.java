@@ -15,6 +15,8 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Objects;
+
 /**
  * Options configuring a {@link HttpClient} pool.
  *
@@ -49,11 +51,17 @@ public class PoolOptions {
    */
   public static final int DEFAULT_POOL_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default connection selection policy = {@link ConnectionSelectionPolicy#LIFO}
+   */
+  public static final ConnectionSelectionPolicy DEFAULT_CONNECTION_SELECTION_POLICY = ConnectionSelectionPolicy.LIFO;
+
   private int http1MaxSize;
   private int http2MaxSize;
   private int cleanerPeriod;
   private int eventLoopSize;
   private int maxWaitQueueSize;
+  private ConnectionSelectionPolicy connectionSelectionPolicy;
 
   /**
    * Default constructor
@@ -64,6 +72,7 @@ public class PoolOptions {
     cleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     eventLoopSize = DEFAULT_POOL_EVENT_LOOP_SIZE;
     maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+    connectionSelectionPolicy = DEFAULT_CONNECTION_SELECTION_POLICY;
   }
 
   /**
@@ -77,6 +86,7 @@ public class PoolOptions {
     this.cleanerPeriod = other.cleanerPeriod;
     this.eventLoopSize = other.eventLoopSize;
     this.maxWaitQueueSize = other.maxWaitQueueSize;
+    this.connectionSelectionPolicy = other.connectionSelectionPolicy;
   }
 
   /**
@@ -199,6 +209,28 @@ public class PoolOptions {
     return maxWaitQueueSize;
   }
 
+  /**
+   * @return the policy choosing the connection of a request
+   */
+  public ConnectionSelectionPolicy getConnectionSelectionPolicy() {
+    return connectionSelectionPolicy;
+  }
+
+  /**
+   * Set the policy choosing the pooled connection a request is sent on when several connections can accept it.
+   *
+   * <p> The default policy {@link ConnectionSelectionPolicy#LIFO} favors the most recently used connection, with
+   * HTTP/2 it sends the streams on a single connection until its concurrency is exhausted. The other policies balance
+   * the streams over the connections of the pool, see {@link #setHttp2MaxSize(int)}.
+   *
+   * @param connectionSelectionPolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionSelectionPolicy(ConnectionSelectionPolicy connectionSelectionPolicy) {
+    this.connectionSelectionPolicy = Objects.requireNonNull(connectionSelectionPolicy);
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A resource the responses to a path depend on, see {@link HttpServerOptions#addPreloadLink(PreloadLink)}.
+ *
+ * <p> Before the request handler is called for a request of the {@link #setPath(String) path}, the server sends
+ * a {@code 103 Early Hints} response with a {@code Link: <uri>; rel=preload} header for the resource. When the link is
+ * {@link #setPush(boolean) pushed} and the client accepts it, the HTTP/2 server pushes the resource instead: the
+ * pushed {@code GET} request is handled by the server request handler.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class PreloadLink {
+
+  /**
+   * The default value of whether the resource is pushed = {@code false}
+   */
+  public static final boolean DEFAULT_PUSH = false;
+
+  private String path;
+  private String uri;
+  private String as;
+  private String type;
+  private boolean push;
+
+  /**
+   * Default constructor
+   */
+  public PreloadLink() {
+    push = DEFAULT_PUSH;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the link to copy
+   */
+  public PreloadLink(PreloadLink other) {
+    this.path = other.path;
+    this.uri = other.uri;
+    this.as = other.as;
+    this.type = other.type;
+    this.push = other.push;
+  }
+
+  /**
+   * Constructor to create a link from JSON
+   *
+   * @param json  the JSON
+   */
+  public PreloadLink(JsonObject json) {
+    this();
+    PreloadLinkConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the path of the requests depending on the resource
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Set the path of the requests depending on the resource, e.g. {@code /index.html}.
+   *
+   * @param path the request path
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PreloadLink setPath(String path) {
+    this.path = path;
+    return this;
+  }
+
+  /**
+   * @return the URI of the resource
+   */
+  public String getUri() {
+    return uri;
+  }
+
+  /**
+   * Set the URI of the resource, a pushed resource must be a path of this server, e.g. {@code /style.css}.
+   *
+   * @param uri the resource URI
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PreloadLink setUri(String uri) {
+    this.uri = uri;
+    return this;
+  }
+
+  /**
+   * @return the destination of the resource
+   */
+  public String getAs() {
+    return as;
+  }
+
+  /**
+   * Set the destination of the resource sent as the {@code as} link parameter, e.g. {@code style} or {@code script}.
+   *
+   * @param as the destination
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PreloadLink setAs(String as) {
+    this.as = as;
+    return this;
+  }
+
+  /**
+   * @return the MIME type of the resource
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Set the MIME type of the resource sent as the {@code type} link parameter.
+   *
+   * @param type the MIME type
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PreloadLink setType(String type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * @return whether the resource is pushed to the HTTP/2 clients
+   */
+  public boolean isPush() {
+    return push;
+  }
+
+  /**
+   * Set whether the resource is pushed to the HTTP/2 clients accepting pushes, other clients receive an early hint.
+   *
+   * @param push whether to push the resource
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PreloadLink setPush(boolean push) {
+    this.push = push;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of this link
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    PreloadLinkConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -86,6 +86,11 @@ public class RequestOptions extends HttpConnectOptions {
    */
   public static final long DEFAULT_IDLE_TIMEOUT = -1L;
 
+  /**
+   * Hedge requests by default = {@code false}
+   */
+  public static final boolean DEFAULT_HEDGED = false;
+
   private HttpMethod method;
   private String uri;
   private MultiMap headers;
@@ -94,6 +99,7 @@ public class RequestOptions extends HttpConnectOptions {
   private long idleTimeout;
   private String traceOperation;
   private String routingKey;
+  private boolean hedged;
 
   /**
    * Default constructor
@@ -118,6 +124,7 @@ public class RequestOptions extends HttpConnectOptions {
       setHeaders(MultiMap.caseInsensitiveMultiMap().setAll(other.headers));
     }
     setTraceOperation(other.traceOperation);
+    setHedged(other.hedged);
   }
 
   /**
@@ -158,6 +165,7 @@ public class RequestOptions extends HttpConnectOptions {
     timeout = DEFAULT_TIMEOUT;
     idleTimeout = DEFAULT_IDLE_TIMEOUT;
     traceOperation = null;
+    hedged = DEFAULT_HEDGED;
   }
 
   public RequestOptions setProxyOptions(ProxyOptions proxyOptions) {
@@ -523,6 +531,29 @@ public class RequestOptions extends HttpConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether the request is hedged
+   */
+  public boolean isHedged() {
+    return hedged;
+  }
+
+  /**
+   * Set whether the request is hedged when it is sent with {@link HttpClient#send(RequestOptions, io.vertx.core.buffer.Buffer)}: when its
+   * response is not received after a delay, the request is sent a second time, to another server when the client
+   * load balances requests, and the first response received wins, see {@link HedgingOptions}.
+   * <p>
+   * Only requests with an idempotent method are hedged: {@code GET}, {@code HEAD}, {@code OPTIONS}, {@code TRACE},
+   * {@code PUT} and {@code DELETE}.
+   *
+   * @param hedged whether to hedge the request
+   * @return  a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setHedged(boolean hedged) {
+    this.hedged = hedged;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = super.toJson();
     RequestOptionsConverter.toJson(this, json);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring the in-memory cache of the files sent with {@link HttpServerResponse#sendFile(String)}.
+ *
+ * <p> A cached file is kept in a direct buffer with its precomputed {@code ETag} and {@code Last-Modified}
+ * headers, sending it does not open, stat or read the file. The file modification time and
+ * length are checked at most once per {@link #setRevalidationInterval(long) revalidation interval}, a modified file
+ * is loaded again.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class SendFileCacheOptions {
+
+  /**
+   * The default maximum number of bytes of the cached files = 32 MiB
+   */
+  public static final long DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+
+  /**
+   * The default maximum number of bytes of a cached file = 64 KiB
+   */
+  public static final int DEFAULT_MAX_ENTRY_SIZE = 64 * 1024;
+
+  /**
+   * The default interval between two checks of a cached file = 1000 ms
+   */
+  public static final long DEFAULT_REVALIDATION_INTERVAL = 1000L;
+
+  private long maxSize;
+  private int maxEntrySize;
+  private long revalidationInterval;
+
+  /**
+   * Default constructor
+   */
+  public SendFileCacheOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    revalidationInterval = DEFAULT_REVALIDATION_INTERVAL;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public SendFileCacheOptions(SendFileCacheOptions other) {
+    this.maxSize = other.maxSize;
+    this.maxEntrySize = other.maxEntrySize;
+    this.revalidationInterval = other.revalidationInterval;
+  }
+
+  /**
+   * Constructor to create an options from JSON
+   *
+   * @param json  the JSON
+   */
+  public SendFileCacheOptions(JsonObject json) {
+    this();
+    SendFileCacheOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of bytes of the cached files
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of bytes of the cached files, the least recently sent files are evicted when a new file
+   * makes the cache exceed this size.
+   *
+   * @param maxSize the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SendFileCacheOptions setMaxSize(long maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be > 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes of a cached file
+   */
+  public int getMaxEntrySize() {
+    return maxEntrySize;
+  }
+
+  /**
+   * Set the maximum number of bytes of a cached file, larger files are streamed from the file system.
+   *
+   * @param maxEntrySize the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SendFileCacheOptions setMaxEntrySize(int maxEntrySize) {
+    if (maxEntrySize < 1) {
+      throw new IllegalArgumentException("maxEntrySize must be > 0");
+    }
+    this.maxEntrySize = maxEntrySize;
+    return this;
+  }
+
+  /**
+   * @return the interval in ms between two checks of a cached file
+   */
+  public long getRevalidationInterval() {
+    return revalidationInterval;
+  }
+
+  /**
+   * Set the interval in ms between two checks of the modification time and length of a cached file, the value
+   * {@code 0} checks the file on each send.
+   *
+   * @param revalidationInterval the interval in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SendFileCacheOptions setRevalidationInterval(long revalidationInterval) {
+    if (revalidationInterval < 0) {
+      throw new IllegalArgumentException("revalidationInterval must be >= 0");
+    }
+    this.revalidationInterval = revalidationInterval;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    SendFileCacheOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
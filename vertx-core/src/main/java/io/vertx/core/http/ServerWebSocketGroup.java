@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.ServerWebSocketGroupImpl;
+import io.vertx.core.internal.VertxInternal;
+
+/**
+ * A group of server WebSockets a message can be broadcast to.
+ * <p>
+ * A broadcast message is encoded once in a frame shared by the WebSockets of the group, instead of being encoded
+ * for each WebSocket. WebSockets compressing messages without context takeover share a frame compressed once per
+ * compression configuration, other compressing WebSockets encode the message themselves. The frames are written
+ * with a single task per event loop.
+ * <p>
+ * A closed WebSocket is removed from the group by the next broadcast.
+ */
+@VertxGen
+public interface ServerWebSocketGroup {
+
+  /**
+   * Create an empty group.
+   *
+   * @param vertx the Vert.x instance
+   * @return the group
+   */
+  static ServerWebSocketGroup create(Vertx vertx) {
+    return new ServerWebSocketGroupImpl((VertxInternal) vertx);
+  }
+
+  /**
+   * Add a WebSocket to the group.
+   *
+   * @param webSocket the WebSocket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ServerWebSocketGroup add(ServerWebSocket webSocket);
+
+  /**
+   * Remove a WebSocket from the group.
+   *
+   * @param webSocket the WebSocket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ServerWebSocketGroup remove(ServerWebSocket webSocket);
+
+  /**
+   * @return the number of WebSockets of the group
+   */
+  int size();
+
+  /**
+   * Broadcast a binary message to the WebSockets of the group.
+   *
+   * @param data the message
+   * @return a future completed when the message has been written to the WebSockets, a WebSocket failing to write
+   *         the message is removed from the group
+   */
+  Future<Void> writeBinaryMessage(Buffer data);
+
+  /**
+   * Broadcast a text message to the WebSockets of the group.
+   *
+   * @param text the message
+   * @return a future completed when the message has been written to the WebSockets, a WebSocket failing to write
+   *         the message is removed from the group
+   */
+  Future<Void> writeTextMessage(String text);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code Date} and {@code Server} headers added to the HTTP/1.x responses of a server.
+ *
+ * <p> The {@code Date} header value is formatted once per second by a timer of each event-loop serving connections,
+ * the responses of the event-loop share the same pre-encoded value.
+ */
+class CachedResponseHeaders {
+
+  /**
+   * @return the headers configured by {@code options} or {@code null} when none is configured
+   */
+  static CachedResponseHeaders create(HttpServerOptions options) {
+    if (!options.isSendDateHeader() && options.getServerHeader() == null) {
+      return null;
+    }
+    return new CachedResponseHeaders(options.isSendDateHeader(), options.getServerHeader());
+  }
+
+  private final boolean date;
+  private final AsciiString server;
+  private final ConcurrentMap<EventExecutor, EventLoopHeaders> eventLoops = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  private CachedResponseHeaders(boolean date, String server) {
+    this.date = date;
+    this.server = server != null ? AsciiString.cached(server) : null;
+  }
+
+  /**
+   * @return the headers of the connections served by {@code executor}
+   */
+  EventLoopHeaders get(EventExecutor executor) {
+    EventLoopHeaders headers = eventLoops.get(executor);
+    if (headers == null) {
+      headers = eventLoops.computeIfAbsent(executor, EventLoopHeaders::new);
+    }
+    return headers;
+  }
+
+  /**
+   * Cancel the timers refreshing the {@code Date} header.
+   */
+  void close() {
+    closed = true;
+    eventLoops.values().forEach(EventLoopHeaders::cancel);
+    eventLoops.clear();
+  }
+
+  class EventLoopHeaders implements Runnable {
+
+    private volatile AsciiString dateValue;
+    private volatile ScheduledFuture<?> timer;
+
+    private EventLoopHeaders(EventExecutor executor) {
+      if (date) {
+        long now = System.currentTimeMillis();
+        dateValue = format(now);
+        // Refresh on the next second boundary
+        timer = executor.scheduleAtFixedRate(this, 1000 - now % 1000, 1000, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (closed) {
+        // Created concurrently with close
+        cancel();
+      } else {
+        dateValue = format(System.currentTimeMillis());
+      }
+    }
+
+    private void cancel() {
+      ScheduledFuture<?> t = timer;
+      if (t != null) {
+        t.cancel(false);
+      }
+    }
+
+    /**
+     * Set the {@code Date} and {@code Server} headers when they are absent.
+     */
+    void setHeaders(MultiMap headers) {
+      if (date && !headers.contains(HttpHeaders.DATE)) {
+        headers.set(HttpHeaders.DATE, dateValue);
+      }
+      if (server != null && !headers.contains(HttpHeaders.SERVER)) {
+        headers.set(HttpHeaders.SERVER, server);
+      }
+    }
+  }
+
+  private static AsciiString format(long millis) {
+    return AsciiString.cached(DateFormatter.format(new Date(millis)));
+  }
+}
@@ -12,6 +12,7 @@ package io.vertx.core.http.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.http.HttpClientInternal;
@@ -60,6 +61,11 @@ public class CleanableHttpClient implements HttpClientInternal {
     return delegate.request(options);
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options, Buffer body) {
+    return delegate.send(options, body);
+  }
+
   @Override
   public Future<Boolean> updateSSLOptions(ClientSSLOptions options, boolean force) {
     return delegate.updateSSLOptions(options, force);
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.vertx.core.http.CompressedResponseCacheOptions;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A cache of the compressed representations of the HTTP/1.x response bodies.
+ *
+ * <p> A body is admitted in the cache the second time it is sent, a body sent once is left to the compressor of the
+ * connection pipeline and costs a single hash of its bytes. The server {@link CompressionPolicy} applies to the
+ * cached bodies as it applies to the bodies compressed by the pipeline. The cached bodies are compressed with pooled
+ * {@link Deflater} instances configured with the server gzip and deflate options, other encodings are not cached.
+ * The response then declares its {@code Content-Encoding} and the compressor of the connection pipeline lets it pass
+ * through.
+ */
+class CompressedResponseCache {
+
+  private static final int ADMISSION_SIZE = 1024;
+  private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+  private final Map<String, EncoderPool> encoders = new HashMap<>();
+  private final HttpServerConnectionInitializer.EncodingDetector encodingDetector;
+  private final CompressionPolicy policy;
+  private final long maxSize;
+  private final int maxEntrySize;
+  // Racy on purpose: a lost update only delays or anticipates the admission of a body
+  private final int[] admission = new int[ADMISSION_SIZE];
+  private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  /**
+   * @param policy the policy skipping the responses not worth compressing or {@code null}
+   */
+  CompressedResponseCache(CompressedResponseCacheOptions options, CompressionOptions[] compressionOptions, CompressionPolicy policy) {
+    for (CompressionOptions compressionOption : compressionOptions) {
+      if (compressionOption instanceof GzipOptions) {
+        encoders.putIfAbsent("gzip", new EncoderPool(((GzipOptions) compressionOption).compressionLevel(), true));
+      } else if (compressionOption instanceof DeflateOptions) {
+        encoders.putIfAbsent("deflate", new EncoderPool(((DeflateOptions) compressionOption).compressionLevel(), false));
+      }
+    }
+    this.encodingDetector = new HttpServerConnectionInitializer.EncodingDetector(compressionOptions);
+    this.policy = policy;
+    this.maxSize = options.getMaxSize();
+    this.maxEntrySize = options.getMaxEntrySize();
+  }
+
+  /**
+   * @return the encoding of a response to a request accepting {@code acceptEncoding} or {@code null} when the
+   *         response cannot be served from the cache
+   */
+  String encoding(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return null;
+    }
+    String encoding = encodingDetector.determineEncoding(acceptEncoding);
+    return encoding != null && encoders.containsKey(encoding) ? encoding : null;
+  }
+
+  /**
+   * @param contentType the response {@code Content-Type} or {@code null}
+   * @param contentLength the response body size
+   * @return whether the response should be compressed according to the server compression policy
+   */
+  boolean isCompressible(CharSequence contentType, long contentLength) {
+    return policy == null || policy.isCompressible(contentType, contentLength);
+  }
+
+  /**
+   * Get the compressed representation of {@code body}, the body is compressed and cached when it is absent and was
+   * already sent.
+   *
+   * @param encoding the content encoding
+   * @param body the response body
+   * @param saturated whether the event loop is saturated, an absent body is then left to the pipeline compressor
+   *                  that uses the fastest level
+   * @param metrics the metrics reporting the compressed bytes or {@code null}
+   * @return the compressed body or {@code null} when the body is not cached
+   */
+  ByteBuf get(String encoding, ByteBuf body, boolean saturated, HttpServerMetrics<?, ?, ?> metrics) {
+    int length = body.readableBytes();
+    if (length > maxEntrySize) {
+      return null;
+    }
+    Key key = new Key(encoding, body);
+    byte[] compressed;
+    synchronized (this) {
+      compressed = entries.get(key);
+    }
+    long nanos = 0L;
+    if (compressed == null) {
+      if (saturated || !admit(key.hashCode)) {
+        return null;
+      }
+      long start = System.nanoTime();
+      compressed = encoders.get(encoding).encode(body);
+      nanos = System.nanoTime() - start;
+      Key copy = new Key(encoding, Unpooled.wrappedBuffer(ByteBufUtil.getBytes(body)));
+      synchronized (this) {
+        byte[] previous = entries.put(copy, compressed);
+        if (previous != null) {
+          size -= length + previous.length;
+        }
+        size += length + compressed.length;
+        Iterator<Map.Entry<Key, byte[]>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+          Map.Entry<Key, byte[]> eldest = it.next();
+          it.remove();
+          size -= eldest.getKey().body.readableBytes() + eldest.getValue().length;
+        }
+      }
+    }
+    if (metrics != null) {
+      // A cached body is reported without compression time
+      metrics.bytesCompressed(length, compressed.length, nanos);
+    }
+    return Unpooled.wrappedBuffer(compressed);
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    size = 0L;
+  }
+
+  /**
+   * Record a cache miss for a key hash.
+   *
+   * @return {@code true} when the same hash missed before and the body should be admitted
+   */
+  private boolean admit(int hash) {
+    int tag = hash | 1;
+    int idx = (hash ^ (hash >>> 16)) & (ADMISSION_SIZE - 1);
+    if (admission[idx] == tag) {
+      admission[idx] = 0;
+      return true;
+    }
+    admission[idx] = tag;
+    return false;
+  }
+
+  /**
+   * A pool of reusable encoders, the output is the same as the pipeline {@code JdkZlibEncoder} output.
+   */
+  private static class EncoderPool {
+
+    private final int compressionLevel;
+    private final boolean gzip;
+    private final Queue<Encoder> pool = new ConcurrentLinkedQueue<>();
+
+    EncoderPool(int compressionLevel, boolean gzip) {
+      this.compressionLevel = compressionLevel;
+      this.gzip = gzip;
+    }
+
+    byte[] encode(ByteBuf body) {
+      Encoder encoder = pool.poll();
+      if (encoder == null) {
+        encoder = new Encoder(compressionLevel, gzip);
+      }
+      try {
+        return encoder.encode(body);
+      } finally {
+        encoder.reset();
+        pool.offer(encoder);
+      }
+    }
+  }
+
+  private static class Encoder {
+
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] chunk = new byte[8192];
+
+    Encoder(int compressionLevel, boolean gzip) {
+      this.deflater = new Deflater(compressionLevel, gzip);
+      this.crc = gzip ? new CRC32() : null;
+    }
+
+    byte[] encode(ByteBuf body) {
+      ByteBuf compressed = Unpooled.buffer(body.readableBytes() / 2 + 32);
+      if (crc != null) {
+        compressed.writeBytes(GZIP_HEADER);
+        crc.update(body.nioBuffer());
+      }
+      deflater.setInput(body.nioBuffer());
+      while (true) {
+        int n = deflater.deflate(chunk, 0, chunk.length, Deflater.SYNC_FLUSH);
+        compressed.writeBytes(chunk, 0, n);
+        if (n < chunk.length && deflater.needsInput()) {
+          break;
+        }
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        int n = deflater.deflate(chunk, 0, chunk.length);
+        compressed.writeBytes(chunk, 0, n);
+      }
+      if (crc != null) {
+        compressed.writeIntLE((int) crc.getValue());
+        compressed.writeIntLE(deflater.getTotalIn());
+      }
+      return ByteBufUtil.getBytes(compressed);
+    }
+
+    void reset() {
+      deflater.reset();
+      if (crc != null) {
+        crc.reset();
+      }
+    }
+  }
+
+  private static class Key {
+
+    private final String encoding;
+    private final ByteBuf body;
+    private final int hashCode;
+
+    Key(String encoding, ByteBuf body) {
+      this.encoding = encoding;
+      this.body = body;
+      this.hashCode = 31 * encoding.hashCode() + ByteBufUtil.hashCode(body);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Key) {
+        Key that = (Key) obj;
+        return hashCode == that.hashCode && encoding.equals(that.encoding) && ByteBufUtil.equals(body, that.body);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Decides whether a response is worth compressing from its content type and its size.
+ */
+final class CompressionPolicy {
+
+  private static final String[] EMPTY = new String[0];
+
+  /**
+   * @return the policy of the server or {@code null} when all the responses are compressed
+   */
+  static CompressionPolicy create(HttpServerOptions options) {
+    String[] contentTypes = mediaTypes(options.getCompressionContentTypes());
+    String[] excludedContentTypes = mediaTypes(options.getCompressionExcludedContentTypes());
+    int contentSizeThreshold = options.getCompressionContentSizeThreshold();
+    if (contentSizeThreshold == 0 && contentTypes.length == 0 && excludedContentTypes.length == 0) {
+      return null;
+    }
+    return new CompressionPolicy(contentSizeThreshold, contentTypes, excludedContentTypes);
+  }
+
+  private final int contentSizeThreshold;
+  private final String[] contentTypes;
+  private final String[] excludedContentTypes;
+
+  private CompressionPolicy(int contentSizeThreshold, String[] contentTypes, String[] excludedContentTypes) {
+    this.contentSizeThreshold = contentSizeThreshold;
+    this.contentTypes = contentTypes;
+    this.excludedContentTypes = excludedContentTypes;
+  }
+
+  /**
+   * @param contentType the response {@code Content-Type} or {@code null}
+   * @param contentLength the response body size or {@code -1} when unknown
+   * @return whether the response should be compressed
+   */
+  boolean isCompressible(CharSequence contentType, long contentLength) {
+    if (contentLength >= 0 && contentLength < contentSizeThreshold) {
+      return false;
+    }
+    String mediaType = contentType != null ? mediaType(contentType.toString()) : null;
+    if (mediaType != null && matches(excludedContentTypes, mediaType)) {
+      return false;
+    }
+    return contentTypes.length == 0 || (mediaType != null && matches(contentTypes, mediaType));
+  }
+
+  private static boolean matches(String[] patterns, String mediaType) {
+    for (String pattern : patterns) {
+      if (pattern.endsWith("/*") ? mediaType.startsWith(pattern.substring(0, pattern.length() - 1)) : mediaType.equals(pattern)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String mediaType(String contentType) {
+    int idx = contentType.indexOf(';');
+    return (idx == -1 ? contentType : contentType.substring(0, idx)).trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String[] mediaTypes(List<String> contentTypes) {
+    if (contentTypes == null || contentTypes.isEmpty()) {
+      return EMPTY;
+    }
+    return contentTypes.stream().map(CompressionPolicy::mediaType).toArray(String[]::new);
+  }
+}
@@ -12,6 +12,7 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
@@ -46,6 +47,7 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
 
+import java.io.RandomAccessFile;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -83,11 +85,16 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
   private boolean wantClose;
   private Handler<HttpServerRequest> requestHandler;
   private Handler<HttpServerRequest> invalidRequestHandler;
+  private WebSocketCompression webSocketCompression;
 
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
   final SslContextManager sslContextManager;
+  final SendFileCache sendFileCache;
+  final CompressedResponseCache compressedResponseCache;
+  final CachedResponseHeaders.EventLoopHeaders cachedResponseHeaders;
+  final PreloadManifest.ConnectionState preloadState;
 
   public Http1xServerConnection(Supplier<ContextInternal> streamContextSupplier,
                                 SslContextManager sslContextManager,
@@ -95,13 +102,21 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
                                 ChannelHandlerContext chctx,
                                 ContextInternal context,
                                 String serverOrigin,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics metrics,
+                                SendFileCache sendFileCache,
+                                CompressedResponseCache compressedResponseCache,
+                                CachedResponseHeaders.EventLoopHeaders cachedResponseHeaders,
+                                PreloadManifest preloadManifest) {
     super(context, chctx);
     this.serverOrigin = serverOrigin;
     this.streamContextSupplier = streamContextSupplier;
     this.options = options;
     this.sslContextManager = sslContextManager;
     this.metrics = metrics;
+    this.sendFileCache = sendFileCache;
+    this.compressedResponseCache = compressedResponseCache;
+    this.cachedResponseHeaders = cachedResponseHeaders;
+    this.preloadState = preloadManifest != null ? preloadManifest.connectionState() : null;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
     this.tracingPolicy = options.getTracingPolicy();
     this.wantClose = false;
@@ -280,6 +295,18 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
     return serverOrigin;
   }
 
+  /**
+   * @return the compression negotiated by the WebSocket handshake of this connection or {@code null}, must be called
+   *         from the event loop
+   */
+  WebSocketCompression webSocketCompression() {
+    return webSocketCompression;
+  }
+
+  void webSocketCompression(WebSocketCompression compression) {
+    webSocketCompression = compression;
+  }
+
   void createWebSocket(Http1xServerRequest request, PromiseInternal<ServerWebSocket> promise) {
     context.execute(() -> {
       if (request != responseInProgress) {
@@ -460,6 +487,14 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
     }
   }
 
+  /**
+   * Send the file of a response declaring a {@code Content-Encoding}, the compressor of the pipeline lets such response
+   * pass through and the file can be transferred with zero-copy.
+   */
+  ChannelFuture sendEncodedFile(RandomAccessFile raf, long offset, long length) {
+    return sendFile(raf, offset, length, super.supportsFileRegion());
+  }
+
   @Override
   protected boolean supportsFileRegion() {
     return super.supportsFileRegion() && chctx.pipeline().get(HttpChunkContentCompressor.class) == null;
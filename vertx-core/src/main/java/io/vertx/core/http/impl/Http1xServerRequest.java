@@ -26,6 +26,7 @@ import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.headers.HeadersAdaptor;
+import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
@@ -41,6 +42,7 @@ import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -89,6 +91,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
   private MultiMap attributes;
   private boolean expectMultipart;
   private HttpPostRequestDecoder decoder;
+  private StreamingMultipartDecoder multipartDecoder;
   private boolean ended;
   private long bytesRead;
   private final InboundMessageQueue<Object> queue;
@@ -119,7 +122,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
 
   private HttpEventHandler eventHandler(boolean create) {
     if (eventHandler == null && create) {
-      eventHandler = new HttpEventHandler(context);
+      eventHandler = new HttpEventHandler(context, conn.options.getBodyAggregationOptions());
     }
     return eventHandler;
   }
@@ -138,6 +141,20 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     if (conn.handle100ContinueAutomatically) {
       check100();
     }
+    if (conn.preloadState != null && request.method() == io.netty.handler.codec.http.HttpMethod.GET && request.protocolVersion() == io.netty.handler.codec.http.HttpVersion.HTTP_1_1) {
+      preload();
+    }
+  }
+
+  private void preload() {
+    List<PreloadManifest.Link> links = conn.preloadState.select(path());
+    if (!links.isEmpty()) {
+      HeadersMultiMap headers = HeadersMultiMap.httpHeaders();
+      for (PreloadManifest.Link link : links) {
+        headers.add(PreloadManifest.LINK, link.headerValue);
+      }
+      conn.write103EarlyHints(headers, context.promise());
+    }
   }
 
   void handleContent(Buffer buffer) {
@@ -443,7 +460,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (decoder == null) {
+        if (decoder == null && multipartDecoder == null) {
           String contentType = request.headers().get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
@@ -454,15 +471,21 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
           if (!HttpUtils.isValidMultipartMethod(request.method())) {
             throw new IllegalStateException("Request method must be one of POST, PUT, PATCH or DELETE to decode a multipart request");
           }
-          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
           HttpServerOptions options = conn.options;
-          factory.setMaxLimit(options.getMaxFormAttributeSize());
-          int maxFields = options.getMaxFormFields();
-          int maxBufferedBytes = options.getMaxFormBufferedBytes();
-          decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          String boundary = options.isMultipartStreamingEnabled() ? StreamingMultipartDecoder.boundary(contentType) : null;
+          if (boundary != null) {
+            multipartDecoder = new StreamingMultipartDecoder(context, this, boundary, options, attributes(), () -> uploadHandler);
+          } else {
+            NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
+            factory.setMaxLimit(options.getMaxFormAttributeSize());
+            int maxFields = options.getMaxFormFields();
+            int maxBufferedBytes = options.getMaxFormBufferedBytes();
+            decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          }
         }
       } else {
         decoder = null;
+        multipartDecoder = null;
       }
       return this;
     }
@@ -516,6 +539,15 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
           decoder = null;
           handleException(e);
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.offer(data);
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException |
+                 HttpPostRequestDecoder.TooLongFormFieldException |
+                 HttpPostRequestDecoder.TooManyFormFieldsException e) {
+          handleException(e);
+          multipartDecoder = null;
+        }
       }
       handler = eventHandler;
     }
@@ -532,6 +564,14 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     synchronized (conn) {
       if (decoder != null) {
         endDecode();
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.end();
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+          handleException(e);
+        } finally {
+          multipartDecoder = null;
+        }
       }
       ended = true;
       handler = eventHandler;
@@ -599,6 +639,8 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
         handler = eventHandler;
         if (decoder != null) {
           upload = decoder.currentPartialHttpData();
+        } else if (multipartDecoder != null) {
+          upload = multipartDecoder.currentUpload();
         }
       }
       if (!response.ended()) {
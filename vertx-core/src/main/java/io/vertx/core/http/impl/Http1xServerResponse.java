@@ -390,7 +390,10 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
       if (!headWritten) {
         // if the head was not written yet we can write out everything in one go
         // which is cheaper.
-        prepareHeaders(bytesWritten);
+        if (conn.compressedResponseCache != null) {
+          data = compressCached(data);
+        }
+        prepareHeaders(data.readableBytes());
         msg = new AssembledFullHttpResponse(head, version, status, headers, data, trailingHeaders);
       } else {
         msg = new AssembledLastHttpContent(data, trailingHeaders);
@@ -408,6 +411,33 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  /**
+   * Replace the body with its cached compressed representation, the compressor of the connection pipeline lets a
+   * response declaring its content encoding pass through.
+   */
+  private ByteBuf compressCached(ByteBuf data) {
+    if (head || !data.isReadable() || status.code() < 200 || status == HttpResponseStatus.NO_CONTENT || status == HttpResponseStatus.NOT_MODIFIED
+      || headers.contains(HttpHeaders.CONTENT_ENCODING) || headers.contains(HttpHeaders.CONTENT_LENGTH)) {
+      return data;
+    }
+    CompressedResponseCache cache = conn.compressedResponseCache;
+    if (!cache.isCompressible(headers.get(HttpHeaders.CONTENT_TYPE), data.readableBytes())) {
+      return data;
+    }
+    String encoding = cache.encoding(request.headers().get(HttpHeaders.ACCEPT_ENCODING));
+    if (encoding == null) {
+      return data;
+    }
+    int saturationThreshold = conn.options.getCompressionSaturationThreshold();
+    boolean saturated = saturationThreshold > 0 && HttpChunkContentCompressor.isSaturated(conn.channelHandlerContext().executor(), saturationThreshold);
+    ByteBuf compressed = cache.get(encoding, data, saturated, conn.metrics);
+    if (compressed == null) {
+      return data;
+    }
+    headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+    return compressed;
+  }
+
   void completeHandshake() {
     if (conn.metrics != null) {
       conn.metrics.responseBegin(requestMetric, this);
@@ -439,7 +469,47 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
       if (headWritten) {
         throw new IllegalStateException("Head already written");
       }
-      File file = vertx.resolveFile(filename);
+      String path = filename;
+      if (conn.options.isPrecompressedFilesSupported() && offset == 0 && length == Long.MAX_VALUE && !headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+        PrecompressedFile precompressed = PrecompressedFile.resolve(vertx, filename, request.headers().get(HttpHeaders.ACCEPT_ENCODING));
+        if (precompressed != null) {
+          path = precompressed.filename;
+          headers.set(HttpHeaders.CONTENT_ENCODING, precompressed.encoding);
+          headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+      }
+      if (conn.sendFileCache != null) {
+        String resolved = path;
+        return conn.sendFileCache
+          .get(ctx, path)
+          .compose(cached -> cached != null ? sendCachedFile(ctx, cached, filename, offset, length) : sendResolvedFile(ctx, resolved, filename, offset, length));
+      }
+      return sendResolvedFile(ctx, path, filename, offset, length);
+    }
+  }
+
+  private Future<Void> sendCachedFile(ContextInternal ctx, SendFileCache.Entry cached, String filename, long offset, long length) {
+    long actualLength = Math.min(length, cached.length - offset);
+    if (actualLength < 0) {
+      return ctx.failedFuture("offset : " + offset + " is larger than the requested file length : " + cached.length);
+    }
+    synchronized (conn) {
+      Future<Void> invalid = checkSendFile(ctx);
+      if (invalid != null) {
+        return invalid;
+      }
+      cached.setHeaders(filename, headers);
+      return end(cached.slice(offset, actualLength));
+    }
+  }
+
+  private Future<Void> sendResolvedFile(ContextInternal ctx, String path, String filename, long offset, long length) {
+    synchronized (conn) {
+      Future<Void> invalid = checkSendFile(ctx);
+      if (invalid != null) {
+        return invalid;
+      }
+      File file = vertx.resolveFile(path);
       RandomAccessFile raf;
       try {
         raf = new RandomAccessFile(file, "r");
@@ -468,9 +538,14 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
       bytesWritten = actualLength;
       written = true;
 
+      // The compressor sets the content encoding of the responses it compresses
+      boolean encoded = headers.contains(HttpHeaders.CONTENT_ENCODING);
+
       conn.write(new AssembledHttpResponse(head, version, status, headers), null);
 
-      ChannelFuture channelFut = conn.sendFile(raf, actualOffset, actualLength);
+      ChannelFuture channelFut = encoded ?
+        conn.sendEncodedFile(raf, actualOffset, actualLength) :
+        conn.sendFile(raf, actualOffset, actualLength);
       channelFut.addListener(future -> {
 
         // write an empty last content to let the http encoder know the response is complete
@@ -599,6 +674,21 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  /**
+   * Check the response can still send a file, the file might have been looked up on a worker in the meantime.
+   *
+   * @return a failed future when the response cannot send the file or {@code null}
+   */
+  private Future<Void> checkSendFile(ContextInternal ctx) {
+    if (written) {
+      return ctx.failedFuture(new IllegalStateException(RESPONSE_WRITTEN));
+    }
+    if (headWritten) {
+      return ctx.failedFuture(new IllegalStateException("Head already written"));
+    }
+    return null;
+  }
+
   private void checkValid() {
     if (written) {
       throw new IllegalStateException(RESPONSE_WRITTEN);
@@ -617,6 +707,9 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     } else if (version == HttpVersion.HTTP_1_1 && !keepAlive) {
       headers.set(HttpHeaders.CONNECTION, HttpHeaders.CLOSE);
     }
+    if (conn.cachedResponseHeaders != null) {
+      conn.cachedResponseHeaders.setHeaders(headers);
+    }
     if (head || status == HttpResponseStatus.NOT_MODIFIED) {
       // For HEAD request or NOT_MODIFIED response
       // don't set automatically the content-length
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+/**
+ * Estimates the bandwidth-delay product of an HTTP/2 connection from the received data.
+ *
+ * <p> A {@code PING} frame is sent with the first data frame received when no sample is in progress, the bytes received
+ * until its acknowledgement form a sample. When a sample reaches two thirds of the current window and the bandwidth
+ * observed during the sample is the highest one so far, the window is grown to twice the sample, up to a maximum.
+ *
+ * <p> This class is not thread safe, it is accessed from the connection event-loop.
+ */
+class Http2BdpEstimator {
+
+  /**
+   * The payload of the {@code PING} frames sent by the estimator.
+   */
+  static final long PING_PAYLOAD = 0x42445020_50494E47L;
+
+  private final int maxWindowSize;
+  private int windowSize;
+  private boolean sampling;
+  private long sampleStart;
+  private long sample;
+  private double maxBandwidth;
+
+  Http2BdpEstimator(int initialWindowSize, int maxWindowSize) {
+    this.windowSize = initialWindowSize;
+    this.maxWindowSize = maxWindowSize;
+  }
+
+  /**
+   * @return the current window size
+   */
+  int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Account {@code bytes} received by the connection.
+   *
+   * @return whether a {@code PING} frame with {@link #PING_PAYLOAD} shall be sent to start a sample
+   */
+  boolean onDataRead(int bytes) {
+    if (windowSize >= maxWindowSize) {
+      return false;
+    }
+    sample += bytes;
+    if (!sampling) {
+      sampling = true;
+      sampleStart = System.nanoTime();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Complete the current sample on the acknowledgement of the {@code PING} frame.
+   *
+   * @return the new window size or {@code -1} when the window is unchanged
+   */
+  int onPingAck() {
+    if (!sampling) {
+      return -1;
+    }
+    long rtt = Math.max(1L, System.nanoTime() - sampleStart);
+    long bytes = sample;
+    sampling = false;
+    sample = 0;
+    if (bytes * 3 < windowSize * 2L) {
+      return -1;
+    }
+    double bandwidth = (double) bytes / rtt;
+    if (bandwidth <= maxBandwidth) {
+      return -1;
+    }
+    maxBandwidth = bandwidth;
+    int size = (int) Math.min(maxWindowSize, bytes * 2);
+    if (size <= windowSize) {
+      return -1;
+    }
+    windowSize = size;
+    return size;
+  }
+}
@@ -703,6 +703,9 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
       if (options.getHttp2ConnectionWindowSize() > 0) {
         conn.setWindowSize(options.getHttp2ConnectionWindowSize());
       }
+      if (options.isHttp2AdaptiveWindowSize()) {
+        conn.adaptiveWindowSize(options.getHttp2MaxAdaptiveWindowSize());
+      }
       if (metrics != null) {
         if (!upgrade)  {
           met.endpointConnected(metrics);
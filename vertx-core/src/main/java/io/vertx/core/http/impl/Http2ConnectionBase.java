@@ -16,6 +16,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Flags;
@@ -76,6 +77,7 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
   private GoAway goAwayStatus;
   private int windowSize;
   private long maxConcurrentStreams;
+  private Http2BdpEstimator bdpEstimator;
 
   public Http2ConnectionBase(ContextInternal context, VertxHttp2ConnectionHandler handler) {
     super(context, handler.context());
@@ -270,6 +272,14 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public void onPingAckRead(ChannelHandlerContext ctx, long data) {
+    Http2BdpEstimator estimator = bdpEstimator;
+    if (estimator != null && data == Http2BdpEstimator.PING_PAYLOAD) {
+      int size = estimator.onPingAck();
+      if (size > 0) {
+        growWindowSize(size);
+      }
+      return;
+    }
     Promise<Buffer> handler = pongHandlers.poll();
     if (handler != null) {
       Buffer buff = Buffer.buffer().appendLong(data);
@@ -310,6 +320,10 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) {
+    Http2BdpEstimator estimator = bdpEstimator;
+    if (estimator != null && estimator.onDataRead(data.readableBytes() + padding)) {
+      handler.writePing(Http2BdpEstimator.PING_PAYLOAD);
+    }
     VertxHttp2Stream stream = stream(streamId);
     if (stream != null) {
       data = safeBuffer(data);
@@ -340,6 +354,24 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
     }
   }
 
+  /**
+   * Adapt the connection and stream windows to the estimated bandwidth-delay product, this must be called from the
+   * event loop.
+   *
+   * @param maxWindowSize the maximum window size
+   */
+  void adaptiveWindowSize(int maxWindowSize) {
+    Integer initialWindowSize = handler.decoder().localSettings().initialWindowSize();
+    bdpEstimator = new Http2BdpEstimator(initialWindowSize != null ? initialWindowSize.intValue() : Http2CodecUtil.DEFAULT_WINDOW_SIZE, maxWindowSize);
+  }
+
+  private void growWindowSize(int size) {
+    if (size > windowSize) {
+      setWindowSize(size);
+    }
+    updateSettings(new Http2Settings().initialWindowSize(size));
+  }
+
   @Override
   public HttpConnection goAway(long errorCode, int lastStreamId, Buffer debugData) {
     if (errorCode < 0) {
@@ -11,10 +11,12 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.util.concurrent.Future;
@@ -28,6 +30,7 @@ import io.vertx.core.net.HostAndPort;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.util.ArrayDeque;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -41,6 +44,9 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   private final HttpServerMetrics metrics;
   private final Function<String, String> encodingDetector;
   private final Supplier<ContextInternal> streamContextSupplier;
+  final SendFileCache sendFileCache;
+  final CompressionPolicy compressionPolicy;
+  private final PreloadManifest.ConnectionState preloadState;
 
   Handler<HttpServerRequest> requestHandler;
   private int concurrentStreams;
@@ -53,15 +59,37 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     String serverOrigin,
     VertxHttp2ConnectionHandler connHandler,
     Function<String, String> encodingDetector,
+    CompressionPolicy compressionPolicy,
     HttpServerOptions options,
-    HttpServerMetrics metrics) {
+    HttpServerMetrics metrics,
+    SendFileCache sendFileCache,
+    PreloadManifest preloadManifest) {
     super(context, connHandler);
 
     this.options = options;
     this.serverOrigin = serverOrigin;
     this.encodingDetector = encodingDetector;
+    this.compressionPolicy = compressionPolicy;
     this.streamContextSupplier = streamContextSupplier;
     this.metrics = metrics;
+    this.sendFileCache = sendFileCache;
+    this.preloadState = preloadManifest != null ? preloadManifest.connectionState() : null;
+  }
+
+  /**
+   * Create a channel handler serving HTTP/2 with prior knowledge, the requests are handled by {@code requestHandler}
+   * on {@code context}. This is used by benchmarks, the server configures its channels with
+   * {@link HttpServerConnectionInitializer}.
+   */
+  public static ChannelHandler createHandler(ContextInternal context, HttpServerOptions options, Handler<HttpServerRequest> requestHandler) {
+    VertxHttp2ConnectionHandler<Http2ServerConnection> handler = new VertxHttp2ConnectionHandlerBuilder<Http2ServerConnection>()
+      .server(true)
+      .gracefulShutdownTimeoutMillis(0)
+      .initialSettings(options.getInitialSettings())
+      .connectionFactory(connHandler -> new Http2ServerConnection(context, () -> context, "http://localhost", connHandler, null, null, options, null, null, null))
+      .build();
+    handler.addHandler(conn -> conn.handler(requestHandler));
+    return handler;
   }
 
   @Override
@@ -120,11 +148,11 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   }
 
   String determineContentEncoding(Http2Headers headers) {
-    String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING) != null ? headers.get(HttpHeaderNames.ACCEPT_ENCODING).toString() : null;
-    if (acceptEncoding != null && encodingDetector != null) {
-      return encodingDetector.apply(acceptEncoding);
+    if (encodingDetector == null) {
+      return null;
     }
-    return null;
+    CharSequence acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING);
+    return acceptEncoding != null ? encodingDetector.apply(acceptEncoding.toString()) : null;
   }
 
   private Http2ServerStream createStream(Http2Headers headers, boolean streamEnded) {
@@ -182,6 +210,9 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
         return;
       }
       initStream(streamId, stream);
+      if (preloadState != null && stream.method == HttpMethod.GET) {
+        preload(streamId, stream);
+      }
       stream.onHeaders(headers, streamPriority);
     } else {
       // Http server request trailer - not implemented yet (in api)
@@ -200,7 +231,7 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     }
   }
 
-  private synchronized void doSendPush(int streamId, HostAndPort authority, HttpMethod method, MultiMap headers, String path, StreamPriority streamPriority, Promise<HttpServerResponse> promise) {
+  private Http2Headers pushHeaders(HostAndPort authority, HttpMethod method, MultiMap headers, String path) {
     boolean ssl = isSsl();
     Http2Headers headers_ = new DefaultHttp2Headers();
     headers_.method(method.name());
@@ -213,6 +244,54 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     if (headers != null) {
       headers.forEach(header -> headers_.add(header.getKey(), header.getValue()));
     }
+    return headers_;
+  }
+
+  /**
+   * Send the early hints and the pushes of the links of the {@code stream} path not yet sent by this connection.
+   */
+  private void preload(int streamId, Http2ServerStream stream) {
+    List<PreloadManifest.Link> links = preloadState.select(HttpUtils.parsePath(stream.uri));
+    if (links.isEmpty()) {
+      return;
+    }
+    boolean pushEnabled = handler.connection().remote().allowPushTo();
+    Http2Headers hints = null;
+    for (PreloadManifest.Link link : links) {
+      if (pushEnabled && link.push) {
+        preloadPush(streamId, stream.authority, link.uri);
+      } else {
+        if (hints == null) {
+          hints = new DefaultHttp2Headers().status(HttpResponseStatus.EARLY_HINTS.codeAsText());
+        }
+        hints.add(PreloadManifest.LINK, link.headerValue);
+      }
+    }
+    if (hints != null) {
+      handler.writeHeaders(stream.stream, hints, false, 0, Http2CodecUtil.DEFAULT_PRIORITY_WEIGHT, false, true, null);
+    }
+  }
+
+  /**
+   * Push the {@code path} resource, the pushed request is handled by the request handler.
+   */
+  private void preloadPush(int streamId, HostAndPort authority, String path) {
+    Http2Headers headers = pushHeaders(authority, HttpMethod.GET, null, path);
+    handler.writePushPromise(streamId, headers).addListener((FutureListener<Integer>) future -> {
+      // A failed push (e.g. too many streams) is not reported, the client requests the resource when it needs it
+      if (future.isSuccess()) {
+        synchronized (Http2ServerConnection.this) {
+          Http2ServerStream stream = createStream(new DefaultHttp2Headers().setAll(headers), true);
+          initStream(future.getNow(), stream);
+          stream.onHeaders(stream.headers, null);
+          stream.onEnd();
+        }
+      }
+    });
+  }
+
+  private synchronized void doSendPush(int streamId, HostAndPort authority, HttpMethod method, MultiMap headers, String path, StreamPriority streamPriority, Promise<HttpServerResponse> promise) {
+    Http2Headers headers_ = pushHeaders(authority, method, headers, path);
     Future<Integer> fut = handler.writePushPromise(streamId, headers_);
     fut.addListener((FutureListener<Integer>) future -> {
       if (future.isSuccess()) {
@@ -53,7 +53,9 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
   protected final Http2ServerStream stream;
   protected final Http2ServerResponse response;
   private final String serverOrigin;
-  private final MultiMap headersMap;
+  private final Http2Headers headers;
+  // Created on demand, the adaptor is stateless and can be racily published
+  private MultiMap headersMap;
 
   // Accessed on context thread
   private Charset paramsCharset = StandardCharsets.UTF_8;
@@ -66,6 +68,7 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
   private Handler<HttpServerFileUpload> uploadHandler;
   private boolean expectMultipart;
   private HttpPostRequestDecoder postRequestDecoder;
+  private StreamingMultipartDecoder multipartDecoder;
   private Handler<HttpFrame> customFrameHandler;
   private Handler<StreamPriority> streamPriorityHandler;
 
@@ -77,12 +80,12 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
     this.stream = stream;
     this.response = new Http2ServerResponse(stream.conn, stream, false, contentEncoding);
     this.serverOrigin = serverOrigin;
-    this.headersMap = new Http2HeadersAdaptor(headers);
+    this.headers = headers;
   }
 
   private HttpEventHandler eventHandler(boolean create) {
     if (eventHandler == null && create) {
-      eventHandler = new HttpEventHandler(context);
+      eventHandler = new HttpEventHandler(context, stream.conn.options.getBodyAggregationOptions());
     }
     return eventHandler;
   }
@@ -109,6 +112,8 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
     synchronized (stream.conn) {
       if (postRequestDecoder != null) {
         upload = postRequestDecoder.currentPartialHttpData();
+      } else if (multipartDecoder != null) {
+        upload = multipartDecoder.currentUpload();
       }
       handler = eventHandler;
     }
@@ -143,6 +148,15 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
         postRequestDecoder = null;
         handleException(e);
       }
+    } else if (multipartDecoder != null) {
+      try {
+        multipartDecoder.offer(data);
+      } catch (HttpPostRequestDecoder.ErrorDataDecoderException |
+               HttpPostRequestDecoder.TooLongFormFieldException |
+               HttpPostRequestDecoder.TooManyFormFieldsException e) {
+        handleException(e);
+        multipartDecoder = null;
+      }
     }
     HttpEventHandler handler = eventHandler;
     if (handler != null) {
@@ -179,6 +193,14 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
           postRequestDecoder.destroy();
           postRequestDecoder = null;
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.end();
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+          handleException(e);
+        } finally {
+          multipartDecoder = null;
+        }
       }
       handler = eventHandler;
     }
@@ -338,7 +360,17 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
 
   @Override
   public MultiMap headers() {
-    return headersMap;
+    MultiMap map = headersMap;
+    if (map == null) {
+      map = new Http2HeadersAdaptor(headers);
+      headersMap = map;
+    }
+    return map;
+  }
+
+  @Override
+  public Http2Headers http2Headers() {
+    return headers;
   }
 
   @Override
@@ -396,8 +428,9 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (postRequestDecoder == null) {
-          String contentType = headersMap.get(HttpHeaderNames.CONTENT_TYPE);
+        if (postRequestDecoder == null && multipartDecoder == null) {
+          CharSequence contentTypeHeader = headers.get(HttpHeaderNames.CONTENT_TYPE);
+          String contentType = contentTypeHeader != null ? contentTypeHeader.toString() : null;
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
           }
@@ -407,20 +440,26 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
           if (!HttpUtils.isValidMultipartMethod(stream.method.toNetty())) {
             throw new IllegalStateException("Request method must be one of POST, PUT, PATCH or DELETE to decode a multipart request");
           }
-          HttpRequest req = new DefaultHttpRequest(
-            io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
-            stream.method.toNetty(),
-            stream.uri);
-          req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
           HttpServerOptions options = stream.conn.options;
-          factory.setMaxLimit(options.getMaxFormAttributeSize());
-          int maxFields = options.getMaxFormFields();
-          int maxBufferedBytes = options.getMaxFormBufferedBytes();
-          postRequestDecoder = new HttpPostRequestDecoder(factory, req, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          String boundary = options.isMultipartStreamingEnabled() ? StreamingMultipartDecoder.boundary(contentType) : null;
+          if (boundary != null) {
+            multipartDecoder = new StreamingMultipartDecoder(context, this, boundary, options, formAttributes(), () -> uploadHandler);
+          } else {
+            HttpRequest req = new DefaultHttpRequest(
+              io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
+              stream.method.toNetty(),
+              stream.uri);
+            req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
+            NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
+            factory.setMaxLimit(options.getMaxFormAttributeSize());
+            int maxFields = options.getMaxFormFields();
+            int maxBufferedBytes = options.getMaxFormBufferedBytes();
+            postRequestDecoder = new HttpPostRequestDecoder(factory, req, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          }
         }
       } else {
         postRequestDecoder = null;
+        multipartDecoder = null;
       }
     }
     return this;
@@ -459,7 +459,7 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
 
   private void prepareHeaders() {
     headers.status(status.codeAsText()); // Could be optimized for usual case ?
-    if (contentEncoding != null && headers.get(HttpHeaderNames.CONTENT_ENCODING) == null) {
+    if (contentEncoding != null && headers.get(HttpHeaderNames.CONTENT_ENCODING) == null && isCompressible()) {
       headers.set(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
     }
     // Sanitize
@@ -474,6 +474,22 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  private boolean isCompressible() {
+    CompressionPolicy policy = conn.compressionPolicy;
+    if (policy == null) {
+      return true;
+    }
+    CharSequence contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+    long length = -1L;
+    if (contentLength != null) {
+      try {
+        length = Long.parseLong(contentLength.toString());
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return policy.isCompressible(headers.get(HttpHeaderNames.CONTENT_TYPE), length);
+  }
+
   private void setCookies() {
     for (ServerCookie cookie: cookies) {
       if (cookie.isChanged()) {
@@ -493,6 +509,21 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     return promise.future();
   }
 
+  /**
+   * Check the response can still send a file, the file might have been looked up on a worker in the meantime.
+   *
+   * @return a failed future when the response cannot send the file or {@code null}
+   */
+  private Future<Void> checkSendFile() {
+    if (ended) {
+      return stream.context.failedFuture(new IllegalStateException("Response has already been written"));
+    }
+    if (headWritten) {
+      return stream.context.failedFuture(new IllegalStateException("Response head already sent"));
+    }
+    return null;
+  }
+
   private void checkValid() {
     if (ended) {
       throw new IllegalStateException("Response has already been written");
@@ -549,9 +580,54 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     synchronized (conn) {
       checkValid();
     }
+    String path = filename;
+    // The connection encoder would compress a precompressed file again
+    if (conn.options.isPrecompressedFilesSupported() && !conn.options.isCompressionSupported() && offset == 0
+      && length == Long.MAX_VALUE && headers.get(HttpHeaderNames.CONTENT_ENCODING) == null && stream.headers != null) {
+      CharSequence acceptEncoding = stream.headers.get(HttpHeaderNames.ACCEPT_ENCODING);
+      PrecompressedFile precompressed = acceptEncoding != null ? PrecompressedFile.resolve(stream.context.owner(), filename, acceptEncoding.toString()) : null;
+      if (precompressed != null) {
+        path = precompressed.filename;
+        putHeader(HttpHeaderNames.CONTENT_ENCODING, precompressed.encoding);
+        headers().add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+      }
+    }
+    if (conn.sendFileCache != null) {
+      String resolved = path;
+      return conn.sendFileCache
+        .get(stream.context, path)
+        .compose(cached -> cached != null ? sendCachedFile(cached, filename, offset, length) : sendResolvedFile(resolved, filename, offset, length));
+    }
+    return sendResolvedFile(path, filename, offset, length);
+  }
+
+  private Future<Void> sendCachedFile(SendFileCache.Entry cached, String filename, long offset, long length) {
+    long actualLength = Math.min(length, cached.length - offset);
+    if (actualLength < 0) {
+      return stream.context.failedFuture("offset : " + offset + " is larger than the requested file length : " + cached.length);
+    }
+    synchronized (conn) {
+      Future<Void> invalid = checkSendFile();
+      if (invalid != null) {
+        return invalid;
+      }
+      cached.setHeaders(filename, headers());
+    }
+    return end(cached.slice(offset, actualLength));
+  }
+
+  private Future<Void> sendResolvedFile(String path, String filename, long offset, long length) {
     return HttpUtils
-      .resolveFile(stream.context, filename, offset, length)
+      .resolveFile(stream.context, path, offset, length)
       .compose(file -> {
+        Future<Void> invalid;
+        synchronized (conn) {
+          invalid = checkSendFile();
+        }
+        if (invalid != null) {
+          file.close();
+          return invalid;
+        }
         long fileLength = file.getReadLength();
         long contentLength = Math.min(length, fileLength);
         // fail early before status code/headers are written to the response
@@ -15,19 +15,77 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
 import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.List;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class HttpChunkContentCompressor extends HttpContentCompressor {
 
+  private final CompressionPolicy policy;
+  private final HttpServerMetrics<?, ?, ?> metrics;
+  private final int saturationThreshold;
+  private final HttpChunkContentCompressor fastest;
+  private EventExecutor executor;
+  private boolean compressing;
+
   public HttpChunkContentCompressor(CompressionOptions... compressionOptions) {
+    this(null, null, 0, compressionOptions);
+  }
+
+  /**
+   * @param policy the policy skipping the responses not worth compressing or {@code null}
+   * @param metrics the metrics reporting the compressed bytes or {@code null}
+   * @param saturationThreshold the number of pending event loop tasks above which the fastest gzip/deflate level is
+   *                            used, {@code 0} disables it
+   * @param compressionOptions the compression options
+   */
+  HttpChunkContentCompressor(CompressionPolicy policy, HttpServerMetrics<?, ?, ?> metrics, int saturationThreshold, CompressionOptions... compressionOptions) {
     super(0, compressionOptions);
+    this.policy = policy;
+    this.metrics = metrics;
+    this.saturationThreshold = saturationThreshold;
+    this.fastest = saturationThreshold > 0 ? new HttpChunkContentCompressor(fastest(compressionOptions)) : null;
+  }
+
+  private static CompressionOptions[] fastest(CompressionOptions[] compressionOptions) {
+    CompressionOptions[] fastest = new CompressionOptions[compressionOptions.length];
+    for (int i = 0;i < compressionOptions.length;i++) {
+      CompressionOptions options = compressionOptions[i];
+      if (options instanceof GzipOptions) {
+        GzipOptions gzip = (GzipOptions) options;
+        options = StandardCompressionOptions.gzip(1, gzip.windowBits(), gzip.memLevel());
+      } else if (options instanceof DeflateOptions) {
+        DeflateOptions deflate = (DeflateOptions) options;
+        options = StandardCompressionOptions.deflate(1, deflate.windowBits(), deflate.memLevel());
+      }
+      fastest[i] = options;
+    }
+    return fastest;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    super.handlerAdded(ctx);
+    executor = ctx.executor();
+    if (fastest != null) {
+      fastest.handlerAdded(ctx);
+    }
   }
 
   @Override
@@ -46,12 +104,64 @@ final class HttpChunkContentCompressor extends HttpContentCompressor {
     super.write(ctx, msg, promise);
   }
 
+  @Override
+  protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+    if (metrics == null || !(msg instanceof HttpContent)) {
+      super.encode(ctx, msg, out);
+      return;
+    }
+    int index = out.size();
+    long bytesIn = ((HttpContent) msg).content().readableBytes();
+    long start = System.nanoTime();
+    super.encode(ctx, msg, out);
+    if (compressing) {
+      long nanos = System.nanoTime() - start;
+      long bytesOut = 0L;
+      for (int i = index;i < out.size();i++) {
+        Object o = out.get(i);
+        if (o instanceof HttpContent) {
+          bytesOut += ((HttpContent) o).content().readableBytes();
+        }
+      }
+      metrics.bytesCompressed(bytesIn, bytesOut, nanos);
+    }
+    if (msg instanceof LastHttpContent) {
+      compressing = false;
+    }
+  }
+
   @Override
   protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
-    Result result = super.beginEncode(httpResponse, acceptEncoding);
+    Result result;
+    if (policy != null && !policy.isCompressible(httpResponse.headers().get(HttpHeaderNames.CONTENT_TYPE), contentLength(httpResponse))) {
+      result = null;
+    } else if (fastest != null && isSaturated()) {
+      result = fastest.beginEncode(httpResponse, acceptEncoding);
+    } else {
+      result = super.beginEncode(httpResponse, acceptEncoding);
+    }
     if (result == null && httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING, "identity", true)) {
       httpResponse.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
     }
+    compressing = result != null;
     return result;
   }
+
+  private static long contentLength(HttpResponse httpResponse) {
+    if (httpResponse instanceof HttpContent) {
+      return ((HttpContent) httpResponse).content().readableBytes();
+    }
+    return HttpUtil.getContentLength(httpResponse, -1L);
+  }
+
+  private boolean isSaturated() {
+    return isSaturated(executor, saturationThreshold);
+  }
+
+  /**
+   * @return whether more tasks than {@code saturationThreshold} are pending on the {@code executor}
+   */
+  static boolean isSaturated(EventExecutor executor, int saturationThreshold) {
+    return executor instanceof SingleThreadEventExecutor && ((SingleThreadEventExecutor) executor).pendingTasks() > saturationThreshold;
+  }
 }
@@ -15,6 +15,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
@@ -22,6 +23,7 @@ import io.vertx.core.internal.http.HttpClientInternal;
 import io.vertx.core.internal.pool.ConnectionPool;
 import io.vertx.core.internal.pool.Lease;
 import io.vertx.core.net.endpoint.Endpoint;
+import io.vertx.core.net.endpoint.EndpointServer;
 import io.vertx.core.net.endpoint.impl.EndpointResolverImpl;
 import io.vertx.core.http.*;
 import io.vertx.core.net.*;
@@ -37,6 +39,7 @@ import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
@@ -112,6 +115,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
   private long timerID;
   private volatile Handler<HttpConnection> connectionHandler;
   private final Function<ContextInternal, ContextInternal> contextProvider;
+  private final RequestHedging hedging;
 
   public HttpClientImpl(VertxInternal vertx,
                         EndpointResolver endpointResolver,
@@ -121,6 +125,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
 
     this.endpointResolver = (EndpointResolverImpl) endpointResolver;
     this.poolOptions = poolOptions;
+    this.hedging = new RequestHedging(options.getHedgingOptions());
     httpCM = new ResourceManager<>();
     if (poolOptions.getCleanerPeriod() > 0 && (options.getKeepAliveTimeout() > 0L || options.getHttp2KeepAliveTimeout() > 0L)) {
       PoolChecker checker = new PoolChecker(this);
@@ -199,6 +204,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         poolOptions.getMaxWaitQueueSize(),
         poolOptions.getHttp1MaxSize(),
         poolOptions.getHttp2MaxSize(),
+        poolOptions.getConnectionSelectionPolicy(),
         connector);
     };
   }
@@ -297,8 +303,24 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return (Future) connector.httpConnect(vertx.getOrCreateContext()).map(conn -> new UnpooledHttpClientConnection(conn).init());
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options, Buffer body) {
+    if (options.isHedged() && RequestHedging.isIdempotent(options.getMethod())) {
+      return hedging.send(this, vertx.getOrCreateContext(), options, body);
+    }
+    return HttpClientInternal.super.send(options, body);
+  }
+
   @Override
   public Future<HttpClientRequest> request(RequestOptions request) {
+    return request(request, Endpoint::selectServer);
+  }
+
+  /**
+   * Create a request, the {@code serverSelector} selects the server of the endpoint with the routing key of the request
+   * when the client load balances requests.
+   */
+  Future<HttpClientRequest> request(RequestOptions request, BiFunction<Endpoint, String, EndpointServer> serverSelector) {
     Address addr = request.getServer();
     Integer port = request.getPort();
     String host = request.getHost();
@@ -325,10 +347,10 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         host = socketAddr.host();
       }
     }
-    return doRequest(addr, port, host, request);
+    return doRequest(addr, port, host, request, serverSelector);
   }
 
-  private Future<HttpClientRequest> doRequest(Address server, Integer port, String host, RequestOptions request) {
+  private Future<HttpClientRequest> doRequest(Address server, Integer port, String host, RequestOptions request, BiFunction<Endpoint, String, EndpointServer> serverSelector) {
     if (server == null) {
       throw new NullPointerException();
     }
@@ -369,7 +391,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       authority = null;
     }
     ClientSSLOptions sslOptions = sslOptions(request);
-    return doRequest(request.getRoutingKey(), method, authority, server, useSSL, requestURI, headers, request.getTraceOperation(), connectTimeout, idleTimeout, followRedirects, sslOptions, request.getProxyOptions());
+    return doRequest(request.getRoutingKey(), method, authority, server, useSSL, requestURI, headers, request.getTraceOperation(), connectTimeout, idleTimeout, followRedirects, sslOptions, request.getProxyOptions(), serverSelector);
   }
 
   private Future<HttpClientRequest> doRequest(
@@ -385,14 +407,15 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     long idleTimeout,
     Boolean followRedirects,
     ClientSSLOptions sslOptions,
-    ProxyOptions proxyConfig) {
+    ProxyOptions proxyConfig,
+    BiFunction<Endpoint, String, EndpointServer> serverSelector) {
     ContextInternal streamCtx = vertx.getOrCreateContext();
     Future<ConnectionObtainedResult> future;
     if (endpointResolver != null) {
       PromiseInternal<Endpoint> promise = vertx.promise();
       endpointResolver.lookupEndpoint(server, promise);
       future = promise.future()
-        .map(endpoint -> endpoint.selectServer(routingKey))
+        .map(endpoint -> serverSelector.apply(endpoint, routingKey))
         .compose(lookup -> {
         SocketAddress address = lookup.address();
         ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, address);
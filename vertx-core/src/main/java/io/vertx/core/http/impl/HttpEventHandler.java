@@ -10,11 +10,17 @@
  */
 package io.vertx.core.http.impl;
 
+import io.netty.handler.codec.http.TooLongHttpContentException;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.BodyAggregationOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * All HTTP event related handlers.
@@ -22,15 +28,26 @@ import io.vertx.core.internal.ContextInternal;
 class HttpEventHandler {
 
   final ContextInternal context;
+  private final BodyAggregationOptions aggregation;
   private Handler<Buffer> chunkHandler;
   private Handler<Void> endHandler;
   private Handler<Throwable> exceptionHandler;
   private Buffer body;
+  private List<Buffer> chunks;
+  private long bodySize;
   private Promise<Buffer> bodyPromise;
   private Promise<Void> endPromise;
 
   HttpEventHandler(ContextInternal context) {
+    this(context, null);
+  }
+
+  /**
+   * @param aggregation the options retaining the body chunks instead of copying them or {@code null}
+   */
+  HttpEventHandler(ContextInternal context, BodyAggregationOptions aggregation) {
     this.context = context;
+    this.aggregation = aggregation;
   }
 
   void chunkHandler(Handler<Buffer> handler) {
@@ -52,17 +69,45 @@ class HttpEventHandler {
     }
     if (body != null) {
       body.appendBuffer(chunk);
+    } else if (chunks != null) {
+      bodySize += chunk.length();
+      long maxSize = aggregation.getMaxSize();
+      if (maxSize >= 0 && bodySize > maxSize) {
+        chunks = null;
+        bodyPromise.tryFail(new TooLongHttpContentException("Body size exceeds " + maxSize + " bytes"));
+      } else {
+        chunks.add(chunk);
+      }
     }
   }
 
   Future<Buffer> body() {
-    if (body == null) {
-      body = Buffer.buffer();
+    if (bodyPromise == null) {
+      if (aggregation != null) {
+        chunks = new ArrayList<>();
+      } else {
+        body = Buffer.buffer();
+      }
       bodyPromise = context.promise();
     }
     return bodyPromise.future();
   }
 
+  private Buffer aggregate() {
+    List<Buffer> list = chunks;
+    if (list.size() == 1) {
+      return list.get(0);
+    }
+    if (bodySize <= aggregation.getCopyThreshold()) {
+      Buffer copy = Buffer.buffer((int) bodySize);
+      for (Buffer chunk : list) {
+        copy.appendBuffer(chunk);
+      }
+      return copy;
+    }
+    return BufferInternal.composite(list);
+  }
+
   Future<Void> end() {
     if (endPromise == null) {
       endPromise = context.promise();
@@ -76,7 +121,11 @@ class HttpEventHandler {
       context.dispatch(handler);
     }
     if (bodyPromise != null) {
-      bodyPromise.tryComplete(body);
+      if (chunks != null) {
+        bodyPromise.tryComplete(aggregate());
+      } else {
+        bodyPromise.tryComplete(body);
+      }
     }
     if (endPromise != null) {
       endPromise.tryComplete();
@@ -11,8 +11,12 @@
 
 package io.vertx.core.http.impl;
 
-import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
 import io.netty.handler.codec.http.websocketx.extensions.compression.DeflateFrameServerExtensionHandshaker;
@@ -64,7 +68,7 @@ class HttpServerConnectionHandler implements Handler<HttpServerConnection> {
       if (conn instanceof Http1xServerConnection) {
         requestHandler =  new Http1xServerRequestHandler(this);
         Http1xServerConnection c = (Http1xServerConnection) conn;
-        initializeWebSocketExtensions(c.channelHandlerContext().pipeline());
+        initializeWebSocketExtensions(c);
       }
     }
     conn.exceptionHandler(exceptionHandler);
@@ -84,7 +88,7 @@ class HttpServerConnectionHandler implements Handler<HttpServerConnection> {
     }
   }
 
-  private void initializeWebSocketExtensions(ChannelPipeline pipeline) {
+  private void initializeWebSocketExtensions(Http1xServerConnection conn) {
     ArrayList<WebSocketServerExtensionHandshaker> extensionHandshakers = new ArrayList<>();
     if (server.options.getPerFrameWebSocketCompressionSupported()) {
       extensionHandshakers.add(new DeflateFrameServerExtensionHandshaker(server.options.getWebSocketCompressionLevel()));
@@ -95,9 +99,19 @@ class HttpServerConnectionHandler implements Handler<HttpServerConnection> {
         server.options.getWebSocketAllowServerNoContext(), server.options.getWebSocketPreferredClientNoContext()));
     }
     if (!extensionHandshakers.isEmpty()) {
+      int compressionLevel = server.options.getWebSocketCompressionLevel();
       WebSocketServerExtensionHandler extensionHandler = new WebSocketServerExtensionHandler(
-        extensionHandshakers.toArray(new WebSocketServerExtensionHandshaker[0]));
-      pipeline.addBefore("handler", "webSocketExtensionHandler", extensionHandler);
+        extensionHandshakers.toArray(new WebSocketServerExtensionHandshaker[0])) {
+        @Override
+        protected void onHttpResponseWrite(ChannelHandlerContext ctx, HttpResponse response, ChannelPromise promise) throws Exception {
+          super.onHttpResponseWrite(ctx, response, promise);
+          if (response.status().code() == HttpResponseStatus.SWITCHING_PROTOCOLS.code()) {
+            // Keep the negotiated extension for the broadcasts sharing compressed frames
+            conn.webSocketCompression(WebSocketCompression.negotiated(compressionLevel, response.headers().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)));
+          }
+        }
+      };
+      conn.channelHandlerContext().pipeline().addBefore("handler", "webSocketExtensionHandler", extensionHandler);
     }
   }
 }
@@ -53,6 +53,11 @@ class HttpServerConnectionInitializer {
   private final Object metric;
   private final CompressionOptions[] compressionOptions;
   private final Function<String, String> encodingDetector;
+  private final SendFileCache sendFileCache;
+  private final CompressedResponseCache compressedResponseCache;
+  private final CompressionPolicy compressionPolicy;
+  private final CachedResponseHeaders cachedResponseHeaders;
+  private final PreloadManifest preloadManifest;
 
   HttpServerConnectionInitializer(ContextInternal context,
                                   Supplier<ContextInternal> streamContextSupplier,
@@ -62,18 +67,13 @@ class HttpServerConnectionInitializer {
                                   String serverOrigin,
                                   Handler<HttpServerConnection> connectionHandler,
                                   Handler<Throwable> exceptionHandler,
-                                  Object metric) {
+                                  Object metric,
+                                  SendFileCache sendFileCache,
+                                  CompressedResponseCache compressedResponseCache,
+                                  CachedResponseHeaders cachedResponseHeaders,
+                                  PreloadManifest preloadManifest) {
 
-    CompressionOptions[] compressionOptions = null;
-    if (options.isCompressionSupported()) {
-      List<CompressionOptions> compressors = options.getCompressors();
-      if (compressors == null) {
-        int compressionLevel = options.getCompressionLevel();
-        compressionOptions = new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
-      } else {
-        compressionOptions = compressors.toArray(new CompressionOptions[0]);
-      }
-    }
+    CompressionOptions[] compressionOptions = compressionOptions(options);
 
     this.context = context;
     this.streamContextSupplier = streamContextSupplier;
@@ -87,9 +87,30 @@ class HttpServerConnectionInitializer {
     this.exceptionHandler = exceptionHandler;
     this.metric = metric;
     this.compressionOptions = compressionOptions;
+    this.sendFileCache = sendFileCache;
+    this.compressedResponseCache = compressedResponseCache;
+    this.cachedResponseHeaders = cachedResponseHeaders;
+    this.preloadManifest = preloadManifest;
+    this.compressionPolicy = compressionOptions != null ? CompressionPolicy.create(options) : null;
     this.encodingDetector = compressionOptions != null ? new EncodingDetector(compressionOptions)::determineEncoding : null;
   }
 
+  /**
+   * @return the compression options of the server or {@code null} when the server does not compress the responses
+   */
+  static CompressionOptions[] compressionOptions(HttpServerOptions options) {
+    if (!options.isCompressionSupported()) {
+      return null;
+    }
+    List<CompressionOptions> compressors = options.getCompressors();
+    if (compressors == null) {
+      int compressionLevel = options.getCompressionLevel();
+      return new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
+    } else {
+      return compressors.toArray(new CompressionOptions[0]);
+    }
+  }
+
   void configurePipeline(Channel ch, SslChannelProvider sslChannelProvider, SslContextManager sslContextManager) {
     ChannelPipeline pipeline = ch.pipeline();
     if (options.isSsl()) {
@@ -192,7 +213,7 @@ class HttpServerConnectionInitializer {
       .useDecompression(options.isDecompressionSupported())
       .initialSettings(options.getInitialSettings())
       .connectionFactory(connHandler -> {
-        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, options, metrics);
+        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, compressionPolicy, options, metrics, sendFileCache, preloadManifest);
         conn.metric(metric);
         return conn;
       })
@@ -202,6 +223,9 @@ class HttpServerConnectionInitializer {
       if (options.getHttp2ConnectionWindowSize() > 0) {
         conn.setWindowSize(options.getHttp2ConnectionWindowSize());
       }
+      if (options.isHttp2AdaptiveWindowSize()) {
+        conn.adaptiveWindowSize(options.getHttp2MaxAdaptiveWindowSize());
+      }
       handler_.handle(conn);
     });
     return handler;
@@ -236,7 +260,8 @@ class HttpServerConnectionInitializer {
       pipeline.addBefore(name, "inflater", new HttpContentDecompressor(false));
     }
     if (options.isCompressionSupported()) {
-      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionOptions));
+      HttpServerMetrics metrics = (HttpServerMetrics) server.getMetrics();
+      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionPolicy, metrics, options.getCompressionSaturationThreshold(), compressionOptions));
     }
   }
 
@@ -254,7 +279,11 @@ class HttpServerConnectionInitializer {
         chctx,
         context,
         serverOrigin,
-        metrics);
+        metrics,
+        sendFileCache,
+        compressedResponseCache,
+        cachedResponseHeaders != null ? cachedResponseHeaders.get(chctx.executor()) : null,
+        preloadManifest);
       conn.metric(metric);
       return conn;
     });
@@ -263,9 +292,9 @@ class HttpServerConnectionInitializer {
     connectionHandler.handle(conn);
   }
 
-  private static class EncodingDetector extends HttpContentCompressor {
+  static class EncodingDetector extends HttpContentCompressor {
 
-    private EncodingDetector(CompressionOptions[] compressionOptions) {
+    EncodingDetector(CompressionOptions[] compressionOptions) {
       super(compressionOptions);
     }
 
@@ -181,6 +181,11 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
     } else {
       listenContext = vertx.createEventLoopContext(context.nettyEventLoop(), context.workerPool(), context.classLoader());
     }
+    PreloadManifest preloadManifest = PreloadManifest.create(options);
+    SendFileCache sendFileCache = options.getSendFileCacheOptions() != null ? new SendFileCache(vertx, options.getSendFileCacheOptions()) : null;
+    CompressedResponseCache compressedResponseCache = options.isCompressionSupported() && options.getCompressedResponseCacheOptions() != null ?
+      new CompressedResponseCache(options.getCompressedResponseCacheOptions(), HttpServerConnectionInitializer.compressionOptions(options), CompressionPolicy.create(options)) : null;
+    CachedResponseHeaders cachedResponseHeaders = CachedResponseHeaders.create(options);
     NetServerInternal server = vertx.createNetServer(tcpOptions);
     Handler<Throwable> h = exceptionHandler;
     Handler<Throwable> exceptionHandler = h != null ? h : DEFAULT_EXCEPTION_HANDLER;
@@ -207,11 +212,15 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
         serverOrigin,
         handler,
         exceptionHandler,
-        soi.metric());
+        soi.metric(),
+        sendFileCache,
+        compressedResponseCache,
+        cachedResponseHeaders,
+        preloadManifest);
       initializer.configurePipeline(soi.channel(), null, null);
     });
     tcpServer = server;
-    closeSequence = new CloseSequence(p -> doClose(server, p), p -> doShutdown(server, p ));
+    closeSequence = new CloseSequence(p -> doClose(server, sendFileCache, compressedResponseCache, cachedResponseHeaders, p), p -> doShutdown(server, p ));
     Promise<HttpServer> result = context.promise();
     tcpServer.listen(listenContext, address).onComplete(ar -> {
       if (ar.succeeded()) {
@@ -227,7 +236,17 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
     netServer.shutdown(closeTimeout, closeTimeoutUnit).onComplete(p);
   }
 
-  private void doClose(NetServer netServer, Promise<Void> p) {
+  private void doClose(NetServer netServer, SendFileCache sendFileCache, CompressedResponseCache compressedResponseCache,
+                       CachedResponseHeaders cachedResponseHeaders, Promise<Void> p) {
+    if (sendFileCache != null) {
+      sendFileCache.clear();
+    }
+    if (compressedResponseCache != null) {
+      compressedResponseCache.clear();
+    }
+    if (cachedResponseHeaders != null) {
+      cachedResponseHeaders.close();
+    }
     netServer.close().onComplete(p);
   }
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.internal.pool.Lease;
+import io.vertx.core.internal.pool.PoolConnection;
+import io.vertx.core.internal.pool.PoolWaiter;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Tracks the in-flight depth and the latency of the connections of an endpoint to schedule the requests.
+ *
+ * <p> The latency of a connection is the exponentially weighted moving average of the service time of its responses.
+ * The service time of a response starts when its request is scheduled. On a pipelined HTTP/1.x connection, where the
+ * responses end in the order of their requests, it starts instead when the previous response ends, so it does not
+ * include the time spent waiting behind the previous responses. The streams of an HTTP/2 connection are served
+ * concurrently and end in any order, their service time is the whole response time.
+ *
+ * <p> The {@link #selector() selector} routes a request to the connection with the lowest expected completion time,
+ * that is its latency times its depth plus one: a request is not pipelined behind a slow response when another
+ * connection can serve it sooner. A connection without latency sample is assumed to have the average latency of the
+ * other connections.
+ *
+ * <p> When a {@link HttpClientMetrics} is provided, the number of requests in-flight on the connections of the endpoint
+ * is reported with {@link HttpClientMetrics#pipelineDepth(ClientMetrics, int)}.
+ */
+class PipeliningScheduler {
+
+  private static final double WEIGHT = 0.2D;
+
+  private final ConcurrentMap<HttpClientConnectionInternal, Stats> stats = new ConcurrentHashMap<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final HttpClientMetrics metrics;
+  private final ClientMetrics endpointMetric;
+  private final boolean pipelining;
+
+  /**
+   * @param pipelining whether the HTTP/1.x requests are pipelined
+   */
+  PipeliningScheduler(HttpClientMetrics metrics, ClientMetrics endpointMetric, boolean pipelining) {
+    this.metrics = metrics;
+    this.endpointMetric = endpointMetric;
+    this.pipelining = pipelining;
+  }
+
+  void register(HttpClientConnectionInternal connection) {
+    stats.put(connection, new Stats(pipelining && connection instanceof Http1xClientConnection));
+  }
+
+  void unregister(HttpClientConnectionInternal connection) {
+    stats.remove(connection);
+  }
+
+  /**
+   * @return the latency moving average of {@code connection} in nanoseconds, {@code 0} when unknown
+   */
+  double latency(HttpClientConnectionInternal connection) {
+    Stats s = stats.get(connection);
+    return s != null ? s.latency : 0D;
+  }
+
+  /**
+   * Track a lease obtained from the pool.
+   *
+   * @return the lease to use instead
+   */
+  Lease<HttpClientConnectionInternal> track(Lease<HttpClientConnectionInternal> lease) {
+    Stats s = stats.get(lease.get());
+    if (s == null) {
+      return lease;
+    }
+    reportDepth(depth.incrementAndGet());
+    return new TrackedLease(lease, s);
+  }
+
+  private void reportDepth(int value) {
+    if (metrics != null) {
+      metrics.pipelineDepth(endpointMetric, value);
+    }
+  }
+
+  BiFunction<PoolWaiter<HttpClientConnectionInternal>, List<PoolConnection<HttpClientConnectionInternal>>, PoolConnection<HttpClientConnectionInternal>> selector() {
+    return (waiter, list) -> {
+      int size = list.size();
+      double sum = 0D;
+      int known = 0;
+      for (int i = 0;i < size;i++) {
+        PoolConnection<HttpClientConnectionInternal> candidate = list.get(i);
+        if (candidate.available() > 0) {
+          double latency = latency(candidate.get());
+          if (latency > 0D) {
+            sum += latency;
+            known++;
+          }
+        }
+      }
+      // Without samples, compare the depths only
+      double average = known > 0 ? sum / known : 1D;
+      PoolConnection<HttpClientConnectionInternal> selected = null;
+      double min = Double.MAX_VALUE;
+      for (int i = 0;i < size;i++) {
+        PoolConnection<HttpClientConnectionInternal> candidate = list.get(i);
+        if (candidate.available() > 0) {
+          double latency = latency(candidate.get());
+          double cost = (latency > 0D ? latency : average) * (candidate.usage() + 1);
+          if (selected == null || cost < min) {
+            selected = candidate;
+            min = cost;
+          }
+        }
+      }
+      return selected;
+    };
+  }
+
+  private static class Stats {
+
+    private final boolean ordered;
+    private volatile double latency;
+    private long lastEnd = Long.MIN_VALUE; // The end of the last response
+
+    /**
+     * @param ordered whether the responses end in the order of their requests
+     */
+    Stats(boolean ordered) {
+      this.ordered = ordered;
+    }
+
+    /**
+     * Record the end of a response.
+     *
+     * @param start the time the request was scheduled
+     * @param end the time the response ended
+     */
+    synchronized void record(long start, long end) {
+      long nanos;
+      if (ordered) {
+        // A pipelined response is only served once the previous one ended
+        nanos = end - Math.max(start, lastEnd);
+        lastEnd = end;
+      } else {
+        nanos = end - start;
+      }
+      double current = latency;
+      latency = current == 0D ? nanos : current + WEIGHT * (nanos - current);
+    }
+  }
+
+  private class TrackedLease implements Lease<HttpClientConnectionInternal> {
+
+    private final Lease<HttpClientConnectionInternal> lease;
+    private final Stats stats;
+    private final long start;
+
+    TrackedLease(Lease<HttpClientConnectionInternal> lease, Stats stats) {
+      this.lease = lease;
+      this.stats = stats;
+      this.start = System.nanoTime();
+    }
+
+    @Override
+    public HttpClientConnectionInternal get() {
+      return lease.get();
+    }
+
+    @Override
+    public void recycle() {
+      stats.record(start, System.nanoTime());
+      reportDepth(depth.decrementAndGet());
+      lease.recycle();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.internal.VertxInternal;
+
+/**
+ * The precompressed sibling of a file sent by the server, e.g. {@code app.js.br} for {@code app.js}.
+ */
+final class PrecompressedFile {
+
+  // In order of preference
+  private static final String[] ENCODINGS = { "br", "zstd", "gzip" };
+  private static final String[] EXTENSIONS = { ".br", ".zst", ".gz" };
+
+  final String filename;
+  final String encoding;
+
+  private PrecompressedFile(String filename, String encoding) {
+    this.filename = filename;
+    this.encoding = encoding;
+  }
+
+  /**
+   * Resolve the preferred sibling of {@code filename} accepted by the client.
+   *
+   * @param vertx the instance resolving the files
+   * @param filename the file name
+   * @param acceptEncoding the value of the request {@code Accept-Encoding} header
+   * @return the sibling or {@code null} when the client does not accept the encoding of an existing sibling
+   */
+  static PrecompressedFile resolve(VertxInternal vertx, String filename, String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return null;
+    }
+    for (int i = 0;i < ENCODINGS.length;i++) {
+      if (accepts(acceptEncoding, ENCODINGS[i])) {
+        String sibling = filename + EXTENSIONS[i];
+        if (vertx.resolveFile(sibling).isFile()) {
+          return new PrecompressedFile(sibling, ENCODINGS[i]);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return whether {@code acceptEncoding} accepts {@code encoding} with a non zero quality value
+   */
+  static boolean accepts(String acceptEncoding, String encoding) {
+    boolean wildcard = false;
+    for (String element : acceptEncoding.split(",")) {
+      int idx = element.indexOf(';');
+      String coding = (idx == -1 ? element : element.substring(0, idx)).trim();
+      boolean accepted = idx == -1 || quality(element.substring(idx + 1)) > 0F;
+      if (coding.equalsIgnoreCase(encoding)) {
+        return accepted;
+      } else if (coding.equals("*")) {
+        wildcard = accepted;
+      }
+    }
+    return wildcard;
+  }
+
+  private static float quality(String params) {
+    for (String param : params.split(";")) {
+      param = param.trim();
+      if (param.startsWith("q=")) {
+        try {
+          return Float.parseFloat(param.substring(2));
+        } catch (NumberFormatException ignore) {
+          return 0F;
+        }
+      }
+    }
+    return 1F;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.util.AsciiString;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.PreloadLink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The links preloaded by a server, indexed by request path, see {@link HttpServerOptions#addPreloadLink(PreloadLink)}.
+ */
+class PreloadManifest {
+
+  static final AsciiString LINK = AsciiString.cached("link");
+
+  /**
+   * @return the manifest of the {@code options} links or {@code null} when none is configured
+   */
+  static PreloadManifest create(HttpServerOptions options) {
+    List<PreloadLink> links = options.getPreloadLinks();
+    if (links == null || links.isEmpty()) {
+      return null;
+    }
+    Map<String, List<Link>> map = new HashMap<>();
+    for (PreloadLink link : links) {
+      if (link.getPath() == null || link.getUri() == null) {
+        throw new IllegalArgumentException("A preload link must have a path and an URI");
+      }
+      map.computeIfAbsent(link.getPath(), path -> new ArrayList<>()).add(new Link(link));
+    }
+    return new PreloadManifest(map);
+  }
+
+  /**
+   * A resource to preload.
+   */
+  static final class Link {
+
+    final String uri;
+    final boolean push;
+    final AsciiString headerValue;
+
+    private Link(PreloadLink link) {
+      StringBuilder sb = new StringBuilder().append('<').append(link.getUri()).append(">; rel=preload");
+      if (link.getAs() != null) {
+        sb.append("; as=").append(link.getAs());
+      }
+      if (link.getType() != null) {
+        sb.append("; type=\"").append(link.getType()).append('"');
+      }
+      this.uri = link.getUri();
+      this.push = link.isPush();
+      this.headerValue = AsciiString.cached(sb.toString());
+    }
+  }
+
+  private final Map<String, List<Link>> links;
+
+  private PreloadManifest(Map<String, List<Link>> links) {
+    this.links = links;
+  }
+
+  /**
+   * @return a new state tracking the links sent by a connection
+   */
+  ConnectionState connectionState() {
+    return new ConnectionState();
+  }
+
+  /**
+   * The links sent by a connection, this class is not thread safe, it is accessed from the connection event-loop.
+   */
+  class ConnectionState {
+
+    private Set<String> sent;
+
+    private ConnectionState() {
+    }
+
+    /**
+     * Select the links of {@code path} not sent yet by the connection, they are then considered as sent.
+     *
+     * @return the links to send
+     */
+    List<Link> select(String path) {
+      List<Link> candidates = path != null ? links.get(path) : null;
+      if (candidates == null) {
+        return Collections.emptyList();
+      }
+      if (sent == null) {
+        sent = new HashSet<>();
+      }
+      List<Link> selected = null;
+      for (Link link : candidates) {
+        if (sent.add(link.uri)) {
+          if (selected == null) {
+            selected = new ArrayList<>(candidates.size());
+          }
+          selected.add(link);
+        }
+      }
+      return selected != null ? selected : Collections.emptyList();
+    }
+  }
+}
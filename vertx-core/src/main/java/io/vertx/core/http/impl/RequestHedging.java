@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HedgingOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.net.endpoint.Endpoint;
+import io.vertx.core.net.endpoint.EndpointServer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hedging state of a client: the response times the hedging delay is computed from and the retry budget.
+ * <p>
+ * The delay is the percentile of the last {@link #SAMPLES} response times, computed again every {@link #REFRESH}
+ * response times. The response time of a hedged request is measured from its first attempt, so a request answered by
+ * its second attempt counts for more than the delay and the percentile does not drift down.
+ */
+class RequestHedging {
+
+  static final int SAMPLES = 128;
+  static final int REFRESH = 16;
+
+  static boolean isIdempotent(HttpMethod method) {
+    return method == HttpMethod.GET
+      || method == HttpMethod.HEAD
+      || method == HttpMethod.OPTIONS
+      || method == HttpMethod.TRACE
+      || method == HttpMethod.PUT
+      || method == HttpMethod.DELETE;
+  }
+
+  private final double percentile;
+  private final double budgetRatio;
+  private final int budgetCapacity;
+  private final long[] samples = new long[SAMPLES];
+  private int numberOfSamples;
+  private int position;
+  private long delay;
+  private double tokens;
+
+  RequestHedging(HedgingOptions options) {
+    this.percentile = options.getPercentile();
+    this.budgetRatio = options.getBudgetRatio();
+    this.budgetCapacity = options.getBudgetCapacity();
+    this.delay = options.getDelay();
+    this.tokens = budgetCapacity;
+  }
+
+  /**
+   * @return the delay in milliseconds after which a request is hedged
+   */
+  synchronized long delay() {
+    return delay;
+  }
+
+  /**
+   * Record the response time of a request.
+   *
+   * @param nanos the response time in nanoseconds
+   */
+  synchronized void recordResponseTime(long nanos) {
+    samples[position] = nanos;
+    position = (position + 1) % SAMPLES;
+    if (numberOfSamples < SAMPLES) {
+      numberOfSamples++;
+    }
+    if (numberOfSamples >= REFRESH && position % REFRESH == 0) {
+      long[] sorted = Arrays.copyOf(samples, numberOfSamples);
+      Arrays.sort(sorted);
+      int idx = Math.min(numberOfSamples - 1, (int) Math.ceil(percentile * numberOfSamples) - 1);
+      delay = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, idx)]));
+    }
+  }
+
+  /**
+   * Deposit a fraction of a token in the budget for a request.
+   */
+  synchronized void deposit() {
+    tokens = Math.min(budgetCapacity, tokens + budgetRatio);
+  }
+
+  /**
+   * Withdraw a token from the budget for a second attempt.
+   *
+   * @return whether the budget had a token
+   */
+  synchronized boolean withdraw() {
+    if (tokens >= 1D) {
+      tokens -= 1D;
+      return true;
+    }
+    return false;
+  }
+
+  Future<HttpClientResponse> send(HttpClientImpl client, ContextInternal context, RequestOptions options, Buffer body) {
+    deposit();
+    HedgedRequest request = new HedgedRequest(client, context, options, body, System.nanoTime());
+    request.timerId = context.setTimer(delay(), id -> request.hedge());
+    request.attempt();
+    return request.promise.future();
+  }
+
+  /**
+   * A request sent at most twice, the first response received wins and the other request is reset.
+   */
+  private class HedgedRequest {
+
+    private final HttpClientImpl client;
+    private final ContextInternal context;
+    private final RequestOptions options;
+    private final Buffer body;
+    private final PromiseInternal<HttpClientResponse> promise;
+    private final long start;
+    private final List<HttpClientRequest> requests = new ArrayList<>(2);
+    private EndpointServer selected;
+    private long timerId;
+    private int pending;
+    private boolean hedged;
+    private boolean done;
+
+    HedgedRequest(HttpClientImpl client, ContextInternal context, RequestOptions options, Buffer body, long start) {
+      this.client = client;
+      this.context = context;
+      this.options = options;
+      this.body = body;
+      this.promise = context.promise();
+      this.start = start;
+    }
+
+    /**
+     * Select a server, avoiding the server selected by the first attempt for the second attempt.
+     */
+    private EndpointServer select(Endpoint endpoint, String routingKey) {
+      EndpointServer excluded;
+      synchronized (this) {
+        excluded = selected;
+      }
+      EndpointServer server = endpoint.selectServer(routingKey);
+      if (excluded != null && server == excluded) {
+        List<EndpointServer> servers = endpoint.servers();
+        if (servers.size() > 1) {
+          server = endpoint.selectServer();
+          if (server == excluded) {
+            int idx = servers.indexOf(excluded);
+            server = servers.get((idx + 1) % servers.size());
+          }
+        }
+      }
+      synchronized (this) {
+        if (selected == null) {
+          selected = server;
+        }
+      }
+      return server;
+    }
+
+    void attempt() {
+      synchronized (this) {
+        pending++;
+      }
+      client.request(options, this::select).onComplete(ar -> {
+        if (ar.failed()) {
+          failed(ar.cause());
+          return;
+        }
+        HttpClientRequest request = ar.result();
+        boolean late;
+        synchronized (this) {
+          late = done;
+          if (!late) {
+            requests.add(request);
+          }
+        }
+        if (late) {
+          request.reset();
+          return;
+        }
+        Future<HttpClientResponse> fut = body != null ? request.send(body) : request.send();
+        fut.onComplete(ar2 -> {
+          if (ar2.succeeded()) {
+            succeeded(request, ar2.result());
+          } else {
+            failed(ar2.cause());
+          }
+        });
+      });
+    }
+
+    /**
+     * Send the second attempt when the budget allows it.
+     */
+    void hedge() {
+      synchronized (this) {
+        if (done || hedged) {
+          return;
+        }
+        hedged = true;
+      }
+      if (withdraw()) {
+        attempt();
+      }
+    }
+
+    private void succeeded(HttpClientRequest winner, HttpClientResponse response) {
+      List<HttpClientRequest> losers;
+      synchronized (this) {
+        pending--;
+        if (done) {
+          losers = null;
+        } else {
+          done = true;
+          losers = new ArrayList<>(requests);
+          losers.remove(winner);
+        }
+      }
+      if (losers == null) {
+        winner.reset();
+        return;
+      }
+      context.owner().cancelTimer(timerId);
+      recordResponseTime(System.nanoTime() - start);
+      for (HttpClientRequest loser : losers) {
+        loser.reset();
+      }
+      promise.complete(response);
+    }
+
+    private void failed(Throwable cause) {
+      boolean retry;
+      synchronized (this) {
+        if (--pending > 0 || done) {
+          return;
+        }
+        retry = !hedged;
+        hedged = true;
+      }
+      // Send the second attempt now when the first attempt failed before the delay
+      if (retry && withdraw()) {
+        context.owner().cancelTimer(timerId);
+        attempt();
+        return;
+      }
+      synchronized (this) {
+        done = true;
+      }
+      promise.fail(cause);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.SendFileCacheOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An in-memory cache of small files sent by the HTTP server.
+ *
+ * <p> A cached file is read once into a heap buffer, the buffer is shared by the responses sending it. Responses in
+ * progress may still write an evicted buffer, a heap buffer is reclaimed by the garbage collector once they are done
+ * instead of requiring an explicit release.
+ *
+ * <p> Files are resolved with {@link VertxInternal#resolveFile(String)}, the entries are checked against the file
+ * modification time and length at most once per revalidation interval. Loading and checking a file are blocking
+ * operations done on a worker. Files that cannot be cached, e.g. too large or missing, are remembered for a
+ * revalidation interval so they are not checked on each send.
+ */
+class SendFileCache {
+
+  private static final int MAX_UNCACHEABLE = 1024;
+
+  private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter
+    .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+    .withZone(ZoneOffset.UTC);
+
+  private final VertxInternal vertx;
+  private final long maxSize;
+  private final int maxEntrySize;
+  private final long revalidationInterval;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // The time files that cannot be cached were checked
+  private final LinkedHashMap<String, Long> uncacheable = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+      return size() > MAX_UNCACHEABLE;
+    }
+  };
+  private long size;
+
+  SendFileCache(VertxInternal vertx, SendFileCacheOptions options) {
+    this.vertx = vertx;
+    this.maxSize = options.getMaxSize();
+    this.maxEntrySize = options.getMaxEntrySize();
+    this.revalidationInterval = options.getRevalidationInterval() * 1_000_000L;
+  }
+
+  /**
+   * Get the cached content of a file, the file is loaded on a worker when it is absent or must be revalidated.
+   *
+   * @param context the context of the send
+   * @param filename the file name
+   * @return the entry or {@code null} when the file cannot be cached, e.g. it is too large or does not exist
+   */
+  Future<Entry> get(ContextInternal context, String filename) {
+    long now = System.nanoTime();
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(filename);
+      if (entry == null) {
+        Long checkedAt = uncacheable.get(filename);
+        if (checkedAt != null && now - checkedAt < revalidationInterval) {
+          return context.succeededFuture();
+        }
+      }
+    }
+    if (entry != null && now - entry.checkedAt < revalidationInterval) {
+      return context.succeededFuture(entry);
+    }
+    return context.executeBlockingInternal(() -> load(filename, entry, now));
+  }
+
+  /**
+   * Check and load a file, this is blocking.
+   */
+  private Entry load(String filename, Entry entry, long now) {
+    File file = vertx.resolveFile(filename);
+    long lastModified = file.lastModified();
+    long length = file.length();
+    if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+      entry.checkedAt = now;
+      return entry;
+    }
+    Entry loaded = null;
+    if (length <= maxEntrySize && file.isFile()) {
+      try {
+        loaded = load(file, lastModified, length, now);
+      } catch (IOException ignore) {
+        // Let the regular send report the failure
+      }
+    }
+    synchronized (this) {
+      if (loaded != null) {
+        uncacheable.remove(filename);
+      } else {
+        uncacheable.put(filename, now);
+      }
+      Entry removed = loaded != null ? entries.put(filename, loaded) : entries.remove(filename);
+      if (removed != null) {
+        size -= removed.length;
+      }
+      if (loaded != null) {
+        size += loaded.length;
+        Iterator<Entry> it = entries.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+          Entry eldest = it.next();
+          it.remove();
+          size -= eldest.length;
+        }
+      }
+    }
+    return loaded;
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    uncacheable.clear();
+    size = 0L;
+  }
+
+  private static Entry load(File file, long lastModified, long length, long now) throws IOException {
+    byte[] content = new byte[(int) length];
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      raf.readFully(content);
+    } catch (EOFException e) {
+      // Truncated concurrently
+      return null;
+    }
+    return new Entry(Unpooled.wrappedBuffer(content), lastModified, now);
+  }
+
+  /**
+   * A cached file with its precomputed headers.
+   */
+  static class Entry {
+
+    private final ByteBuf content;
+    final long length;
+    final long lastModified;
+    final String etag;
+    final String lastModifiedDate;
+    volatile long checkedAt;
+
+    private Entry(ByteBuf content, long lastModified, long checkedAt) {
+      this.content = content;
+      this.length = content.readableBytes();
+      this.lastModified = lastModified;
+      this.etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+      this.lastModifiedDate = HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(lastModified));
+      this.checkedAt = checkedAt;
+    }
+
+    /**
+     * Set the {@code Content-Type}, {@code ETag} and {@code Last-Modified} headers of the file when they are absent.
+     */
+    void setHeaders(String filename, MultiMap headers) {
+      if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+        String contentType = MimeMapping.getMimeTypeForFilename(filename);
+        if (contentType != null) {
+          headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+      }
+      if (!headers.contains(HttpHeaders.ETAG)) {
+        headers.set(HttpHeaders.ETAG, etag);
+      }
+      if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+        headers.set(HttpHeaders.LAST_MODIFIED, lastModifiedDate);
+      }
+    }
+
+    /**
+     * @return a buffer sharing the {@code [offset, offset + length[} range of the content
+     */
+    Buffer slice(long offset, long length) {
+      return BufferInternal.buffer(content.slice((int) offset, (int) length));
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.concurrent.FutureListener;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.ServerWebSocketGroup;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.internal.buffer.VertxByteBufAllocator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Broadcast messages encoded once to a group of server WebSockets.
+ * <p>
+ * Server frames are not masked, so the bytes of a frame are the same for all the WebSockets and a single encoded
+ * frame is written to the channels, below the frame encoders. A compressed frame has the {@code RSV1} bit set and is
+ * likewise passed through by the compression encoders.
+ */
+public class ServerWebSocketGroupImpl implements ServerWebSocketGroup {
+
+  private static final int OPCODE_TEXT = 0x1;
+  private static final int OPCODE_BINARY = 0x2;
+
+  private final VertxInternal vertx;
+  private final Set<ServerWebSocket> webSockets = ConcurrentHashMap.newKeySet();
+
+  public ServerWebSocketGroupImpl(VertxInternal vertx) {
+    this.vertx = vertx;
+  }
+
+  @Override
+  public ServerWebSocketGroup add(ServerWebSocket webSocket) {
+    webSockets.add(webSocket);
+    return this;
+  }
+
+  @Override
+  public ServerWebSocketGroup remove(ServerWebSocket webSocket) {
+    webSockets.remove(webSocket);
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return webSockets.size();
+  }
+
+  @Override
+  public Future<Void> writeBinaryMessage(Buffer data) {
+    return broadcast(WebSocketFrameType.BINARY, data, null);
+  }
+
+  @Override
+  public Future<Void> writeTextMessage(String text) {
+    return broadcast(WebSocketFrameType.TEXT, Buffer.buffer(text), text);
+  }
+
+  private Future<Void> broadcast(WebSocketFrameType type, Buffer data, String text) {
+    ContextInternal context = vertx.getOrCreateContext();
+    PromiseInternal<Void> promise = context.promise();
+    ByteBuf payload = ((BufferInternal) data).getByteBuf();
+    // One more to complete the promise only once all the writes are started
+    AtomicInteger pending = new AtomicInteger(1);
+    Map<WebSocketCompression, ByteBuf> frames = new HashMap<>();
+    Map<EventLoop, List<Runnable>> writes = new HashMap<>();
+    for (ServerWebSocket webSocket : webSockets) {
+      ServerWebSocket accepted = webSocket;
+      if (webSocket instanceof ServerWebSocketHandshaker) {
+        ServerWebSocketHandshaker handshaker = (ServerWebSocketHandshaker) webSocket;
+        if (handshaker.isRejected()) {
+          webSockets.remove(webSocket);
+          continue;
+        }
+        accepted = handshaker.acceptedWebSocket();
+        if (accepted == null) {
+          // The handshake is pending, the WebSocket receives the next messages once accepted
+          continue;
+        }
+      }
+      if (accepted.isClosed()) {
+        webSockets.remove(webSocket);
+        continue;
+      }
+      ServerWebSocketImpl impl = accepted instanceof ServerWebSocketImpl ? (ServerWebSocketImpl) accepted : null;
+      pending.incrementAndGet();
+      WebSocketCompression compression = impl != null ? impl.compression() : null;
+      if (impl == null || data.length() > impl.maxWebSocketFrameSize() || (compression != null && !compression.isShareable())) {
+        // Let the WebSocket encode the message
+        Future<Void> fut = type == WebSocketFrameType.TEXT ? accepted.writeTextMessage(text) : accepted.writeBinaryMessage(data);
+        fut.onComplete(ar -> {
+          if (ar.failed()) {
+            webSockets.remove(webSocket);
+          }
+          done(pending, promise);
+        });
+        continue;
+      }
+      ByteBuf frame = frames.computeIfAbsent(compression, c -> encode(type, payload, c));
+      ByteBuf duplicate = frame.retainedDuplicate();
+      FutureListener<Void> listener = f -> {
+        if (!f.isSuccess()) {
+          webSockets.remove(webSocket);
+        }
+        done(pending, promise);
+      };
+      writes
+        .computeIfAbsent(impl.channelHandlerContext().channel().eventLoop(), eventLoop -> new ArrayList<>())
+        .add(() -> {
+          if (!impl.writeEncodedFrame(duplicate, listener)) {
+            webSockets.remove(webSocket);
+            done(pending, promise);
+          }
+        });
+    }
+    for (ByteBuf frame : frames.values()) {
+      frame.release();
+    }
+    writes.forEach((eventLoop, list) -> {
+      Runnable task = () -> {
+        for (Runnable write : list) {
+          write.run();
+        }
+      };
+      if (eventLoop.inEventLoop()) {
+        task.run();
+      } else {
+        eventLoop.execute(task);
+      }
+    });
+    done(pending, promise);
+    return promise.future();
+  }
+
+  private static void done(AtomicInteger pending, PromiseInternal<Void> promise) {
+    if (pending.decrementAndGet() == 0) {
+      promise.complete();
+    }
+  }
+
+  /**
+   * Encode a final frame.
+   *
+   * @param type the frame type
+   * @param payload the message
+   * @param compression the compression of the WebSockets or {@code null}
+   * @return the encoded frame
+   */
+  static ByteBuf encode(WebSocketFrameType type, ByteBuf payload, WebSocketCompression compression) {
+    int opcode = type == WebSocketFrameType.TEXT ? OPCODE_TEXT : OPCODE_BINARY;
+    if (compression == null) {
+      return encode(opcode, 0, payload);
+    }
+    WebSocketFrame compressed = compression.compress(type, payload);
+    try {
+      return encode(opcode, compressed.rsv(), compressed.content());
+    } finally {
+      compressed.release();
+    }
+  }
+
+  private static ByteBuf encode(int opcode, int rsv, ByteBuf payload) {
+    int length = payload.readableBytes();
+    int headerLength = length < 126 ? 2 : length <= 0xFFFF ? 4 : 10;
+    ByteBuf frame = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(headerLength + length);
+    frame.writeByte(0x80 | (rsv << 4) | opcode);
+    if (length < 126) {
+      frame.writeByte(length);
+    } else if (length <= 0xFFFF) {
+      frame.writeByte(126);
+      frame.writeShort(length);
+    } else {
+      frame.writeByte(127);
+      frame.writeLong(length);
+    }
+    frame.writeBytes(payload, payload.readerIndex(), length);
+    return frame;
+  }
+}
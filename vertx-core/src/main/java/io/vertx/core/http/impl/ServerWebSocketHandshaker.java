@@ -409,6 +409,21 @@ public class ServerWebSocketHandshaker implements ServerWebSocket {
     return webSocketOrDie().writeQueueFull();
   }
 
+  /**
+   * @return the WebSocket when the handshake has been accepted, {@code null} otherwise, the handshake is not accepted
+   *         by this method
+   */
+  synchronized ServerWebSocket acceptedWebSocket() {
+    return status == ST_ACCEPTED ? webSocket : null;
+  }
+
+  /**
+   * @return whether the handshake has been rejected
+   */
+  synchronized boolean isRejected() {
+    return status == ST_REJECTED;
+  }
+
   private WebSocket webSocketOrDie() {
     WebSocket ws = resolveWebSocket();
     if (ws == null) {
@@ -500,6 +515,7 @@ public class ServerWebSocketHandshaker implements ServerWebSocket {
         options.isRegisterWebSocketWriteHandlers());
       String subprotocol = handshaker.selectedSubprotocol();
       webSocket.subProtocol(subprotocol);
+      webSocket.compression(httpConn.webSocketCompression());
       webSocketConn.webSocket(webSocket);
       webSocketConn.metric(webSocketConn.metric());
       return webSocketConn;
@@ -33,6 +33,7 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
   private final String uri;
   private final String path;
   private final String query;
+  private WebSocketCompression compression;
 
   ServerWebSocketImpl(ContextInternal context,
                       VertxConnection conn,
@@ -74,6 +75,21 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
     return query;
   }
 
+  /**
+   * @return the compression negotiated by the handshake or {@code null}
+   */
+  WebSocketCompression compression() {
+    synchronized (this) {
+      return compression;
+    }
+  }
+
+  void compression(WebSocketCompression compression) {
+    synchronized (this) {
+      this.compression = compression;
+    }
+  }
+
   @Override
   public Future<Integer> setHandshake(Future<Integer> future) {
     throw new IllegalStateException("WebSocket already sent");
@@ -14,6 +14,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.http.ConnectionSelectionPolicy;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.internal.ContextInternal;
@@ -22,6 +23,7 @@ import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.pool.ConnectResult;
 import io.vertx.core.internal.pool.ConnectionPool;
+import io.vertx.core.internal.pool.ConnectionSelectors;
 import io.vertx.core.internal.pool.PoolConnection;
 import io.vertx.core.internal.pool.PoolConnector;
 import io.vertx.core.internal.pool.Lease;
@@ -67,6 +69,7 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
   private final ClientMetrics clientMetrics;
   private final HttpChannelConnector connector;
   private final ConnectionPool<HttpClientConnectionInternal> pool;
+  private final PipeliningScheduler scheduler;
 
   public SharedHttpClientConnectionGroup(VertxInternal vertx,
                                          HttpClientImpl client,
@@ -75,9 +78,38 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
                                          int queueMaxSize,
                                          int http1MaxSize,
                                          int http2MaxSize,
+                                         ConnectionSelectionPolicy selectionPolicy,
                                          HttpChannelConnector connector) {
+    BiFunction<PoolWaiter<HttpClientConnectionInternal>, List<PoolConnection<HttpClientConnectionInternal>>, PoolConnection<HttpClientConnectionInternal>> selector;
+    switch (selectionPolicy) {
+      case LEAST_IN_FLIGHT:
+        selector = ConnectionSelectors.leastInFlight();
+        scheduler = null;
+        break;
+      case POWER_OF_TWO_CHOICES:
+        selector = ConnectionSelectors.powerOfTwoChoices();
+        scheduler = null;
+        break;
+      case LEAST_LATENCY:
+        scheduler = new PipeliningScheduler(null, null, client.options().isPipelining());
+        selector = ConnectionSelectors.leastLatency(scheduler::latency);
+        break;
+      default:
+        if (client.options().isPipelining()) {
+          // Do not pipeline requests behind a slow response when another connection can serve them sooner
+          scheduler = new PipeliningScheduler(client.metrics(), clientMetrics, true);
+          selector = scheduler.selector();
+        } else {
+          scheduler = null;
+          selector = LIFO_SELECTOR;
+        }
+        break;
+    }
     ConnectionPool<HttpClientConnectionInternal> pool = ConnectionPool.pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
-      .connectionSelector(LIFO_SELECTOR).contextProvider(client.contextProvider());
+      .connectionSelector(selector)
+      // Reusing the connection last recycled on the event loop of the request is a local form of LIFO
+      .eventLoopFastPath(selector == LIFO_SELECTOR)
+      .contextProvider(client.contextProvider());
 
     this.vertx = vertx;
     this.client = client;
@@ -93,8 +125,14 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
       .httpConnect(context)
       .map(connection -> {
         incRefCount();
+        if (scheduler != null) {
+          scheduler.register(connection);
+        }
         connection.evictionHandler(v -> {
           decRefCount();
+          if (scheduler != null) {
+            scheduler.unregister(connection);
+          }
           listener.onRemove();
         });
         connection.concurrencyChangeHandler(listener::onConcurrencyChange);
@@ -169,7 +207,11 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
       if (timerID >= 0) {
         context.owner().cancelTimer(timerID);
       }
-      promise.handle(ar);
+      if (scheduler != null && ar.succeeded()) {
+        promise.complete(scheduler.track(ar.result()));
+      } else {
+        promise.handle(ar);
+      }
     }
 
     void acquire() {
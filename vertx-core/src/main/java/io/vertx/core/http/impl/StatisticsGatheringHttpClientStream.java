@@ -114,9 +114,10 @@ class StatisticsGatheringHttpClientStream implements HttpClientStream {
   @Override
   public void headHandler(Handler<HttpResponseHead> handler) {
     if (handler != null) {
-      delegate.headHandler(multimap -> {
+      delegate.headHandler(head -> {
+        endpointRequest.reportResponseStatus(head.statusCode);
         endpointRequest.reportResponseBegin();
-        handler.handle(multimap);
+        handler.handle(head);
       });
     } else {
       delegate.headHandler(null);
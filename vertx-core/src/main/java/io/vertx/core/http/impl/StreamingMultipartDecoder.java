@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * A {@code multipart/form-data} decoder streaming the file parts of a request.
+ *
+ * <p> The content of a file part is sliced from the request chunks and handed to its {@link HttpServerFileUpload}
+ * without being copied or buffered, only the bytes that could be the start of a boundary are carried to the next
+ * chunk. The upload pauses the request when its pending data is not consumed, so {@code pause}/{@code fetch} on the
+ * upload apply back-pressure to the connection. Attribute parts are aggregated, up to the
+ * {@link HttpServerOptions#getMaxFormAttributeSize() maximum attribute size}, and added to the form attributes.
+ *
+ * <p> This decoder is not thread safe, it must be used under the connection lock like {@link HttpPostRequestDecoder}.
+ */
+class StreamingMultipartDecoder {
+
+  private enum State {
+    PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE
+  }
+
+  private static final byte[] CRLF = { '\r', '\n' };
+
+  /**
+   * @return the boundary of a {@code multipart/form-data} content type or {@code null}
+   */
+  static String boundary(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    int idx = contentType.indexOf(';');
+    String mediaType = (idx >= 0 ? contentType.substring(0, idx) : contentType).trim();
+    if (idx < 0 || !mediaType.equalsIgnoreCase("multipart/form-data")) {
+      return null;
+    }
+    String boundary = parameter(contentType.substring(idx + 1), "boundary");
+    return boundary == null || boundary.isEmpty() ? null : boundary;
+  }
+
+  private final ContextInternal context;
+  private final HttpServerRequest request;
+  private final Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler;
+  private final MultiMap attributes;
+  private final ByteBuf delimiter;
+  private final int maxHeadersSize;
+  private final int maxAttributeSize;
+  private final int maxFields;
+  private ByteBuf pending;
+  private State state = State.PREAMBLE;
+  private int fields;
+
+  // The current part
+  private String name;
+  private String filename;
+  private String contentType;
+  private String contentTransferEncoding;
+  private long contentLength;
+  private NettyFileUpload upload;
+  private Buffer attribute;
+
+  StreamingMultipartDecoder(ContextInternal context,
+                            HttpServerRequest request,
+                            String boundary,
+                            HttpServerOptions options,
+                            MultiMap attributes,
+                            Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler) {
+    this.context = context;
+    this.request = request;
+    this.attributes = attributes;
+    this.lazyUploadHandler = lazyUploadHandler;
+    this.delimiter = Unpooled.copiedBuffer("\r\n--" + boundary, StandardCharsets.US_ASCII);
+    this.maxHeadersSize = options.getMaxFormBufferedBytes();
+    this.maxAttributeSize = options.getMaxFormAttributeSize();
+    this.maxFields = options.getMaxFormFields();
+    // The first delimiter is not preceded by a line break
+    this.pending = Unpooled.wrappedBuffer(CRLF);
+  }
+
+  /**
+   * @return the file upload in progress or {@code null}
+   */
+  NettyFileUpload currentUpload() {
+    return upload;
+  }
+
+  /**
+   * Decode a chunk of the request body.
+   */
+  void offer(Buffer chunk) {
+    ByteBuf buf = ((BufferInternal) chunk).getByteBuf();
+    pending = pending.isReadable() ? Unpooled.wrappedBuffer(pending, buf) : buf;
+    while (decode()) {
+      //
+    }
+    int remaining = pending.readableBytes();
+    // Carry a copy of the undecoded bytes, they are a few bytes except for part headers
+    pending = remaining > 0 ? Unpooled.copiedBuffer(pending) : Unpooled.EMPTY_BUFFER;
+  }
+
+  /**
+   * Signal the end of the request body.
+   */
+  void end() {
+    if (state != State.EPILOGUE) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Unexpected end of multipart content");
+    }
+  }
+
+  /**
+   * @return {@code true} when more bytes can be decoded
+   */
+  private boolean decode() {
+    switch (state) {
+      case PREAMBLE: {
+        int idx = ByteBufUtil.indexOf(delimiter, pending);
+        if (idx < 0) {
+          skipKeepingTail();
+          return false;
+        }
+        pending.readerIndex(idx + delimiter.readableBytes());
+        state = State.DELIMITER;
+        return true;
+      }
+      case DELIMITER: {
+        if (pending.readableBytes() < 2) {
+          return false;
+        }
+        int from = pending.readerIndex();
+        if (pending.getByte(from) == '-' && pending.getByte(from + 1) == '-') {
+          state = State.EPILOGUE;
+          return true;
+        }
+        // Skip the transport padding and the line break
+        int lf = pending.indexOf(from, pending.writerIndex(), (byte) '\n');
+        if (lf < 0) {
+          checkHeadersSize();
+          return false;
+        }
+        pending.readerIndex(lf + 1);
+        state = State.HEADERS;
+        return true;
+      }
+      case HEADERS: {
+        int from = pending.readerIndex();
+        int lf = pending.indexOf(from, pending.writerIndex(), (byte) '\n');
+        if (lf < 0) {
+          checkHeadersSize();
+          return false;
+        }
+        int end = lf > from && pending.getByte(lf - 1) == '\r' ? lf - 1 : lf;
+        String line = pending.toString(from, end - from, StandardCharsets.UTF_8);
+        pending.readerIndex(lf + 1);
+        if (line.isEmpty()) {
+          beginPart();
+          state = State.BODY;
+        } else {
+          header(line);
+        }
+        return true;
+      }
+      case BODY: {
+        int idx = ByteBufUtil.indexOf(delimiter, pending);
+        if (idx < 0) {
+          int len = pending.readableBytes() - (delimiter.readableBytes() - 1);
+          if (len > 0) {
+            content(pending.readSlice(len));
+          }
+          return false;
+        }
+        int len = idx - pending.readerIndex();
+        if (len > 0) {
+          content(pending.readSlice(len));
+        }
+        pending.readerIndex(idx + delimiter.readableBytes());
+        endPart();
+        state = State.DELIMITER;
+        return true;
+      }
+      case EPILOGUE:
+        pending.readerIndex(pending.writerIndex());
+        return false;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private void skipKeepingTail() {
+    int len = pending.readableBytes() - (delimiter.readableBytes() - 1);
+    if (len > 0) {
+      pending.skipBytes(len);
+    }
+  }
+
+  private void checkHeadersSize() {
+    if (maxHeadersSize >= 0 && pending.readableBytes() > maxHeadersSize) {
+      throw new HttpPostRequestDecoder.TooLongFormFieldException();
+    }
+  }
+
+  private void header(String line) {
+    int idx = line.indexOf(':');
+    if (idx <= 0) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart header: " + line);
+    }
+    String headerName = line.substring(0, idx).trim().toLowerCase(Locale.ROOT);
+    String value = line.substring(idx + 1).trim();
+    switch (headerName) {
+      case "content-disposition":
+        name = parameter(value, "name");
+        String ext = parameter(value, "filename*");
+        filename = ext != null ? extendedValue(ext) : parameter(value, "filename");
+        break;
+      case "content-type":
+        contentType = value;
+        break;
+      case "content-transfer-encoding":
+        contentTransferEncoding = value;
+        break;
+      case "content-length":
+        try {
+          contentLength = Long.parseLong(value);
+        } catch (NumberFormatException ignore) {
+          // Size is then computed
+        }
+        break;
+    }
+  }
+
+  private void beginPart() {
+    if (maxFields >= 0 && ++fields > maxFields) {
+      throw new HttpPostRequestDecoder.TooManyFormFieldsException();
+    }
+    if (name == null) {
+      // Not a form field, its content is ignored
+      return;
+    }
+    if (filename != null) {
+      String type = contentType != null ? mediaType(contentType) : "application/octet-stream";
+      Charset charset = charset();
+      upload = new NettyFileUpload(context, request, name, filename, type, contentTransferEncoding, charset, contentLength);
+      HttpServerFileUploadImpl fileUpload = new HttpServerFileUploadImpl(context, upload, name, filename, type,
+        contentTransferEncoding, charset, contentLength);
+      Handler<HttpServerFileUpload> handler = lazyUploadHandler.get();
+      if (handler != null) {
+        context.dispatch(fileUpload, handler);
+      }
+    } else {
+      attribute = Buffer.buffer();
+    }
+  }
+
+  private void content(ByteBuf content) {
+    if (upload != null) {
+      addContent(upload, content, false);
+    } else if (attribute != null) {
+      if (maxAttributeSize >= 0 && attribute.length() + content.readableBytes() > maxAttributeSize) {
+        throw new HttpPostRequestDecoder.TooLongFormFieldException();
+      }
+      attribute.appendBuffer(BufferInternal.buffer(content));
+    }
+  }
+
+  private void endPart() {
+    if (upload != null) {
+      NettyFileUpload u = upload;
+      upload = null;
+      addContent(u, Unpooled.EMPTY_BUFFER, true);
+    } else if (attribute != null) {
+      attributes.add(name, attribute.toString(charset()));
+    }
+    name = null;
+    filename = null;
+    contentType = null;
+    contentTransferEncoding = null;
+    contentLength = 0L;
+    attribute = null;
+  }
+
+  private static void addContent(NettyFileUpload upload, ByteBuf content, boolean last) {
+    try {
+      upload.addContent(content, last);
+    } catch (IOException e) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+    }
+  }
+
+  private Charset charset() {
+    String value = contentType != null ? parameter(contentType.substring(Math.max(contentType.indexOf(';'), 0)), "charset") : null;
+    if (value != null) {
+      try {
+        return Charset.forName(value);
+      } catch (Exception e) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Decode an RFC 5987 extended value, e.g. {@code UTF-8''na%C3%AFve.txt}.
+   */
+  private static String extendedValue(String value) {
+    int first = value.indexOf('\'');
+    int second = first >= 0 ? value.indexOf('\'', first + 1) : -1;
+    if (second < 0) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid extended filename: " + value);
+    }
+    try {
+      return URLDecoder.decode(value.substring(second + 1), value.substring(0, first));
+    } catch (UnsupportedEncodingException e) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+    }
+  }
+
+  private static String mediaType(String contentType) {
+    int idx = contentType.indexOf(';');
+    return (idx >= 0 ? contentType.substring(0, idx) : contentType).trim();
+  }
+
+  /**
+   * Lookup a parameter of a header value, e.g. {@code name} in {@code form-data; name="field"}.
+   */
+  private static String parameter(String value, String parameter) {
+    int len = value.length();
+    int idx = 0;
+    while (idx < len) {
+      int semi = value.indexOf(';', idx);
+      int eq = value.indexOf('=', idx);
+      if (eq < 0) {
+        return null;
+      }
+      if (semi >= 0 && semi < eq) {
+        idx = semi + 1;
+        continue;
+      }
+      String key = value.substring(idx, eq).trim();
+      int start = eq + 1;
+      while (start < len && value.charAt(start) == ' ') {
+        start++;
+      }
+      String val;
+      if (start < len && value.charAt(start) == '"') {
+        StringBuilder sb = new StringBuilder();
+        int i = start + 1;
+        while (i < len && value.charAt(i) != '"') {
+          char c = value.charAt(i);
+          if (c == '\\' && i + 1 < len) {
+            c = value.charAt(++i);
+          }
+          sb.append(c);
+          i++;
+        }
+        val = sb.toString();
+        int next = value.indexOf(';', i);
+        idx = next < 0 ? len : next + 1;
+      } else {
+        int next = value.indexOf(';', start);
+        val = (next < 0 ? value.substring(start) : value.substring(start, next)).trim();
+        idx = next < 0 ? len : next + 1;
+      }
+      if (key.equalsIgnoreCase(parameter)) {
+        return val;
+      }
+    }
+    return null;
+  }
+}
@@ -22,20 +22,55 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.vertx.core.http.impl.headers.EncodedHeaderCache;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 
 /**
  * {@link io.netty.handler.codec.http.HttpResponseEncoder} which forces the usage of direct buffers for max performance.
  *
+ * <p> The encoded form of the standard status lines and of the immutable header entries are cached by an
+ * {@link EncodedHeaderCache} per event-loop.
+ *
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 public final class VertxHttpResponseEncoder extends HttpResponseEncoder {
 
+  private final boolean cacheEnabled;
+  private EncodedHeaderCache cache;
+
+  public VertxHttpResponseEncoder() {
+    this(true);
+  }
+
+  /**
+   * @param cacheEnabled whether the encoded status lines and header entries are cached
+   */
+  public VertxHttpResponseEncoder(boolean cacheEnabled) {
+    this.cacheEnabled = cacheEnabled;
+  }
+
+  @Override
+  protected void encodeInitialLine(ByteBuf buf, HttpResponse response) throws Exception {
+    if (!cacheEnabled || !EncodedHeaderCache.encodeStatusLine(response.protocolVersion(), response.status(), buf)) {
+      super.encodeInitialLine(buf, response);
+    }
+  }
+
   @Override
   protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) {
     if (headers instanceof HeadersMultiMap) {
       HeadersMultiMap vertxHeaders = (HeadersMultiMap) headers;
-      vertxHeaders.encode(buf);
+      if (cacheEnabled) {
+        EncodedHeaderCache c = cache;
+        if (c == null) {
+          // Encoding happens on the connection event-loop
+          c = EncodedHeaderCache.get();
+          cache = c;
+        }
+        vertxHeaders.encode(buf, c);
+      } else {
+        vertxHeaders.encode(buf);
+      }
     } else {
       super.encodeHeaders(headers, buf);
     }
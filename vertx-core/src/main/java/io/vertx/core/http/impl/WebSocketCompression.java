@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionUtil;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.vertx.core.http.WebSocketFrameType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The compression extension negotiated by a server WebSocket.
+ * <p>
+ * A {@code permessage-deflate} extension without server context takeover compresses each message independently of
+ * the previous messages, the same compressed message can be sent to all the WebSockets sharing an equal compression.
+ */
+final class WebSocketCompression {
+
+  private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+  private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+
+  /**
+   * Create the compression negotiated by a handshake response.
+   *
+   * @param compressionLevel the server compression level
+   * @param extensions the {@code sec-websocket-extensions} response header
+   * @return the compression or {@code null} when the WebSocket does not compress messages
+   */
+  static WebSocketCompression negotiated(int compressionLevel, String extensions) {
+    if (extensions == null || extensions.isEmpty()) {
+      return null;
+    }
+    List<WebSocketExtensionData> list = WebSocketExtensionUtil.extractExtensions(extensions);
+    if (list.isEmpty()) {
+      return null;
+    }
+    return new WebSocketCompression(compressionLevel, list.get(0));
+  }
+
+  private final int compressionLevel;
+  private final WebSocketExtensionData extension;
+  private final WebSocketServerExtension shared;
+
+  private WebSocketCompression(int compressionLevel, WebSocketExtensionData extension) {
+    this.compressionLevel = compressionLevel;
+    this.extension = extension;
+    if (PERMESSAGE_DEFLATE.equals(extension.name()) && extension.parameters().containsKey(SERVER_NO_CONTEXT)) {
+      // Negotiate the response again to obtain an encoder configured like the encoders of the WebSockets
+      shared = new PerMessageDeflateServerExtensionHandshaker(compressionLevel, ZlibCodecFactory.isSupportingWindowSizeAndMemLevel(),
+        PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE, true, false).handshakeExtension(extension);
+    } else {
+      shared = null;
+    }
+  }
+
+  /**
+   * @return whether a message compressed once can be sent to all the WebSockets sharing this compression
+   */
+  boolean isShareable() {
+    return shared != null;
+  }
+
+  /**
+   * Compress a message, the returned frame has the {@code RSV1} bit set and is passed through by the compression
+   * encoder of the WebSockets.
+   *
+   * @param type the frame type, text or binary
+   * @param payload the message, not released
+   * @return the compressed frame
+   */
+  WebSocketFrame compress(WebSocketFrameType type, ByteBuf payload) {
+    EmbeddedChannel channel = new EmbeddedChannel(shared.newExtensionEncoder());
+    try {
+      WebSocketFrame frame = type == WebSocketFrameType.TEXT ?
+        new TextWebSocketFrame(true, 0, payload.retainedDuplicate()) :
+        new BinaryWebSocketFrame(true, 0, payload.retainedDuplicate());
+      channel.writeOutbound(frame);
+      return channel.readOutbound();
+    } finally {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof WebSocketCompression) {
+      WebSocketCompression that = (WebSocketCompression) obj;
+      return compressionLevel == that.compressionLevel
+        && extension.name().equals(that.extension.name())
+        && extension.parameters().equals(that.extension.parameters());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(compressionLevel, extension.name(), extension.parameters());
+  }
+}
@@ -19,6 +19,7 @@ import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.concurrent.FutureListener;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -308,6 +309,28 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
     }
   }
 
+  /**
+   * Write a frame encoded by the caller, e.g. a frame shared by the WebSockets of a {@link ServerWebSocketGroupImpl}.
+   *
+   * @param frame the encoded frame, released when the WebSocket is closed
+   * @param listener the listener notified of the write
+   * @return whether the frame is written, {@code false} when the WebSocket is closed
+   */
+  boolean writeEncodedFrame(ByteBuf frame, FutureListener<Void> listener) {
+    synchronized (this) {
+      if (isClosed()) {
+        frame.release();
+        return false;
+      }
+      conn.writeToChannel(frame, listener);
+      return true;
+    }
+  }
+
+  int maxWebSocketFrameSize() {
+    return maxWebSocketFrameSize;
+  }
+
   private void writeBinaryFrameInternal(Buffer data) {
     writeFrame(new WebSocketFrameImpl(WebSocketFrameType.BINARY, ((BufferInternal)data).getByteBuf()));
   }
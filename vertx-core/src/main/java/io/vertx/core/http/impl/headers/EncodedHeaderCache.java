@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.headers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A cache of the encoded form of the HTTP/1.1 status lines and of the immutable header entries, i.e. those which name
+ * and value are {@link AsciiString} such as the ones created with
+ * {@link io.vertx.core.http.HttpHeaders#createOptimized(String)}.
+ *
+ * <p> The header cache is a direct-mapped table owned by a thread, usually an event-loop, a cached entry is written
+ * with a single copy. Entries are matched by identity, an entry colliding with another one replaces it.
+ */
+public final class EncodedHeaderCache {
+
+  private static final int SIZE = 512;
+  private static final int MAX_ENTRY_LENGTH = 256;
+  private static final byte[][] STATUS_LINES = new byte[600][];
+  private static final HttpResponseStatus[] STATUSES = new HttpResponseStatus[600];
+
+  static {
+    for (int code = 100;code < STATUSES.length;code++) {
+      HttpResponseStatus status = HttpResponseStatus.valueOf(code);
+      // valueOf returns a new instance for the non standard codes
+      if (status == HttpResponseStatus.valueOf(code)) {
+        STATUSES[code] = status;
+        STATUS_LINES[code] = (HttpVersion.HTTP_1_1.text() + " " + status.codeAsText() + " " + status.reasonPhrase() + "\r\n")
+          .getBytes(StandardCharsets.US_ASCII);
+      }
+    }
+  }
+
+  private static final FastThreadLocal<EncodedHeaderCache> CACHES = new FastThreadLocal<>() {
+    @Override
+    protected EncodedHeaderCache initialValue() {
+      return new EncodedHeaderCache();
+    }
+  };
+
+  /**
+   * @return the cache of the current thread
+   */
+  public static EncodedHeaderCache get() {
+    return CACHES.get();
+  }
+
+  /**
+   * Write the encoded HTTP/1.1 status line of {@code status} when it is a standard status.
+   *
+   * @return {@code true} when the line has been written
+   */
+  public static boolean encodeStatusLine(HttpVersion version, HttpResponseStatus status, ByteBuf buf) {
+    int code = status.code();
+    if (version == HttpVersion.HTTP_1_1 && code >= 0 && code < STATUSES.length && STATUSES[code] == status) {
+      buf.writeBytes(STATUS_LINES[code]);
+      return true;
+    }
+    return false;
+  }
+
+  private final CharSequence[] names = new CharSequence[SIZE];
+  private final CharSequence[] values = new CharSequence[SIZE];
+  private final byte[][] encoded = new byte[SIZE][];
+
+  private EncodedHeaderCache() {
+  }
+
+  /**
+   * Encode a header entry, the encoded form of an immutable entry is cached.
+   */
+  void encode(CharSequence name, CharSequence value, ByteBuf buf) {
+    if (name instanceof AsciiString && value instanceof AsciiString) {
+      int idx = (31 * name.hashCode() + value.hashCode()) & (SIZE - 1);
+      byte[] bytes = encoded[idx];
+      if (bytes == null || names[idx] != name || values[idx] != value) {
+        int len = name.length() + value.length() + 4;
+        if (len > MAX_ENTRY_LENGTH) {
+          HeadersMultiMap.encoderHeader(name, value, buf);
+          return;
+        }
+        bytes = new byte[len];
+        AsciiString n = (AsciiString) name;
+        AsciiString v = (AsciiString) value;
+        n.copy(0, bytes, 0, n.length());
+        bytes[n.length()] = ':';
+        bytes[n.length() + 1] = ' ';
+        v.copy(0, bytes, n.length() + 2, v.length());
+        bytes[len - 2] = '\r';
+        bytes[len - 1] = '\n';
+        names[idx] = name;
+        values[idx] = value;
+        encoded[idx] = bytes;
+      }
+      buf.writeBytes(bytes);
+    } else {
+      HeadersMultiMap.encoderHeader(name, value, buf);
+    }
+  }
+}
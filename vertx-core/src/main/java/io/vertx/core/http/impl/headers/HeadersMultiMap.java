@@ -494,6 +494,14 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     }
   }
 
+  public void encode(ByteBuf buf, EncodedHeaderCache cache) {
+    HeadersMultiMap.MapEntry current = head.after;
+    while (current != head) {
+      cache.encode(current.key, current.value, buf);
+      current = current.after;
+    }
+  }
+
   private static final int COLON_AND_SPACE_SHORT = (COLON << 8) | SP;
   static final int CRLF_SHORT = (CR << 8) | LF;
 
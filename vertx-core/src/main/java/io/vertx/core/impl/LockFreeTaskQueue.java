@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@link TaskQueue} that does not use a monitor to coordinate producers and the consumer.
+ *
+ * <p>Producers append tasks to a lock-free queue and race on a single state field to elect the runner, the elected
+ * producer schedules the runner on its executor. The runner is the only consumer of the queue. When the queue is
+ * drained, the runner releases the state and re-checks the queue to avoid missing a task enqueued concurrently.</p>
+ *
+ * <p>Resumed tasks are kept in a separate stack that takes precedence over the queue, this is equivalent to adding
+ * them first in the {@link TaskQueue} list.</p>
+ */
+public class LockFreeTaskQueue extends TaskQueue {
+
+  private static final AtomicIntegerFieldUpdater<LockFreeTaskQueue> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(LockFreeTaskQueue.class, "state");
+
+  private static final int IDLE = 0;
+  private static final int RUNNING = 1;
+
+  private final Queue<ExecuteTask> tasks = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedDeque<ResumeTask> resumes = new ConcurrentLinkedDeque<>();
+  private final Runnable runner;
+
+  private volatile int state;
+
+  // Only accessed by the runner, visibility is provided by the state transitions and the executor hand-offs
+  private ExecuteTask head;
+  private Executor currentExecutor;
+  private Thread currentThread;
+
+  public LockFreeTaskQueue() {
+    runner = this::run;
+  }
+
+  private void run() {
+    for (; ; ) {
+      ResumeTask resume = resumes.poll();
+      if (resume != null) {
+        currentExecutor = resume.executor;
+        currentThread = resume.thread;
+        resume.latch.run();
+        return;
+      }
+      ExecuteTask execute = head;
+      if (execute != null) {
+        head = null;
+      } else {
+        execute = tasks.poll();
+        if (execute == null) {
+          Executor executor = currentExecutor;
+          currentExecutor = null;
+          state = IDLE;
+          if ((tasks.isEmpty() && resumes.isEmpty()) || !STATE_UPDATER.compareAndSet(this, IDLE, RUNNING)) {
+            return;
+          }
+          currentExecutor = executor;
+          continue;
+        }
+      }
+      if (execute.exec != currentExecutor) {
+        head = execute;
+        currentExecutor = execute.exec;
+        execute.exec.execute(runner);
+        return;
+      }
+      try {
+        currentThread = Thread.currentThread();
+        execute.runnable.run();
+      } catch (Throwable t) {
+        log.error("Caught unexpected Throwable", t);
+      } finally {
+        currentThread = null;
+      }
+    }
+  }
+
+  @Override
+  public WorkerExecutor.TaskController current() {
+    Thread thread = currentThread;
+    if (Thread.currentThread() != thread) {
+      throw new IllegalStateException();
+    }
+    Executor executor = currentExecutor;
+    return new WorkerExecutor.TaskController() {
+
+      final CountDownLatch latch = new CountDownLatch(1);
+
+      @Override
+      public void resume(Runnable callback) {
+        Runnable task = () -> {
+          callback.run();
+          latch.countDown();
+        };
+        resumes.addFirst(new ResumeTask(task, executor, thread));
+        if (STATE_UPDATER.compareAndSet(LockFreeTaskQueue.this, IDLE, RUNNING)) {
+          // No runner, we own the queue, hand it over to the last resumed task
+          ResumeTask resume = resumes.poll();
+          currentExecutor = resume.executor;
+          currentThread = resume.thread;
+          resume.latch.run();
+        }
+      }
+
+      @Override
+      public CountDownLatch suspend() {
+        if (Thread.currentThread() != thread) {
+          throw new IllegalStateException();
+        }
+        if (currentThread != thread) {
+          throw new IllegalStateException();
+        }
+        currentThread = null;
+        executor.execute(runner);
+        return latch;
+      }
+    };
+  }
+
+  @Override
+  public void execute(Runnable task, Executor executor) {
+    ExecuteTask execute = new ExecuteTask(task, executor);
+    tasks.add(execute);
+    if (STATE_UPDATER.compareAndSet(this, IDLE, RUNNING)) {
+      currentExecutor = executor;
+      try {
+        executor.execute(runner);
+      } catch (RejectedExecutionException e) {
+        // We still own the queue, no runner can consume the task concurrently
+        tasks.remove(execute);
+        currentExecutor = null;
+        state = IDLE;
+        // Producers that lost the race against us have enqueued their tasks without scheduling a runner
+        reschedule();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Schedule a runner for the tasks enqueued while the queue was owned by a producer whose executor rejected the runner.
+   * A task rejected by its own executor is dropped since its producer has already returned.
+   */
+  private void reschedule() {
+    while ((!tasks.isEmpty() || !resumes.isEmpty()) && STATE_UPDATER.compareAndSet(this, IDLE, RUNNING)) {
+      try {
+        // Without current executor, the runner hands the next task over to its executor
+        run();
+        return;
+      } catch (RejectedExecutionException e) {
+        log.error("Dropping a task rejected by its executor", e);
+        head = null;
+        currentExecutor = null;
+        state = IDLE;
+      }
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return state == IDLE && tasks.isEmpty() && resumes.isEmpty();
+  }
+
+  /**
+   * Execute another task
+   */
+  private static class ExecuteTask {
+    private final Runnable runnable;
+    private final Executor exec;
+    ExecuteTask(Runnable runnable, Executor exec) {
+      this.runnable = runnable;
+      this.exec = exec;
+    }
+  }
+
+  /**
+   * Resume an existing task blocked on a thread
+   */
+  private static class ResumeTask {
+    private final Runnable latch;
+    private final Executor executor;
+    private final Thread thread;
+    ResumeTask(Runnable latch, Executor executor, Thread thread) {
+      this.latch = latch;
+      this.executor = executor;
+      this.thread = thread;
+    }
+  }
+}
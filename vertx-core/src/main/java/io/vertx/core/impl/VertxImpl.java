@@ -170,6 +170,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final ThreadLocal<WeakReference<EventLoop>> stickyEventLoop = new ThreadLocal<>();
   private final ThreadLocal<WeakReference<ContextInternal>> stickyContext = new ThreadLocal<>();
   private final boolean disableTCCL;
+  private final boolean lockFreeTaskQueue;
   private final Boolean useDaemonThread;
 
   VertxImpl(VertxOptions options, ClusterManager clusterManager, NodeSelector nodeSelector, VertxMetrics metrics,
@@ -217,6 +218,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     maxWorkerExecTime = maxWorkerExecuteTime;
     maxWorkerExecTimeUnit = maxWorkerExecuteTimeUnit;
     disableTCCL = options.getDisableTCCL();
+    lockFreeTaskQueue = options.getLockFreeTaskQueue();
     this.checker = checker;
     this.useDaemonThread = useDaemonThread;
     this.executorServiceFactory = executorServiceFactory;
@@ -513,7 +515,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
         }
       }
       if (eventExecutor != null) {
-        ctx = new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.OTHER, eventExecutor, workerPool, new TaskQueue(), null, closeFuture, Thread.currentThread().getContextClassLoader());
+        ctx = new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.OTHER, eventExecutor, workerPool, createTaskQueue(), null, closeFuture, Thread.currentThread().getContextClassLoader());
       } else {
         ctx = createEventLoopContext(eventLoop, workerPool, Thread.currentThread().getContextClassLoader());
       }
@@ -560,6 +562,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
   }
 
+  private TaskQueue createTaskQueue() {
+    return lockFreeTaskQueue ? new LockFreeTaskQueue() : new TaskQueue();
+  }
+
   private Object[] createContextLocals() {
     if (contextLocals == 0) {
       return EMPTY_CONTEXT_LOCALS;
@@ -569,7 +575,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   private ContextImpl createEventLoopContext(EventLoop eventLoop, CloseFuture closeFuture, WorkerPool workerPool, Deployment deployment, ClassLoader tccl) {
-    return new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.EVENT_LOOP, new EventLoopExecutor(eventLoop), workerPool != null ? workerPool : this.workerPool, new TaskQueue(), deployment, closeFuture, disableTCCL ? null : tccl);
+    return new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.EVENT_LOOP, new EventLoopExecutor(eventLoop), workerPool != null ? workerPool : this.workerPool, createTaskQueue(), deployment, closeFuture, disableTCCL ? null : tccl);
   }
 
   @Override
@@ -594,7 +600,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
   @Override
   public ContextImpl createWorkerContext(Deployment deployment, CloseFuture closeFuture, EventLoop eventLoop, WorkerPool workerPool, ClassLoader tccl) {
-    TaskQueue orderedTasks = new TaskQueue();
+    TaskQueue orderedTasks = createTaskQueue();
     WorkerPool wp = workerPool != null ? workerPool : this.workerPool;
     return new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.WORKER, new WorkerExecutor(wp, orderedTasks), wp, orderedTasks, deployment, closeFuture, disableTCCL ? null : tccl);
   }
@@ -613,7 +619,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (!isVirtualThreadAvailable()) {
       throw new IllegalStateException("This Java runtime does not support virtual threads");
     }
-    TaskQueue orderedTasks = new TaskQueue();
+    TaskQueue orderedTasks = createTaskQueue();
     return new ContextImpl(this, createContextLocals(), eventLoop, ThreadingModel.VIRTUAL_THREAD, new WorkerExecutor(virtualThreaWorkerPool, orderedTasks), virtualThreaWorkerPool, orderedTasks, deployment, closeFuture, disableTCCL ? null : tccl);
   }
 
@@ -1,10 +1,13 @@
 package io.vertx.core.internal.buffer;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
 
 public interface BufferInternal extends Buffer {
@@ -51,6 +54,21 @@ public interface BufferInternal extends Buffer {
     return new BufferImpl(bytes);
   }
 
+  /**
+   * Create a new buffer backed by a {@link CompositeByteBuf} of the content of {@code buffers}, the content is not
+   * copied: changes in the buffers are reflected in the returned buffer.
+   *
+   * @param buffers the buffers
+   * @return the buffer
+   */
+  static BufferInternal composite(List<? extends Buffer> buffers) {
+    CompositeByteBuf composite = Unpooled.compositeBuffer(Math.max(buffers.size(), 2));
+    for (Buffer buffer : buffers) {
+      composite.addComponent(true, ((BufferInternal) buffer).getByteBuf());
+    }
+    return new BufferImpl(composite);
+  }
+
   @Override
   BufferInternal appendBuffer(Buffer buff);
 
@@ -10,6 +10,7 @@
  */
 package io.vertx.core.internal.http;
 
+import io.netty.handler.codec.http2.Http2Headers;
 import io.vertx.core.Context;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.ContextInternal;
@@ -32,4 +33,14 @@ public abstract class HttpServerRequestInternal implements HttpServerRequest {
    */
   public abstract Object metric();
 
+  /**
+   * Read the headers of an HTTP/2 request without allocating the {@link #headers()} adaptor, the pseudo headers
+   * are not included.
+   *
+   * @return the Netty headers of an HTTP/2 request or {@code null} for other requests
+   */
+  public Http2Headers http2Headers() {
+    return null;
+  }
+
 }
@@ -1,6 +1,7 @@
 package io.vertx.core.internal.http;
 
 import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.http2.Http2Headers;
 import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
@@ -270,4 +271,9 @@ public class HttpServerRequestWrapper extends HttpServerRequestInternal {
     return delegate.metric();
   }
 
+  @Override
+  public Http2Headers http2Headers() {
+    return delegate.http2Headers();
+  }
+
 }
@@ -57,6 +57,18 @@ public interface ConnectionPool<C> {
    */
   ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector);
 
+  /**
+   * Enable or disable the event-loop fast path: a connection recycled on its event loop is kept aside for the next
+   * acquisition on the same event loop, which is then served without calling the selector.
+   *
+   * <p> The fast path is enabled with the default selector and disabled when a selector is set, it can be enabled
+   * for a selector preferring the most recently used connection.
+   *
+   * @param enabled whether to enable the fast path
+   * @return a reference to this, so the API can be used fluently
+   */
+  ConnectionPool<C> eventLoopFastPath(boolean enabled);
+
   /**
    * Set a function that provides an event-loop context out of the specified context. The pool will use the provider
    * when an event-loop context is required for creating a new connection.
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.pool;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Connection selectors balancing the acquisitions over the connections of a pool, to be used with
+ * {@link ConnectionPool#connectionSelector(BiFunction)}.
+ *
+ * <p> The selectors only consider connections with a positive {@link PoolConnection#available()}, when none is
+ * available they return {@code null} and the pool creates a connection or enqueues the waiter.
+ */
+public final class ConnectionSelectors {
+
+  private ConnectionSelectors() {
+  }
+
+  /**
+   * @return a selector choosing the available connection with the fewest in-flight acquisitions, the first one
+   *         wins ties
+   */
+  public static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> leastInFlight() {
+    return (waiter, list) -> {
+      PoolConnection<C> selected = null;
+      int size = list.size();
+      for (int i = 0;i < size;i++) {
+        PoolConnection<C> candidate = list.get(i);
+        if (candidate.available() > 0 && (selected == null || candidate.usage() < selected.usage())) {
+          selected = candidate;
+        }
+      }
+      return selected;
+    };
+  }
+
+  /**
+   * @return a selector picking two random available connections and choosing the one with the fewest in-flight
+   *         acquisitions
+   */
+  public static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> powerOfTwoChoices() {
+    return (waiter, list) -> {
+      int size = list.size();
+      int count = 0;
+      for (int i = 0;i < size;i++) {
+        if (list.get(i).available() > 0) {
+          count++;
+        }
+      }
+      if (count == 0) {
+        return null;
+      }
+      if (count == 1) {
+        return nthAvailable(list, 0);
+      }
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int first = random.nextInt(count);
+      int second = random.nextInt(count - 1);
+      if (second >= first) {
+        second++;
+      }
+      PoolConnection<C> c1 = nthAvailable(list, first);
+      PoolConnection<C> c2 = nthAvailable(list, second);
+      return c2.usage() < c1.usage() ? c2 : c1;
+    };
+  }
+
+  /**
+   * Create a selector choosing the available connection with the lowest expected latency, the latency of a
+   * connection is weighted by its number of in-flight acquisitions plus one so a fast connection is not
+   * overloaded.
+   *
+   * <p> A connection without latency sample reports {@code 0} and is preferred, which lets new connections be probed.
+   *
+   * @param latency the function returning the moving average of the latency of a connection, it is called by the
+   *                pool from any thread
+   * @return the selector
+   */
+  public static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> leastLatency(ToDoubleFunction<C> latency) {
+    return (waiter, list) -> {
+      PoolConnection<C> selected = null;
+      double min = Double.MAX_VALUE;
+      int size = list.size();
+      for (int i = 0;i < size;i++) {
+        PoolConnection<C> candidate = list.get(i);
+        if (candidate.available() > 0) {
+          double cost = latency.applyAsDouble(candidate.get()) * (candidate.usage() + 1);
+          if (selected == null || cost < min) {
+            selected = candidate;
+            min = cost;
+          }
+        }
+      }
+      return selected;
+    };
+  }
+
+  private static <C> PoolConnection<C> nthAvailable(List<PoolConnection<C>> list, int n) {
+    int size = list.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<C> candidate = list.get(i);
+      if (candidate.available() > 0 && n-- == 0) {
+        return candidate;
+      }
+    }
+    throw new AssertionError();
+  }
+}
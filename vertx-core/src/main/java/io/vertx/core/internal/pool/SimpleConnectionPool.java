@@ -17,12 +17,17 @@ import io.vertx.core.Promise;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.future.Listener;
+import io.netty.channel.EventLoop;
 
 import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -76,6 +81,21 @@ import java.util.function.Predicate;
  * A connection acquisition a {@link PoolWaiter.Listener} can be provided, letting the requester
  * to get a reference on the waiter and later use {@link #cancel(PoolWaiter)} to cancel
  * a request.
+ *
+ * <h3>Event-loop fast path</h3>
+ *
+ * When the fast path is enabled, a lease recycled on the event loop of its connection while no waiter is
+ * queued does not go through the executor: the permit is parked on the slot and the slot is pushed on a free list
+ * owned by this event loop. A later acquisition on the same event loop pops the free list and takes the parked permit
+ * back, without allocating a waiter or running an action.
+ *
+ * <p> A parked permit is still counted in the slot usage. The actions reclaim the parked permits before looking at
+ * the usage of a slot, a removed slot is sealed so its permits cannot be taken anymore. A waiter is enqueued before
+ * the parked permits are reclaimed, after parking a permit the recycler checks the waiters and submits an action
+ * reclaiming the permit when a waiter is present, so a permit cannot be parked while a waiter starves.
+ *
+ * <p> The fast path is enabled with the default selector, see {@link #eventLoopFastPath(boolean)}. The actions only
+ * look for parked permits once a permit has been parked, a pool not using the fast path does not pay for it.
  */
 public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
@@ -123,6 +143,9 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private int usage;    // The number of times this connection is acquired
     private long concurrency; // The total number of times the connection can be acquired
     private int capacity;      // The connection capacity
+    private final AtomicInteger parked = new AtomicInteger(); // The permits parked on the event loop free list, -1 when sealed
+    private C parkedConnection; // The connection of the parked permits, accessed from the slot event loop
+    private boolean local;      // Whether the slot is in the event loop free list, accessed from the slot event loop
 
     public Slot(SimpleConnectionPool<C> pool, ContextInternal context, int index, int capacity) {
       this.pool = pool;
@@ -168,6 +191,68 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     public long concurrency() {
       return concurrency;
     }
+
+    /**
+     * Park a permit, this must be called from the slot event loop.
+     *
+     * @return whether the permit has been parked, {@code false} when the slot is sealed
+     */
+    boolean park() {
+      while (true) {
+        int n = parked.get();
+        if (n < 0) {
+          return false;
+        }
+        if (parked.compareAndSet(n, n + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Take a parked permit back, this must be called from the slot event loop.
+     *
+     * @return whether a permit has been taken
+     */
+    boolean unpark() {
+      while (true) {
+        int n = parked.get();
+        if (n <= 0) {
+          return false;
+        }
+        if (parked.compareAndSet(n, n - 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Reclaim the parked permits, this must be called by an action.
+     *
+     * @return the number of permits reclaimed
+     */
+    int reclaim() {
+      while (true) {
+        int n = parked.get();
+        if (n <= 0) {
+          return 0;
+        }
+        if (parked.compareAndSet(n, 0)) {
+          usage -= n;
+          return n;
+        }
+      }
+    }
+
+    /**
+     * Seal the slot and reclaim the parked permits, this must be called by an action.
+     */
+    void seal() {
+      int n = parked.getAndSet(-1);
+      if (n > 0) {
+        usage -= n;
+      }
+    }
   }
 
   private final PoolConnector<C> connector;
@@ -182,6 +267,8 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   // Selectors
   private BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector;
+  private boolean localFastPath;
+  private volatile boolean parking; // Whether a permit has ever been parked, written once
   private Function<ContextInternal, ContextInternal> contextProvider;
   private BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> fallbackSelector;
 
@@ -194,6 +281,9 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private final Waiters<C> waiters;
   private int requests;
 
+  // The free lists of slots with parked permits, each list is accessed from its event loop only
+  private final ConcurrentMap<EventLoop, ArrayDeque<Slot<C>>> localSlots = new ConcurrentHashMap<>();
+
   SimpleConnectionPool(PoolConnector<C> connector, int[] maxSizes) {
     this(connector, maxSizes, -1);
   }
@@ -224,6 +314,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     this.maxCapacity = maxCapacity;
     this.sync = new CombinerExecutor<>(this);
     this.selector = (BiFunction) SAME_EVENT_LOOP_SELECTOR;
+    this.localFastPath = true;
     this.fallbackSelector = (BiFunction) FIRST_AVAILABLE_SELECTOR;
     this.contextProvider = EVENT_LOOP_CONTEXT_PROVIDER;
     this.waiters = new Waiters<>();
@@ -232,6 +323,13 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   @Override
   public ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
     this.selector = selector;
+    this.localFastPath = false;
+    return this;
+  }
+
+  @Override
+  public ConnectionPool<C> eventLoopFastPath(boolean enabled) {
+    this.localFastPath = enabled;
     return this;
   }
 
@@ -245,6 +343,127 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     sync.submit(action);
   }
 
+  private boolean isLocalFastPath() {
+    return localFastPath;
+  }
+
+  /**
+   * Try to acquire a parked permit of a slot bound to the event loop of {@code context}.
+   *
+   * @return the lease future or {@code null} when no permit is parked on the event loop free list
+   */
+  private Future<Lease<C>> acquireLocal(ContextInternal context) {
+    if (!isLocalFastPath()) {
+      return null;
+    }
+    EventLoop eventLoop = context.nettyEventLoop();
+    if (!eventLoop.inEventLoop()) {
+      return null;
+    }
+    ArrayDeque<Slot<C>> local = localSlots.get(eventLoop);
+    if (local == null) {
+      return null;
+    }
+    Slot<C> slot;
+    while ((slot = local.peekLast()) != null) {
+      boolean acquired = slot.unpark();
+      if (!acquired || slot.parked.get() <= 0) {
+        local.pollLast();
+        slot.local = false;
+      }
+      if (acquired) {
+        LeaseImpl<C> lease = new LeaseImpl<>(slot, slot.parkedConnection, null);
+        return slot.context.succeededFuture(lease);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Try to park the permit of a lease recycled on the event loop of its connection.
+   *
+   * @return whether the permit has been parked
+   */
+  private boolean recycleLocal(LeaseImpl<C> lease) {
+    Slot<C> slot = lease.slot;
+    EventLoop eventLoop = slot.context.nettyEventLoop();
+    if (!isLocalFastPath() || waiters.size() > 0 || !eventLoop.inEventLoop()) {
+      return false;
+    }
+    if (!parking) {
+      // Before parking, so the actions look for the permit
+      parking = true;
+    }
+    if (!slot.park()) {
+      return false;
+    }
+    slot.parkedConnection = lease.connection;
+    if (!slot.local) {
+      slot.local = true;
+      localSlots.computeIfAbsent(eventLoop, el -> new ArrayDeque<>()).addLast(slot);
+    }
+    if (waiters.size() > 0) {
+      // A waiter has been enqueued concurrently and might have missed the permit
+      execute(new Reclaim<>());
+    }
+    return true;
+  }
+
+  /**
+   * Reclaim the parked permits and hand them to the waiters, this must be called by an action.
+   *
+   * @return the task emitting the leases or {@code null}
+   */
+  private Task reclaim() {
+    if (!parking) {
+      // Pools not using the fast path do not pay for the scan
+      return null;
+    }
+    List<LeaseImpl<C>> leases = null;
+    for (int i = 0;i < size;i++) {
+      Slot<C> slot = slots[i];
+      if (slot.reclaim() > 0) {
+        PoolWaiter<C> waiter;
+        while (slot.available() > 0 && (waiter = waiters.poll()) != null) {
+          if (leases == null) {
+            leases = new ArrayList<>();
+          }
+          slot.usage++;
+          leases.add(new LeaseImpl<>(slot, waiter.handler));
+        }
+      }
+    }
+    if (leases == null) {
+      return null;
+    }
+    List<LeaseImpl<C>> emitted = leases;
+    return new Task() {
+      @Override
+      public void run() {
+        for (LeaseImpl<C> lease : emitted) {
+          lease.emit();
+        }
+      }
+    };
+  }
+
+  private static Task chain(Task first, Task second) {
+    if (first == null) {
+      return second;
+    }
+    if (second != null) {
+      first.last().next(second);
+    }
+    return first;
+  }
+
+  private static class Reclaim<C> implements Executor.Action<SimpleConnectionPool<C>> {
+    @Override
+    public Task execute(SimpleConnectionPool<C> pool) {
+      return pool.closed ? null : pool.reclaim();
+    }
+  }
+
   public int size() {
       return size;
   }
@@ -306,6 +525,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         if (acquisitions == 0) {
           if (!waiter.disposed) {
             pool.waiters.addFirst(waiter);
+            return pool.reclaim();
           }
           return null;
         }
@@ -409,6 +629,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         return null;
       }
       int w = removed.capacity;
+      removed.seal();
       removed.usage = 0;
       removed.concurrency = 0;
       removed.connection = null;
@@ -460,6 +681,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     @Override
     public Task execute(SimpleConnectionPool<C> pool) {
       if (slot.connection != null) {
+        slot.reclaim();
         long diff = concurrency - slot.concurrency;
         slot.concurrency += diff;
         if (diff > 0) {
@@ -519,6 +741,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
           }
         };
       }
+      Task reclaimed = pool.reclaim();
       List<C> res = new ArrayList<>();
       List<Slot<C>> removed = new ArrayList<>();
       for (int i = pool.size - 1;i >= 0;i--) {
@@ -542,7 +765,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
           tail = next;
         }
       }
-      return head;
+      return chain(reclaimed, head);
     }
   }
 
@@ -571,6 +794,13 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         };
       }
 
+      // Reclaimed permits are handed to the waiters first
+      Task reclaimed = pool.reclaim();
+      return chain(reclaimed, acquire(pool));
+    }
+
+    private Task acquire(SimpleConnectionPool<C> pool) {
+
       // 1. Try reuse a existing connection with the same context
       Slot<C> slot1 = (Slot<C>) pool.selector.apply(this, pool.list);
       if (slot1 != null) {
@@ -618,16 +848,19 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       // 4. Fall in waiters list
       if (pool.maxWaiters == -1 || (pool.waiters.size() + pool.requests) < pool.maxWaiters) {
         pool.waiters.addLast(this);
+        Task enqueued;
         if (listener != null) {
-          return new Task() {
+          enqueued = new Task() {
             @Override
             public void run() {
               listener.onEnqueue(Acquire.this);
             }
           };
         } else {
-          return null;
+          enqueued = null;
         }
+        // Reclaim the permits parked before the waiter was visible
+        return chain(enqueued, pool.reclaim());
       } else {
         return new Task() {
           @Override
@@ -642,6 +875,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   @Override
   public Future<Lease<C>> acquire(ContextInternal context, int kind) {
+    Future<Lease<C>> local = acquireLocal(context);
+    if (local != null) {
+      return local;
+    }
     LazyFuture<Lease<C>> fut = new LazyFuture<>();
     execute(new Acquire<>(context, PoolWaiter.NULL_LISTENER, capacityFactors[kind], fut));
     return fut;
@@ -649,6 +886,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   @Override
   public Future<Lease<C>> acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind) {
+    Future<Lease<C>> local = acquireLocal(context);
+    if (local != null) {
+      return local;
+    }
     LazyFuture<Lease<C>> fut = new LazyFuture<>();
     execute(new Acquire<>(context, listener, capacityFactors[kind], fut));
     return fut;
@@ -708,9 +949,13 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private boolean recycled;
 
     public LeaseImpl(Slot<C> slot, Handler<AsyncResult<Lease<C>>> handler) {
+      this(slot, slot.connection, handler);
+    }
+
+    LeaseImpl(Slot<C> slot, C connection, Handler<AsyncResult<Lease<C>>> handler) {
       this.handler = handler;
       this.slot = slot;
-      this.connection = slot.connection;
+      this.connection = connection;
     }
 
     @Override
@@ -762,7 +1007,9 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       throw new IllegalStateException("Attempt to recycle more than permitted");
     }
     lease.recycled = true;
-    execute(new Recycle<>(lease.slot));
+    if (!recycleLocal(lease)) {
+      execute(new Recycle<>(lease.slot));
+    }
   }
 
   public int waiters() {
@@ -801,6 +1048,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       List<Future<C>> list = new ArrayList<>();
       for (int i = 0;i < pool.size;i++) {
         Slot<C> slot = pool.slots[i];
+        slot.seal();
         pool.slots[i] = null;
         PoolWaiter<C> waiter = slot.initiator;
         if (waiter != null) {
@@ -832,7 +1080,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private static class Waiters<C> implements Iterable<PoolWaiter<C>> {
 
     private final PoolWaiter<C> head;
-    private int size;
+    private volatile int size; // Read without synchronization by the event-loop fast path
 
     public Waiters() {
       head = new PoolWaiter<>(null, null, 0, null);
@@ -59,6 +59,14 @@ public interface InteractionMetrics<M> {
   default void reportResponseBegin(M metric) {
   }
 
+  /**
+   * Signal the status of the response attached to the {@code metric}, e.g. the HTTP status code
+   * @param metric the request/response metric
+   * @param status the response status
+   */
+  default void reportResponseStatus(M metric, int status) {
+  }
+
   /**
    * Signal the end of the response attached to the {@code metric}
    * @param metric the request metric
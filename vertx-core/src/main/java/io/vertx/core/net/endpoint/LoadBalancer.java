@@ -11,11 +11,18 @@
 package io.vertx.core.net.endpoint;
 
 import io.vertx.core.net.endpoint.impl.ConsistentHashingSelector;
+import io.vertx.core.net.endpoint.impl.JumpHashingSelector;
+import io.vertx.core.net.endpoint.impl.MaglevHashingSelector;
 import io.vertx.core.net.endpoint.impl.NoMetricsLoadBalancer;
+import io.vertx.core.net.endpoint.impl.OutlierDetectionLoadBalancer;
+import io.vertx.core.net.endpoint.impl.ResponseTimeLoadBalancer;
+import io.vertx.core.net.endpoint.impl.ResponseTimeMetrics;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 /**
  * A load balancer.
@@ -99,11 +106,31 @@ public interface LoadBalancer {
     return i2;
   };
 
+  /**
+   * Peak EWMA load balancer with a decay time of 10 seconds, see {@link #peakEwma(long, TimeUnit)}.
+   */
+  LoadBalancer PEAK_EWMA = peakEwma(10, TimeUnit.SECONDS);
+
+  /**
+   * Response time weighted load balancer with a decay time of 10 seconds, see {@link #responseTimeWeighted(long, TimeUnit)}.
+   */
+  LoadBalancer RESPONSE_TIME_WEIGHTED = responseTimeWeighted(10, TimeUnit.SECONDS);
+
   /**
    * Consistent hashing load balancer with 4 virtual servers, falling back to a random load balancer.
    */
   LoadBalancer CONSISTENT_HASHING = consistentHashing(4, RANDOM);
 
+  /**
+   * Maglev hashing load balancer with a lookup table of 4099 entries, falling back to a random load balancer.
+   */
+  LoadBalancer MAGLEV_HASHING = maglevHashing(4099, RANDOM);
+
+  /**
+   * Jump consistent hashing load balancer, falling back to a random load balancer.
+   */
+  LoadBalancer JUMP_HASHING = jumpHashing(RANDOM);
+
   /**
    * Sticky load balancer that uses consistent hashing based on a client provided routing key, defaulting to the {@code fallback}
    * load balancer when no routing key is provided.
@@ -113,12 +140,106 @@ public interface LoadBalancer {
    * @return the load balancer
    */
   static LoadBalancer consistentHashing(int numberOfVirtualServers, LoadBalancer fallback) {
-    return servers -> {
-      ServerSelector fallbackSelector = fallback.selector(servers);
-      return new ConsistentHashingSelector(servers, numberOfVirtualServers, fallbackSelector);
+    return sticky(fallback, (servers, fallbackSelector) -> new ConsistentHashingSelector(servers, numberOfVirtualServers, fallbackSelector));
+  }
+
+  /**
+   * Sticky load balancer that uses Maglev hashing based on a client provided routing key, defaulting to the {@code fallback}
+   * load balancer when no routing key is provided.
+   * <p>
+   * The servers fill a lookup table of {@code tableSize} entries in turn, a routing key is then mapped to a server with
+   * a single table lookup. The servers own almost the same number of entries and a change of the list of servers only
+   * remaps the keys of a small fraction of the entries besides the ones of the added or removed servers. The table size
+   * must be a prime number, much greater than the number of servers to balance the servers evenly.
+   *
+   * @param tableSize the lookup table size, a prime number
+   * @param fallback the fallback load balancer for non-sticky requests
+   * @return the load balancer
+   */
+  static LoadBalancer maglevHashing(int tableSize, LoadBalancer fallback) {
+    if (!MaglevHashingSelector.isValidTableSize(tableSize)) {
+      throw new IllegalArgumentException("Maglev table size must be a prime number: " + tableSize);
+    }
+    return sticky(fallback, (servers, fallbackSelector) -> new MaglevHashingSelector(servers, tableSize, fallbackSelector));
+  }
+
+  /**
+   * Sticky load balancer that uses jump consistent hashing based on a client provided routing key, defaulting to the
+   * {@code fallback} load balancer when no routing key is provided.
+   * <p>
+   * A routing key is mapped to a position in the list of servers without any lookup structure. Adding a server at the
+   * end of the list, or removing the last server, only remaps the keys of this server, any other change of the list
+   * remaps most keys.
+   *
+   * @param fallback the fallback load balancer for non-sticky requests
+   * @return the load balancer
+   */
+  static LoadBalancer jumpHashing(LoadBalancer fallback) {
+    return sticky(fallback, JumpHashingSelector::new);
+  }
+
+  /**
+   * Sticky load balancer selecting the servers with the {@code fallback} metrics, so the {@code fallback} selector
+   * can rely on them.
+   */
+  private static LoadBalancer sticky(LoadBalancer fallback, BiFunction<List<? extends EndpointServer>, ServerSelector, ServerSelector> factory) {
+    return new LoadBalancer() {
+      @Override
+      public InteractionMetrics<?> newMetrics() {
+        return fallback.newMetrics();
+      }
+      @Override
+      public ServerSelector selector(List<? extends EndpointServer> servers) {
+        return factory.apply(servers, fallback.selector(servers));
+      }
     };
   }
 
+  /**
+   * Load balancer ejecting the outlier servers from the selection of the {@code loadBalancer}.
+   * <p>
+   * A server is an outlier after a number of consecutive failures, or when its failure rate over a window exceeds
+   * a threshold, a response with a status greater than or equal to {@code 500} is a failure. An outlier is not
+   * selected until its ejection time elapses, this time doubles with each ejection up to a maximum. The ejections
+   * of a server are exposed by its {@link EndpointServer#metrics() metrics}, an {@link OutlierDetectionMetrics}.
+   *
+   * @param loadBalancer the load balancer selecting among the servers
+   * @param options the outlier detection options
+   * @return the load balancer
+   */
+  static LoadBalancer outlierDetection(LoadBalancer loadBalancer, OutlierDetectionOptions options) {
+    return new OutlierDetectionLoadBalancer(loadBalancer, options);
+  }
+
+  /**
+   * Peak EWMA load balancer: the power of two choices between servers is decided by the expected time to serve
+   * a request, the peak exponentially weighted moving average of the server response time multiplied by the number
+   * of inflight requests of the server.
+   * <p>
+   * A response time greater than the average replaces it, so a server slowing down immediately receives less traffic,
+   * the average then decays towards the faster response times over the {@code decayTime}.
+   *
+   * @param decayTime the time after which the average mostly forgets a response time
+   * @param unit the decay time unit
+   * @return the load balancer
+   */
+  static LoadBalancer peakEwma(long decayTime, TimeUnit unit) {
+    return new ResponseTimeLoadBalancer(unit.toNanos(decayTime), ResponseTimeMetrics::peakEwmaCost);
+  }
+
+  /**
+   * Response time weighted load balancer: a {@link #peakEwma(long, TimeUnit) peak EWMA} load balancer whose cost is
+   * also weighted by the exponentially weighted moving average of the server failure rate, so a degraded server
+   * receives less traffic even when it fails fast.
+   *
+   * @param decayTime the time after which the averages mostly forget a response
+   * @param unit the decay time unit
+   * @return the load balancer
+   */
+  static LoadBalancer responseTimeWeighted(long decayTime, TimeUnit unit) {
+    return new ResponseTimeLoadBalancer(unit.toNanos(decayTime), ResponseTimeMetrics::failureWeightedCost);
+  }
+
   /**
    * Create a stateful endpoint selector.
    *
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interaction metrics detecting whether a server is an outlier, see {@link LoadBalancer#outlierDetection(LoadBalancer, OutlierDetectionOptions)},
+ * the interactions are also reported to the {@link #delegate() metrics} of the load balancer performing the selection.
+ * <p>
+ * A failure is either a reported failure or a response with a status greater than or equal to {@code 500}.
+ */
+public class OutlierDetectionMetrics implements InteractionMetrics<OutlierDetectionMetrics.Interaction> {
+
+  public static class Interaction {
+    private final Object metric;
+    private boolean done;
+    private Interaction(Object metric) {
+      this.metric = metric;
+    }
+  }
+
+  private final InteractionMetrics<Object> delegate;
+  private final int consecutiveFailuresThreshold;
+  private final double failureRateThreshold;
+  private final int failureRateMinimumRequests;
+  private final long failureRateWindow;
+  private final long baseEjectionTime;
+  private final long maxEjectionTime;
+
+  private int consecutiveFailures;
+  private long windowStart;
+  private int windowRequests;
+  private int windowFailures;
+  private int ejectionLevel;
+  private volatile long ejectedUntil;
+  private volatile int numberOfEjections;
+
+  public OutlierDetectionMetrics(InteractionMetrics<?> delegate, OutlierDetectionOptions options) {
+    this.delegate = (InteractionMetrics<Object>) delegate;
+    this.consecutiveFailuresThreshold = options.getConsecutiveFailures();
+    this.failureRateThreshold = options.getFailureRateThreshold();
+    this.failureRateMinimumRequests = options.getFailureRateMinimumRequests();
+    this.failureRateWindow = TimeUnit.MILLISECONDS.toNanos(options.getFailureRateWindow());
+    this.baseEjectionTime = TimeUnit.MILLISECONDS.toNanos(options.getBaseEjectionTime());
+    this.maxEjectionTime = TimeUnit.MILLISECONDS.toNanos(options.getMaxEjectionTime());
+    long now = System.nanoTime();
+    this.windowStart = now;
+    this.ejectedUntil = now;
+  }
+
+  /**
+   * @return the metrics of the load balancer performing the selection
+   */
+  public InteractionMetrics<?> delegate() {
+    return delegate;
+  }
+
+  /**
+   * @return whether the server is currently ejected from the selection
+   */
+  public boolean isEjected() {
+    return System.nanoTime() - ejectedUntil < 0;
+  }
+
+  /**
+   * @return the number of times the server has been ejected
+   */
+  public int numberOfEjections() {
+    return numberOfEjections;
+  }
+
+  @Override
+  public Interaction initiateRequest() {
+    return new Interaction(delegate.initiateRequest());
+  }
+
+  @Override
+  public void reportFailure(Interaction interaction, Throwable failure) {
+    delegate.reportFailure(interaction.metric, failure);
+    if (!interaction.done) {
+      interaction.done = true;
+      report(true);
+    }
+  }
+
+  @Override
+  public void reportRequestBegin(Interaction interaction) {
+    delegate.reportRequestBegin(interaction.metric);
+  }
+
+  @Override
+  public void reportRequestEnd(Interaction interaction) {
+    delegate.reportRequestEnd(interaction.metric);
+  }
+
+  @Override
+  public void reportResponseStatus(Interaction interaction, int status) {
+    delegate.reportResponseStatus(interaction.metric, status);
+    if (status >= 500 && !interaction.done) {
+      interaction.done = true;
+      report(true);
+    }
+  }
+
+  @Override
+  public void reportResponseBegin(Interaction interaction) {
+    delegate.reportResponseBegin(interaction.metric);
+  }
+
+  @Override
+  public void reportResponseEnd(Interaction interaction) {
+    delegate.reportResponseEnd(interaction.metric);
+    if (!interaction.done) {
+      interaction.done = true;
+      report(false);
+    }
+  }
+
+  private synchronized void report(boolean failed) {
+    long now = System.nanoTime();
+    if (now - windowStart >= failureRateWindow) {
+      windowStart = now;
+      windowRequests = 0;
+      windowFailures = 0;
+    }
+    windowRequests++;
+    if (failed) {
+      windowFailures++;
+      consecutiveFailures++;
+    } else {
+      consecutiveFailures = 0;
+    }
+    if (now - ejectedUntil < 0) {
+      // Already ejected
+      return;
+    }
+    if ((consecutiveFailuresThreshold > 0 && consecutiveFailures >= consecutiveFailuresThreshold) ||
+      (failureRateThreshold > 0 && windowRequests >= failureRateMinimumRequests && windowFailures >= failureRateThreshold * windowRequests)) {
+      eject(now);
+    }
+  }
+
+  private void eject(long now) {
+    if (now - ejectedUntil >= maxEjectionTime) {
+      // Re-admitted for long enough
+      ejectionLevel = 0;
+    }
+    long ejectionTime = baseEjectionTime << Math.min(ejectionLevel, 30);
+    if (ejectionTime <= 0 || ejectionTime > maxEjectionTime) {
+      ejectionTime = maxEjectionTime;
+    } else {
+      ejectionLevel++;
+    }
+    ejectedUntil = now + ejectionTime;
+    numberOfEjections++;
+    consecutiveFailures = 0;
+    windowStart = now;
+    windowRequests = 0;
+    windowFailures = 0;
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options configuring the passive outlier detection of a load balancer, see
+ * {@link LoadBalancer#outlierDetection(LoadBalancer, OutlierDetectionOptions)}.
+ * <p>
+ * A server is ejected from the selection after a number of consecutive failures, or when its failure rate over a
+ * window of time exceeds a threshold. An ejected server is re-admitted after an ejection time doubling with each
+ * ejection, up to a maximum.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class OutlierDetectionOptions {
+
+  /**
+   * The default number of consecutive failures ejecting a server = 5
+   */
+  public static final int DEFAULT_CONSECUTIVE_FAILURES = 5;
+
+  /**
+   * The default failure rate ejecting a server = 0.5
+   */
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+  /**
+   * The default minimum number of requests in a window to evaluate the failure rate = 20
+   */
+  public static final int DEFAULT_FAILURE_RATE_MINIMUM_REQUESTS = 20;
+
+  /**
+   * The default failure rate window = 10 seconds, in milliseconds
+   */
+  public static final long DEFAULT_FAILURE_RATE_WINDOW = TimeUnit.SECONDS.toMillis(10);
+
+  /**
+   * The default base ejection time = 30 seconds, in milliseconds
+   */
+  public static final long DEFAULT_BASE_EJECTION_TIME = TimeUnit.SECONDS.toMillis(30);
+
+  /**
+   * The default maximum ejection time = 5 minutes, in milliseconds
+   */
+  public static final long DEFAULT_MAX_EJECTION_TIME = TimeUnit.MINUTES.toMillis(5);
+
+  /**
+   * The default maximum percentage of ejected servers = 50
+   */
+  public static final int DEFAULT_MAX_EJECTION_PERCENT = 50;
+
+  private int consecutiveFailures;
+  private double failureRateThreshold;
+  private int failureRateMinimumRequests;
+  private long failureRateWindow;
+  private long baseEjectionTime;
+  private long maxEjectionTime;
+  private int maxEjectionPercent;
+
+  /**
+   * Default constructor
+   */
+  public OutlierDetectionOptions() {
+    consecutiveFailures = DEFAULT_CONSECUTIVE_FAILURES;
+    failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+    failureRateMinimumRequests = DEFAULT_FAILURE_RATE_MINIMUM_REQUESTS;
+    failureRateWindow = DEFAULT_FAILURE_RATE_WINDOW;
+    baseEjectionTime = DEFAULT_BASE_EJECTION_TIME;
+    maxEjectionTime = DEFAULT_MAX_EJECTION_TIME;
+    maxEjectionPercent = DEFAULT_MAX_EJECTION_PERCENT;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public OutlierDetectionOptions(OutlierDetectionOptions other) {
+    this.consecutiveFailures = other.consecutiveFailures;
+    this.failureRateThreshold = other.failureRateThreshold;
+    this.failureRateMinimumRequests = other.failureRateMinimumRequests;
+    this.failureRateWindow = other.failureRateWindow;
+    this.baseEjectionTime = other.baseEjectionTime;
+    this.maxEjectionTime = other.maxEjectionTime;
+    this.maxEjectionPercent = other.maxEjectionPercent;
+  }
+
+  /**
+   * Constructor to create options from JSON
+   *
+   * @param json  the JSON
+   */
+  public OutlierDetectionOptions(JsonObject json) {
+    this();
+    OutlierDetectionOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the number of consecutive failures ejecting a server
+   */
+  public int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  /**
+   * Set the number of consecutive failures ejecting a server, {@code 0} disables the detection of consecutive failures.
+   *
+   * @param consecutiveFailures the number of consecutive failures
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setConsecutiveFailures(int consecutiveFailures) {
+    Arguments.require(consecutiveFailures >= 0, "consecutiveFailures must be >= 0");
+    this.consecutiveFailures = consecutiveFailures;
+    return this;
+  }
+
+  /**
+   * @return the failure rate ejecting a server
+   */
+  public double getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /**
+   * Set the failure rate over the {@link #setFailureRateWindow(long) window} ejecting a server, between {@code 0}
+   * and {@code 1}, {@code 0} disables the detection of the failure rate.
+   *
+   * @param failureRateThreshold the failure rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setFailureRateThreshold(double failureRateThreshold) {
+    Arguments.require(failureRateThreshold >= 0 && failureRateThreshold <= 1, "failureRateThreshold must be between 0 and 1");
+    this.failureRateThreshold = failureRateThreshold;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of requests in a window to evaluate the failure rate
+   */
+  public int getFailureRateMinimumRequests() {
+    return failureRateMinimumRequests;
+  }
+
+  /**
+   * Set the minimum number of requests a server must have served in a window to evaluate its failure rate.
+   *
+   * @param failureRateMinimumRequests the minimum number of requests
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setFailureRateMinimumRequests(int failureRateMinimumRequests) {
+    Arguments.require(failureRateMinimumRequests > 0, "failureRateMinimumRequests must be > 0");
+    this.failureRateMinimumRequests = failureRateMinimumRequests;
+    return this;
+  }
+
+  /**
+   * @return the failure rate window in milliseconds
+   */
+  public long getFailureRateWindow() {
+    return failureRateWindow;
+  }
+
+  /**
+   * Set the duration of the windows the failure rate is evaluated over, in milliseconds.
+   *
+   * @param failureRateWindow the window duration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setFailureRateWindow(long failureRateWindow) {
+    Arguments.require(failureRateWindow > 0, "failureRateWindow must be > 0");
+    this.failureRateWindow = failureRateWindow;
+    return this;
+  }
+
+  /**
+   * @return the base ejection time in milliseconds
+   */
+  public long getBaseEjectionTime() {
+    return baseEjectionTime;
+  }
+
+  /**
+   * Set the time a server is ejected the first time, in milliseconds, the ejection time doubles with each ejection
+   * following the re-admission of the server.
+   *
+   * @param baseEjectionTime the base ejection time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setBaseEjectionTime(long baseEjectionTime) {
+    Arguments.require(baseEjectionTime > 0, "baseEjectionTime must be > 0");
+    this.baseEjectionTime = baseEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return the maximum ejection time in milliseconds
+   */
+  public long getMaxEjectionTime() {
+    return maxEjectionTime;
+  }
+
+  /**
+   * Set the maximum time a server is ejected, in milliseconds. A server re-admitted for longer than this time is
+   * ejected again for the {@link #setBaseEjectionTime(long) base ejection time}.
+   *
+   * @param maxEjectionTime the maximum ejection time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setMaxEjectionTime(long maxEjectionTime) {
+    Arguments.require(maxEjectionTime > 0, "maxEjectionTime must be > 0");
+    this.maxEjectionTime = maxEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return the maximum percentage of ejected servers
+   */
+  public int getMaxEjectionPercent() {
+    return maxEjectionPercent;
+  }
+
+  /**
+   * Set the maximum percentage of the servers of an endpoint that can be ejected. When more servers are ejected, the
+   * ejections are ignored and the load balancer selects among all the servers.
+   *
+   * @param maxEjectionPercent the maximum percentage
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setMaxEjectionPercent(int maxEjectionPercent) {
+    Arguments.require(maxEjectionPercent >= 0 && maxEjectionPercent <= 100, "maxEjectionPercent must be between 0 and 100");
+    this.maxEjectionPercent = maxEjectionPercent;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    OutlierDetectionOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
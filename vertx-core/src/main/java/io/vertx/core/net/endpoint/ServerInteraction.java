@@ -41,6 +41,13 @@ public interface ServerInteraction {
    */
   void reportResponseBegin();
 
+  /**
+   * The response status is known, e.g. the HTTP status code.
+   * @param status the response status
+   */
+  default void reportResponseStatus(int status) {
+  }
+
   /**
    * The request has ended.
    */
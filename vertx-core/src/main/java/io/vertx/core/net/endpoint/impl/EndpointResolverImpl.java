@@ -262,6 +262,10 @@ public class EndpointResolverImpl<S, A extends Address, N> implements EndpointRe
           metrics.reportResponseBegin(metric);
         }
         @Override
+        public void reportResponseStatus(int status) {
+          metrics.reportResponseStatus(metric, status);
+        }
+        @Override
         public void reportResponseEnd() {
           metrics.reportResponseEnd(metric);
         }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.ServerSelector;
+
+import java.util.List;
+
+/**
+ * Jump consistent hashing selector (Lamping and Veach).
+ * <p>
+ * The routing key hash is mapped to a position of the list of servers without any lookup structure. Adding a server
+ * to the end of the list, or removing the last one, only remaps the keys of this server, changing the order of the
+ * servers remaps most keys.
+ */
+public class JumpHashingSelector implements ServerSelector {
+
+  private final List<? extends EndpointServer> endpoints;
+  private final ServerSelector fallbackSelector;
+
+  public JumpHashingSelector(List<? extends EndpointServer> endpoints, ServerSelector fallbackSelector) {
+    this.endpoints = endpoints;
+    this.fallbackSelector = fallbackSelector;
+  }
+
+  static int jumpHash(long key, int numberOfBuckets) {
+    long b = -1;
+    long j = 0;
+    while (j < numberOfBuckets) {
+      b = j;
+      key = key * 2862933555777941757L + 1;
+      j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+    }
+    return (int) b;
+  }
+
+  @Override
+  public int select() {
+    return fallbackSelector.select();
+  }
+
+  @Override
+  public int select(String key) {
+    if (key == null) {
+      throw new NullPointerException("No null routing key accepted");
+    }
+    int size = endpoints.size();
+    if (size == 0) {
+      return -1;
+    }
+    return jumpHash(RoutingKeyHash.hash(key), size);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.ServerSelector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maglev consistent hashing selector.
+ * <p>
+ * Each server fills the slots of a lookup table in the order of a permutation derived from the hash of its
+ * {@link EndpointServer#key() key}, in turn with the other servers, until the table is full. A routing key is then
+ * mapped to the server of the slot of its hash. Each server owns almost the same number of slots, and a change of the
+ * list of servers only remaps a small fraction of the slots besides the ones of the added or removed servers.
+ */
+public class MaglevHashingSelector implements ServerSelector {
+
+  private static final long OFFSET_SEED = 0x6d61676c65763031L;
+  private static final long SKIP_SEED = 0x6d61676c65763032L;
+
+  /**
+   * Check whether the {@code tableSize} is a valid lookup table size, i.e. a prime number.
+   *
+   * @param tableSize the table size
+   * @return whether the size is valid
+   */
+  public static boolean isValidTableSize(int tableSize) {
+    if (tableSize < 2) {
+      return false;
+    }
+    for (int i = 2;(long) i * i <= tableSize;i++) {
+      if (tableSize % i == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final int[] lookup;
+  private final ServerSelector fallbackSelector;
+
+  public MaglevHashingSelector(List<? extends EndpointServer> endpoints, int tableSize, ServerSelector fallbackSelector) {
+    this.lookup = populate(endpoints, tableSize);
+    this.fallbackSelector = fallbackSelector;
+  }
+
+  private static int[] populate(List<? extends EndpointServer> endpoints, int tableSize) {
+    int size = endpoints.size();
+    if (size == 0) {
+      return new int[0];
+    }
+    int[] next = new int[size];
+    int[] skip = new int[size];
+    for (int i = 0;i < size;i++) {
+      String key = endpoints.get(i).key();
+      next[i] = (int) Long.remainderUnsigned(RoutingKeyHash.hash(key, OFFSET_SEED), tableSize);
+      skip[i] = (int) Long.remainderUnsigned(RoutingKeyHash.hash(key, SKIP_SEED), tableSize - 1) + 1;
+    }
+    int[] table = new int[tableSize];
+    Arrays.fill(table, -1);
+    int filled = 0;
+    while (true) {
+      for (int i = 0;i < size;i++) {
+        int slot = next[i];
+        while (table[slot] >= 0) {
+          slot = (int) ((slot + (long) skip[i]) % tableSize);
+        }
+        table[slot] = i;
+        next[i] = (int) ((slot + (long) skip[i]) % tableSize);
+        if (++filled == tableSize) {
+          return table;
+        }
+      }
+    }
+  }
+
+  @Override
+  public int select() {
+    return fallbackSelector.select();
+  }
+
+  @Override
+  public int select(String key) {
+    if (key == null) {
+      throw new NullPointerException("No null routing key accepted");
+    }
+    int[] table = lookup;
+    if (table.length == 0) {
+      return -1;
+    }
+    return table[(int) Long.remainderUnsigned(RoutingKeyHash.hash(key), table.length)];
+  }
+}
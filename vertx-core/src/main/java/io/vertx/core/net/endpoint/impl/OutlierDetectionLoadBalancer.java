@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.OutlierDetectionMetrics;
+import io.vertx.core.net.endpoint.OutlierDetectionOptions;
+import io.vertx.core.net.endpoint.ServerInteraction;
+import io.vertx.core.net.endpoint.ServerSelector;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load balancer excluding the servers ejected by their {@link OutlierDetectionMetrics} from the selection of another
+ * load balancer.
+ * <p>
+ * The other load balancer selects among a view of the servers exposing its own metrics. When it selects an ejected
+ * server, it is asked again for a server, and then the first admitted server following a random position is selected.
+ * A sticky selection of an ejected server falls back to a non-sticky selection. When more than the maximum percentage
+ * of the servers are ejected, the ejections are ignored.
+ */
+public class OutlierDetectionLoadBalancer implements LoadBalancer {
+
+  private final LoadBalancer delegate;
+  private final OutlierDetectionOptions options;
+
+  public OutlierDetectionLoadBalancer(LoadBalancer delegate, OutlierDetectionOptions options) {
+    this.delegate = delegate;
+    this.options = new OutlierDetectionOptions(options);
+  }
+
+  @Override
+  public InteractionMetrics<?> newMetrics() {
+    return new OutlierDetectionMetrics(delegate.newMetrics(), options);
+  }
+
+  @Override
+  public ServerSelector selector(List<? extends EndpointServer> servers) {
+    return new Selector(servers, delegate.selector(new ListOfViews(servers)), options.getMaxEjectionPercent());
+  }
+
+  private static OutlierDetectionMetrics metrics(EndpointServer server) {
+    return (OutlierDetectionMetrics) server.metrics();
+  }
+
+  private static class Selector implements ServerSelector {
+
+    private final List<? extends EndpointServer> servers;
+    private final ServerSelector selector;
+    private final int maxEjectionPercent;
+
+    Selector(List<? extends EndpointServer> servers, ServerSelector selector, int maxEjectionPercent) {
+      this.servers = servers;
+      this.selector = selector;
+      this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @Override
+    public int select() {
+      return admitted(selector.select());
+    }
+
+    @Override
+    public int select(String key) {
+      return admitted(selector.select(key));
+    }
+
+    private boolean isEjected(int idx) {
+      return metrics(servers.get(idx)).isEjected();
+    }
+
+    private int admitted(int idx) {
+      if (idx < 0 || idx >= servers.size() || !isEjected(idx)) {
+        return idx;
+      }
+      int size = servers.size();
+      int ejected = 0;
+      for (int i = 0;i < size;i++) {
+        if (isEjected(i)) {
+          ejected++;
+        }
+      }
+      if (ejected * 100L > (long) maxEjectionPercent * size) {
+        // Too many servers are ejected
+        return idx;
+      }
+      int next = selector.select();
+      if (next >= 0 && next < size && !isEjected(next)) {
+        return next;
+      }
+      int start = ThreadLocalRandom.current().nextInt(size);
+      for (int i = 0;i < size;i++) {
+        int candidate = (start + i) % size;
+        if (!isEjected(candidate)) {
+          return candidate;
+        }
+      }
+      return idx;
+    }
+  }
+
+  /**
+   * The servers exposing the metrics of the load balancer performing the selection, the views are cached.
+   */
+  private static class ListOfViews extends AbstractList<EndpointServer> {
+
+    private final List<? extends EndpointServer> servers;
+    private ServerView[] views = new ServerView[0];
+
+    ListOfViews(List<? extends EndpointServer> servers) {
+      this.servers = servers;
+    }
+
+    @Override
+    public EndpointServer get(int index) {
+      EndpointServer server = servers.get(index);
+      ServerView[] cache = views;
+      if (cache.length != servers.size()) {
+        cache = new ServerView[servers.size()];
+        views = cache;
+      }
+      ServerView view = cache[index];
+      if (view == null || view.server != server) {
+        view = new ServerView(server, metrics(server).delegate());
+        cache[index] = view;
+      }
+      return view;
+    }
+
+    @Override
+    public int size() {
+      return servers.size();
+    }
+  }
+
+  private static class ServerView implements EndpointServer {
+
+    private final EndpointServer server;
+    private final InteractionMetrics<?> metrics;
+
+    private ServerView(EndpointServer server, InteractionMetrics<?> metrics) {
+      this.server = server;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public String key() {
+      return server.key();
+    }
+
+    @Override
+    public SocketAddress address() {
+      return server.address();
+    }
+
+    @Override
+    public ServerInteraction newInteraction() {
+      return server.newInteraction();
+    }
+
+    @Override
+    public InteractionMetrics<?> metrics() {
+      return metrics;
+    }
+
+    @Override
+    public Object unwrap() {
+      return server.unwrap();
+    }
+  }
+}
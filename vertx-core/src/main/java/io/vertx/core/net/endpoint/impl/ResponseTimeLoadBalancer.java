@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerSelector;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Power of two choices load balancer comparing the cost of the servers computed from their {@link ResponseTimeMetrics}.
+ */
+public class ResponseTimeLoadBalancer implements LoadBalancer {
+
+  private final long decayTimeNanos;
+  private final ToDoubleFunction<ResponseTimeMetrics> cost;
+
+  public ResponseTimeLoadBalancer(long decayTimeNanos, ToDoubleFunction<ResponseTimeMetrics> cost) {
+    if (decayTimeNanos <= 0) {
+      throw new IllegalArgumentException("Decay time must be > 0");
+    }
+    this.decayTimeNanos = decayTimeNanos;
+    this.cost = cost;
+  }
+
+  @Override
+  public InteractionMetrics<?> newMetrics() {
+    return new ResponseTimeMetrics(decayTimeNanos);
+  }
+
+  @Override
+  public ServerSelector selector(List<? extends EndpointServer> servers) {
+    return () -> {
+      int size = servers.size();
+      if (size == 0) {
+        return -1;
+      } else if (size == 1) {
+        return 0;
+      }
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int i1 = random.nextInt(size);
+      int i2 = random.nextInt(size - 1);
+      if (i2 >= i1) {
+        i2++;
+      }
+      double c1 = cost.applyAsDouble((ResponseTimeMetrics) servers.get(i1).metrics());
+      double c2 = cost.applyAsDouble((ResponseTimeMetrics) servers.get(i2).metrics());
+      return c1 <= c2 ? i1 : i2;
+    };
+  }
+}
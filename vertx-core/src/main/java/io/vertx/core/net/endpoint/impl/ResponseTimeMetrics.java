@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.endpoint.InteractionMetrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interaction metrics maintaining exponentially weighted moving averages of the response time and of the failure rate
+ * of a server.
+ * <p>
+ * The response time average is a peak EWMA: a response time greater than the average replaces it, so a server slowing
+ * down is immediately penalized, whereas the average decays towards faster response times. The weight of a sample
+ * depends on the time elapsed since the previous one. The averages also decay towards zero when they are read, by the
+ * time elapsed since the last sample, so they forget the past after a few {@code decayTime} whatever the request rate
+ * is: a server that is not selected anymore because of a slow response or of failures becomes selectable again.
+ */
+public class ResponseTimeMetrics implements InteractionMetrics<ResponseTimeMetrics.Interaction> {
+
+  /**
+   * The failure rate above which a server cost is capped, so a failing server can still be selected and recover.
+   */
+  private static final double MAX_FAILURE_RATE = 0.99;
+
+  public static class Interaction {
+    private long begin;
+    private boolean done;
+  }
+
+  private final double decayTime;
+  private final AtomicInteger numberOfInflightRequests = new AtomicInteger();
+  private long timestamp;
+  private double responseTime;
+  private double failureRate;
+
+  /**
+   * @param decayTimeNanos the decay time of the averages in nanoseconds
+   */
+  public ResponseTimeMetrics(long decayTimeNanos) {
+    if (decayTimeNanos <= 0) {
+      throw new IllegalArgumentException("Decay time must be > 0");
+    }
+    this.decayTime = decayTimeNanos;
+    this.timestamp = System.nanoTime();
+  }
+
+  @Override
+  public Interaction initiateRequest() {
+    numberOfInflightRequests.incrementAndGet();
+    Interaction interaction = new Interaction();
+    interaction.begin = System.nanoTime();
+    return interaction;
+  }
+
+  @Override
+  public void reportRequestBegin(Interaction interaction) {
+    interaction.begin = System.nanoTime();
+  }
+
+  @Override
+  public void reportResponseEnd(Interaction interaction) {
+    if (!interaction.done) {
+      interaction.done = true;
+      long now = System.nanoTime();
+      update(now, now - interaction.begin, false);
+      numberOfInflightRequests.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void reportFailure(Interaction interaction, Throwable failure) {
+    if (!interaction.done) {
+      interaction.done = true;
+      update(System.nanoTime(), -1L, true);
+      numberOfInflightRequests.decrementAndGet();
+    }
+  }
+
+  private synchronized void update(long now, long sample, boolean failed) {
+    double weight = decay(now);
+    timestamp = now;
+    if (sample >= 0) {
+      if (sample > responseTime) {
+        responseTime = sample;
+      } else {
+        responseTime = responseTime * weight + sample * (1 - weight);
+      }
+    }
+    failureRate = failureRate * weight + (failed ? 1 - weight : 0);
+  }
+
+  /**
+   * @return the number of inflight requests
+   */
+  public int numberOfInflightRequests() {
+    return numberOfInflightRequests.get();
+  }
+
+  /**
+   * @return the peak EWMA of the response time in nanoseconds, {@code 0} until a response is received
+   */
+  public synchronized double responseTime() {
+    return responseTime * decay(System.nanoTime());
+  }
+
+  /**
+   * @return the EWMA of the failure rate, between {@code 0} and {@code 1}
+   */
+  public synchronized double failureRate() {
+    return failureRate * decay(System.nanoTime());
+  }
+
+  /**
+   * @return the decay of the averages since the last sample
+   */
+  private double decay(long now) {
+    return Math.exp(-Math.max(0L, now - timestamp) / decayTime);
+  }
+
+  /**
+   * The expected time to serve a new request: the response time average multiplied by the number of requests
+   * the server will serve, which favors servers never sampled yet as long as they are not loaded.
+   *
+   * @return the peak EWMA cost
+   */
+  public double peakEwmaCost() {
+    return (responseTime() + 1) * (numberOfInflightRequests() + 1);
+  }
+
+  /**
+   * The {@link #peakEwmaCost()} weighted by the expected number of attempts to serve a request given the failure rate.
+   *
+   * @return the failure weighted cost
+   */
+  public double failureWeightedCost() {
+    return peakEwmaCost() / (1 - Math.min(MAX_FAILURE_RATE, failureRate()));
+  }
+}
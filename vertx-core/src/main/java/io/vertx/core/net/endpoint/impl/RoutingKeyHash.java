@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+/**
+ * Non cryptographic 64-bit hash of routing keys and server keys.
+ * <p>
+ * The MurmurHash3 x64 block mixing is applied to the UTF-16 code units of the string, four per block, so hashing
+ * does not allocate. The hash is not compatible with a MurmurHash3 of the UTF-8 encoding of the string.
+ */
+final class RoutingKeyHash {
+
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  private RoutingKeyHash() {
+  }
+
+  static long hash(String s) {
+    return hash(s, 0L);
+  }
+
+  static long hash(String s, long seed) {
+    long h = seed;
+    int len = s.length();
+    int i = 0;
+    for (;i + 4 <= len;i += 4) {
+      long k = (long) s.charAt(i)
+        | (long) s.charAt(i + 1) << 16
+        | (long) s.charAt(i + 2) << 32
+        | (long) s.charAt(i + 3) << 48;
+      h ^= mixK(k);
+      h = Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+    }
+    if (i < len) {
+      long k = 0;
+      for (int shift = 0;i < len;i++, shift += 16) {
+        k |= (long) s.charAt(i) << shift;
+      }
+      h ^= mixK(k);
+    }
+    h ^= len;
+    return fmix(h);
+  }
+
+  private static long mixK(long k) {
+    k *= C1;
+    k = Long.rotateLeft(k, 31);
+    k *= C2;
+    return k;
+  }
+
+  private static long fmix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -391,9 +391,13 @@ public class VertxConnection extends ConnectionBase {
   }
 
   public ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) {
+    return sendFile(raf, offset, length, supportsFileRegion());
+  }
+
+  protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length, boolean fileRegion) {
     // Write the content.
     ChannelPromise writeFuture = chctx.newPromise();
-    if (!supportsFileRegion()) {
+    if (!fileRegion) {
       // Cannot use zero-copy
       try {
         writeToChannel(new ChunkedNioFile(raf.getChannel(), offset, length, 8192), writeFuture);
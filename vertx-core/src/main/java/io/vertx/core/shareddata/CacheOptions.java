@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Options configuring a {@link LocalCache}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class CacheOptions {
+
+  /**
+   * The default maximum number of entries of a cache = 10000
+   */
+  public static final long DEFAULT_MAX_SIZE = 10_000;
+
+  /**
+   * The default maximum total weight of the entries of a cache = 0 (the weight is not bounded)
+   */
+  public static final long DEFAULT_MAX_WEIGHT = 0L;
+
+  /**
+   * The default eviction policy = {@link EvictionPolicy#LRU}
+   */
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  /**
+   * The default time to live of an entry = 0 (entries do not expire)
+   */
+  public static final long DEFAULT_TTL = 0L;
+
+  private long maxSize;
+  private long maxWeight;
+  private ToIntBiFunction<?, ?> weigher;
+  private EvictionPolicy evictionPolicy;
+  private long ttl;
+
+  /**
+   * Default constructor
+   */
+  public CacheOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    maxWeight = DEFAULT_MAX_WEIGHT;
+    evictionPolicy = DEFAULT_EVICTION_POLICY;
+    ttl = DEFAULT_TTL;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public CacheOptions(CacheOptions other) {
+    this.maxSize = other.maxSize;
+    this.maxWeight = other.maxWeight;
+    this.weigher = other.weigher;
+    this.evictionPolicy = other.evictionPolicy;
+    this.ttl = other.ttl;
+  }
+
+  /**
+   * Constructor to create an options from JSON
+   *
+   * @param json  the JSON
+   */
+  public CacheOptions(JsonObject json) {
+    this();
+    CacheOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of entries of the cache
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the cache, when a new entry makes the cache exceed this size
+   * another entry is evicted according to the {@link #setEvictionPolicy(EvictionPolicy) eviction policy}.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CacheOptions setMaxSize(long maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be > 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum total weight of the entries of the cache, {@code 0} when the weight is not bounded
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Set the maximum total weight of the entries of the cache, when a new entry makes the cache exceed this weight
+   * other entries are evicted according to the {@link #setEvictionPolicy(EvictionPolicy) eviction policy}, an entry
+   * heavier than this weight is not retained. The weight of an entry is given by the {@link #setWeigher weigher}.
+   * The value {@code 0} means the weight is not bounded, the {@link #setMaxSize maximum size} applies in any case.
+   *
+   * @param maxWeight the maximum total weight
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CacheOptions setMaxWeight(long maxWeight) {
+    if (maxWeight < 0) {
+      throw new IllegalArgumentException("maxWeight must be >= 0");
+    }
+    this.maxWeight = maxWeight;
+    return this;
+  }
+
+  /**
+   * @return the function computing the weight of an entry, {@code null} when each entry weighs {@code 1}
+   */
+  @SuppressWarnings("unchecked")
+  @GenIgnore
+  public <K, V> ToIntBiFunction<K, V> getWeigher() {
+    return (ToIntBiFunction<K, V>) weigher;
+  }
+
+  /**
+   * Set the function computing the weight of an entry from its key and value, the weight must not be negative.
+   * When no weigher is set each entry weighs {@code 1}.
+   *
+   * @param weigher the weigher
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public <K, V> CacheOptions setWeigher(ToIntBiFunction<K, V> weigher) {
+    this.weigher = weigher;
+    return this;
+  }
+
+  /**
+   * @return the eviction policy
+   */
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Set the policy selecting the entry to evict when the cache is full.
+   *
+   * @param evictionPolicy the eviction policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CacheOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+    return this;
+  }
+
+  /**
+   * @return the default time to live of an entry in ms, {@code 0} when entries do not expire
+   */
+  public long getTtl() {
+    return ttl;
+  }
+
+  /**
+   * Set the default time to live of an entry in ms, this value applies to entries stored without an explicit time
+   * to live. The value {@code 0} means entries do not expire.
+   *
+   * @param ttl the time to live in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CacheOptions setTtl(long ttl) {
+    if (ttl < 0) {
+      throw new IllegalArgumentException("ttl must be >= 0");
+    }
+    this.ttl = ttl;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    CacheOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
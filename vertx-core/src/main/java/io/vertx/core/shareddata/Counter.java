@@ -81,4 +81,16 @@ public interface Counter {
    * @return a future notified with {@code true} on success
    */
   Future<Boolean> compareAndSet(long expected, long value);
+
+  /**
+   * Add the value to the counter without waiting for the result.
+   * <p>
+   * This avoids creating a future for callers that do not need the new count, the default implementation
+   * delegates to {@link #addAndGet(long)} and ignores the result.
+   *
+   * @param value the value to add
+   */
+  default void add(long value) {
+    addAndGet(value);
+  }
 }
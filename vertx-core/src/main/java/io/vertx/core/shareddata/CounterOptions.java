@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a local {@link Counter}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class CounterOptions {
+
+  /**
+   * Default striped = false
+   */
+  public static final boolean DEFAULT_STRIPED = false;
+
+  private boolean striped;
+
+  /**
+   * Default constructor
+   */
+  public CounterOptions() {
+    striped = DEFAULT_STRIPED;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other  the options to copy
+   */
+  public CounterOptions(CounterOptions other) {
+    this.striped = other.striped;
+  }
+
+  /**
+   * Constructor to create an options from JSON
+   *
+   * @param json  the JSON
+   */
+  public CounterOptions(JsonObject json) {
+    this();
+    CounterOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return whether the counter is striped
+   */
+  public boolean isStriped() {
+    return striped;
+  }
+
+  /**
+   * Set whether the counter is striped.
+   * <p>
+   * A striped counter spreads the updates over several cells that are summed when the counter is read, concurrent
+   * updates from different threads do not contend. This suits counters updated much more often than they are read.
+   * <p>
+   * The value returned by the operations that update and read the counter is the sum of the cells after the update,
+   * concurrent updates can be included in it, and {@link Counter#compareAndSet(long, long)} is not supported.
+   *
+   * @param striped whether the counter is striped
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CounterOptions setStriped(boolean striped) {
+    this.striped = striped;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    CounterOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy selecting the entry a {@link LocalCache} evicts when it is full.
+ */
+@VertxGen
+public enum EvictionPolicy {
+
+  /**
+   * Evict the least recently used entry.
+   */
+  LRU,
+
+  /**
+   * Window TinyLFU: recent entries are admitted in a small LRU window, an entry leaving the window replaces the
+   * eviction candidate of the main space only when it has been used more frequently. The frequencies are estimated
+   * with a compact sketch that periodically ages its counters. This policy resists scans and one-hit wonders
+   * better than {@link #LRU}.
+   */
+  TINY_LFU
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Local caches can be used to share data safely in a single Vert.x instance, like {@link LocalMap} but bounded.
+ * <p>
+ * The cache holds at most {@link CacheOptions#getMaxSize()} entries, when a new entry makes the cache exceed this size
+ * another entry is evicted according to the {@link CacheOptions#getEvictionPolicy() eviction policy}. The cache can
+ * also be bounded by the {@link CacheOptions#getMaxWeight() total weight} of its entries. Entries can
+ * expire after a time to live, an expired entry is never returned and its memory is reclaimed as the cache is used.
+ * <p>
+ * Keys and values follow the same rules than {@link LocalMap}: immutable types are stored as is, {@link Shareable} and
+ * {@link ClusterSerializable} values are copied when they are returned.
+ */
+@VertxGen
+public interface LocalCache<K, V> {
+
+  /**
+   * Get a value from the cache
+   *
+   * @param key  the key
+   * @return  the value, or {@code null} if there is no live entry for this key
+   */
+  V get(K key);
+
+  /**
+   * Put an entry in the cache, the entry expires after the default time to live of the cache.
+   *
+   * @param key  the key
+   * @param value  the value
+   * @return  the previous value, or {@code null}
+   */
+  V put(K key, V value);
+
+  /**
+   * Like {@link #put} but specifying a time to live for the entry.
+   *
+   * @param key  the key
+   * @param value  the value
+   * @param ttl  the time to live in ms, {@code 0} means the entry does not expire
+   * @return  the previous value, or {@code null}
+   */
+  V put(K key, V value, long ttl);
+
+  /**
+   * Put the entry only if there is no live entry with the key already present.
+   *
+   * @param key  the key
+   * @param value  the value
+   * @return  the value of the live entry, or {@code null} when the entry was put
+   */
+  V putIfAbsent(K key, V value);
+
+  /**
+   * Remove an entry from the cache.
+   *
+   * @param key  the key
+   * @return the value of the removed entry, or {@code null}
+   */
+  V remove(K key);
+
+  /**
+   * @param key  the key
+   * @return whether the cache has a live entry for this key
+   */
+  boolean containsKey(K key);
+
+  /**
+   * Get the number of entries in the cache, expired entries are removed before counting.
+   *
+   * @return the number of entries
+   */
+  int size();
+
+  /**
+   * Remove all entries from the cache.
+   */
+  void clear();
+
+  /**
+   * Close and release the cache
+   */
+  void close();
+
+}
@@ -15,6 +15,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -122,6 +123,27 @@ public interface LocalMap<K, V> extends Map<K, V> {
    */
   V replace(K key, V value);
 
+  /**
+   * Get the values of several keys at once.
+   * <p>
+   * Keys without a mapping are absent from the returned map. Values are copied like {@link #get(Object)} does, a value
+   * instance mapped by several keys is copied once and the copy is shared by these keys in the returned map.
+   *
+   * @param keys the keys
+   * @return a new map of the keys to their current values
+   */
+  @GenIgnore
+  default Map<K, V> getAll(Iterable<? extends K> keys) {
+    Map<K, V> result = new HashMap<>();
+    for (K key : keys) {
+      V value = get(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+    return result;
+  }
+
   /**
    * Close and release the map
    */
@@ -228,6 +250,10 @@ public interface LocalMap<K, V> extends Map<K, V> {
    * Performs the given action for each entry in this map until all entries
    * have been processed or the action throws an exception.
    * <p>
+   * Unlike {@link #entrySet()}, the entries are not collected beforehand, keys and values are copied one entry at a
+   * time as the map is traversed. The traversal is weakly consistent, it reflects the state of the map at some point
+   * at or since its start.
+   * <p>
    * Exceptions thrown by the action are relayed to the caller.
    *
    * @param action The action to be performed for each entry
@@ -272,6 +298,9 @@ public interface LocalMap<K, V> extends Map<K, V> {
    * of calling {@link #put(Object, Object) put(k, v)} on this map once for each mapping from key {@code k} to value
    * {@code v} in the specified map.  The behavior of this operation is undefined if the specified map is modified
    * while the operation is in progress.
+   * <p>
+   * The types of all the mappings are checked before any of them is stored, so when a mapping is rejected this map
+   * is left unchanged.
    *
    * @param m mappings to be stored in this map
    */
@@ -229,6 +229,16 @@ public interface SharedData {
    */
   Future<Counter> getLocalCounter(String name);
 
+  /**
+   * Like {@link #getLocalCounter(String)} but specifying the options used to create the counter when it does not exist,
+   * otherwise the existing counter is returned and the {@code options} are ignored.
+   *
+   * @param name  the name of the counter.
+   * @param options  the options of the counter
+   * @return a future notified with the counter
+   */
+  Future<Counter> getLocalCounter(String name, CounterOptions options);
+
   /**
    * Return a {@code LocalMap} with the specific {@code name}.
    *
@@ -237,4 +247,14 @@ public interface SharedData {
    */
   <K, V> LocalMap<K, V> getLocalMap(String name);
 
+  /**
+   * Return a {@code LocalCache} with the specific {@code name}, the cache is created with the {@code options} when it
+   * does not exist, otherwise the existing cache is returned and the {@code options} are ignored.
+   *
+   * @param name  the name of the cache
+   * @param options  the options of the cache
+   * @return the cache
+   */
+  <K, V> LocalCache<K, V> getLocalCache(String name, CacheOptions options);
+
 }
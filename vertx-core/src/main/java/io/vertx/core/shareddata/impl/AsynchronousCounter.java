@@ -85,6 +85,11 @@ public class AsynchronousCounter implements Counter {
     return promise.future();
   }
 
+  @Override
+  public void add(long value) {
+    counter.addAndGet(value);
+  }
+
   @Override
   public Future<Boolean> compareAndSet(long expected, long value) {
     ContextInternal context = vertx.getOrCreateContext();
@@ -58,13 +58,31 @@ class Checker {
     }
   }
 
+  /**
+   * Caches per class whether instances are immutable and can be shared without a copy, enum constants are
+   * singletons that deserialize to themselves.
+   */
+  private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return IMMUTABLE_TYPES.contains(type) || type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum());
+    }
+  };
+
+  /**
+   * @return whether {@code obj} is immutable and therefore never needs to be copied
+   */
+  static boolean isImmutable(Object obj) {
+    return IMMUTABLE.get(obj.getClass());
+  }
+
   @SuppressWarnings("unchecked")
   static <T> T copyIfRequired(T obj) {
     Object result;
     if (obj == null) {
       // Happens with putIfAbsent
       result = null;
-    } else if (IMMUTABLE_TYPES.contains(obj.getClass())) {
+    } else if (isImmutable(obj)) {
       result = obj;
     } else if (obj instanceof byte[]) {
       result = copyByteArray((byte[]) obj);
@@ -16,6 +16,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,77 +26,191 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
-import static java.util.concurrent.TimeUnit.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.*;
 
 /**
+ * Entries with a time to live are tracked by a {@link TimerWheel}, a single periodic timer sweeps the wheel while it
+ * has scheduled entries. The timer runs on a context of its own, so it is not cancelled when the deployment that
+ * first used the map is undeployed. Expired entries are treated as absent by all operations until they are swept.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
+  /**
+   * The period of the sweep of expired entries in ms.
+   */
+  static final long SWEEP_PERIOD = 100;
+
   private final VertxInternal vertx;
-  private final ConcurrentMap<K, Holder<V>> map;
+  private final ConcurrentMap<K, Holder<K, V>> map;
+  private final long origin = System.nanoTime();
+  // Guards the timer wheel and the sweep timer
+  private final ReentrantLock expiryLock = new ReentrantLock();
+  private final TimerWheel timerWheel = new TimerWheel(0L);
+  private ContextInternal sweepContext;
+  private long sweepTimerId = -1L;
 
   public LocalAsyncMapImpl(VertxInternal vertx) {
     this.vertx = vertx;
     map = new ConcurrentHashMap<>();
   }
 
+  private long now() {
+    return System.nanoTime() - origin;
+  }
+
+  private Holder<K, V> holder(K k, V v, long ttl) {
+    if (ttl < 1) {
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+    }
+    return new Holder<>(k, v, now() + MILLISECONDS.toNanos(ttl));
+  }
+
+  /**
+   * Schedule the expiration of {@code holder}, this must happen before the holder is visible in the map
+   * so a concurrent removal always finds it scheduled. Once visible, {@link #removeIfExpired} must be called since
+   * a sweep happening in between misses the holder.
+   */
+  private void schedule(Holder<K, V> holder) {
+    expiryLock.lock();
+    try {
+      timerWheel.schedule(holder);
+      if (sweepTimerId == -1L) {
+        if (sweepContext == null) {
+          sweepContext = vertx.createEventLoopContext();
+        }
+        sweepTimerId = sweepContext.setPeriodic(SWEEP_PERIOD, id -> sweep());
+      }
+    } finally {
+      expiryLock.unlock();
+    }
+  }
+
+  /**
+   * Remove {@code holder} when it expired before it became visible in the map.
+   */
+  private void removeIfExpired(Holder<K, V> holder) {
+    if (!holder.hasNotExpired(now()) && map.remove(holder.key, holder)) {
+      cancel(holder);
+    }
+  }
+
+  private void cancel(Holder<K, V> holder) {
+    if (holder != null && holder.expires()) {
+      expiryLock.lock();
+      try {
+        timerWheel.deschedule(holder);
+      } finally {
+        expiryLock.unlock();
+      }
+    }
+  }
+
+  private void sweep() {
+    removeExpired(true);
+  }
+
+  /**
+   * Remove the expired entries from the map.
+   *
+   * @param stopSweep whether to cancel the sweep timer when no entry is left in the wheel
+   */
+  @SuppressWarnings("unchecked")
+  private void removeExpired(boolean stopSweep) {
+    List<TimerWheel.Timeout> expired = new ArrayList<>();
+    expiryLock.lock();
+    try {
+      timerWheel.advance(now(), expired::add);
+      if (stopSweep && timerWheel.size() == 0 && sweepTimerId != -1L) {
+        vertx.cancelTimer(sweepTimerId);
+        sweepTimerId = -1L;
+      }
+    } finally {
+      expiryLock.unlock();
+    }
+    // Update the map outside of the lock, map operations acquire the lock while holding a map bin lock
+    for (TimerWheel.Timeout timeout : expired) {
+      Holder<K, V> holder = (Holder<K, V>) timeout;
+      map.remove(holder.key, holder);
+    }
+  }
+
   @Override
   public Future<V> get(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.get(k);
-    if (h != null && h.hasNotExpired()) {
-      return ctx.succeededFuture(h.value);
-    } else {
-      return ctx.succeededFuture();
+    Holder<K, V> h = map.get(k);
+    if (h != null) {
+      if (h.hasNotExpired(now())) {
+        return ctx.succeededFuture(h.value);
+      }
+      if (map.remove(k, h)) {
+        cancel(h);
+      }
     }
+    return ctx.succeededFuture();
   }
 
   @Override
   public Future<Void> put(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    Holder<K, V> previous = map.put(k, new Holder<>(k, v, 0L));
+    cancel(previous);
     return ctx.succeededFuture();
   }
 
   @Override
   public Future<V> putIfAbsent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
-    return ctx.succeededFuture(h == null ? null : h.value);
+    Holder<K, V> existing = putIfAbsent(new Holder<>(k, v, 0L));
+    return ctx.succeededFuture(existing == null ? null : existing.value);
+  }
+
+  /**
+   * Put {@code h} in the map unless a live entry exists, an expired entry is replaced.
+   *
+   * @return the live entry or {@code null} when {@code h} was put
+   */
+  private Holder<K, V> putIfAbsent(Holder<K, V> h) {
+    long now = now();
+    AtomicReference<Holder<K, V>> existing = new AtomicReference<>();
+    map.compute(h.key, (key, holder) -> {
+      if (holder != null && holder.hasNotExpired(now)) {
+        existing.set(holder);
+        return holder;
+      }
+      cancel(holder);
+      return h;
+    });
+    return existing.get();
   }
 
   @Override
   public Future<Void> put(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    Holder<K, V> h = holder(k, v, ttl);
+    schedule(h);
+    Holder<K, V> previous = map.put(k, h);
+    cancel(previous);
+    removeIfExpired(h);
     return ctx.succeededFuture();
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
-  }
-
   @Override
   public Future<V> putIfAbsent(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, ttl, timestamp));
+    Holder<K, V> h = holder(k, v, ttl);
+    schedule(h);
+    Holder<K, V> existing = putIfAbsent(h);
     if (existing != null) {
-      vertx.cancelTimer(timerId);
+      cancel(h);
       return ctx.succeededFuture(existing.value);
     } else {
+      removeIfExpired(h);
       return ctx.succeededFuture();
     }
   }
@@ -104,12 +219,15 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   public Future<Boolean> removeIfPresent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
     AtomicBoolean result = new AtomicBoolean();
+    long now = now();
     map.computeIfPresent(k, (key, holder) -> {
+      if (!holder.hasNotExpired(now)) {
+        cancel(holder);
+        return null;
+      }
       if (holder.value.equals(v)) {
         result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        cancel(holder);
         return null;
       }
       return holder;
@@ -120,29 +238,40 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> replace(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.replace(k, new Holder<>(v));
-    if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
+    Holder<K, V> previous = replace(new Holder<>(k, v, 0L));
+    return ctx.succeededFuture(previous == null ? null : previous.value);
+  }
+
+  /**
+   * Replace the live entry of the key of {@code h}, an expired entry is removed instead.
+   *
+   * @return the replaced entry or {@code null}
+   */
+  private Holder<K, V> replace(Holder<K, V> h) {
+    long now = now();
+    AtomicReference<Holder<K, V>> previous = new AtomicReference<>();
+    map.computeIfPresent(h.key, (key, holder) -> {
+      cancel(holder);
+      if (holder.hasNotExpired(now)) {
+        previous.set(holder);
+        return h;
       }
-      return ctx.succeededFuture(previous.value);
-    } else {
-      return ctx.succeededFuture();
-    }
+      return null;
+    });
+    return previous.get();
   }
 
   @Override
   public Future<V> replace(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.replace(k, new Holder<>(v, timerId, ttl, timestamp));
+    Holder<K, V> h = holder(k, v, ttl);
+    schedule(h);
+    Holder<K, V> previous = replace(h);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      removeIfExpired(h);
       return ctx.succeededFuture(previous.value);
     } else {
+      cancel(h);
       return ctx.succeededFuture();
     }
   }
@@ -150,66 +279,84 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
-        return h;
-      }
-      return holder;
-    });
+    Holder<K, V> h = new Holder<>(k, newValue, 0L);
+    Holder<K, V> result = replaceIfPresent(h, oldValue);
     return ctx.succeededFuture(h == result);
   }
 
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> h = new Holder<>(newValue, timerId, ttl, timestamp);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
-        return h;
-      }
-      return holder;
-    });
+    Holder<K, V> h = holder(k, newValue, ttl);
+    schedule(h);
+    Holder<K, V> result = replaceIfPresent(h, oldValue);
     if(h == result) {
+      removeIfExpired(h);
       return ctx.succeededFuture(true);
     } else {
-      vertx.cancelTimer(timerId);
+      cancel(h);
       return ctx.succeededFuture(false);
     }
   }
 
+  /**
+   * Replace the live entry of the key of {@code h} when its value is {@code oldValue}, an expired entry is removed
+   * instead.
+   *
+   * @return the entry of the key after the operation
+   */
+  private Holder<K, V> replaceIfPresent(Holder<K, V> h, V oldValue) {
+    long now = now();
+    return map.computeIfPresent(h.key, (key, holder) -> {
+      if (!holder.hasNotExpired(now)) {
+        cancel(holder);
+        return null;
+      }
+      if (holder.value.equals(oldValue)) {
+        cancel(holder);
+        return h;
+      }
+      return holder;
+    });
+  }
+
   @Override
   public Future<Void> clear() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    map.clear();
+    map.forEach((key, holder) -> {
+      if (map.remove(key, holder)) {
+        cancel(holder);
+      }
+    });
     return ctx.succeededFuture();
   }
 
   @Override
   public Future<Integer> size() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    removeExpired(false);
     return ctx.succeededFuture(map.size());
   }
 
   @Override
   public Future<Set<K>> keys() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(new HashSet<>(map.keySet()));
+    long now = now();
+    Set<K> result = new HashSet<>(map.size());
+    map.forEach((key, holder) -> {
+      if (holder.hasNotExpired(now)) {
+        result.add(key);
+      }
+    });
+    return ctx.succeededFuture(result);
   }
 
   @Override
   public Future<List<V>> values() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    long now = now();
     List<V> result = map.values().stream()
-      .filter(Holder::hasNotExpired)
+      .filter(h -> h.hasNotExpired(now))
       .map(h -> h.value)
       .collect(toList());
     return ctx.succeededFuture(result);
@@ -218,9 +365,10 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Map<K, V>> entries() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    long now = now();
     Map<K, V> result = new HashMap<>(map.size());
     map.forEach((key, holder) -> {
-      if (holder.hasNotExpired()) {
+      if (holder.hasNotExpired(now)) {
         result.put(key, holder.value);
       }
     });
@@ -230,51 +378,40 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> remove(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.remove(k);
+    Holder<K, V> previous = map.remove(k);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
-      return ctx.succeededFuture(previous.value);
+      cancel(previous);
+      return ctx.succeededFuture(previous.hasNotExpired(now()) ? previous.value : null);
     } else {
       return ctx.succeededFuture();
     }
   }
 
-  private static class Holder<V> {
+  private static class Holder<K, V> extends TimerWheel.Timeout {
+    final K key;
     final V value;
-    final long timerId;
-    final long ttl;
-    final long timestamp;
 
-    Holder(V value) {
+    /**
+     * @param expiresAt the expiration time relative to the map origin in ns, or {@code 0} when the entry does not expire
+     */
+    Holder(K key, V value, long expiresAt) {
+      super(expiresAt);
       Objects.requireNonNull(value);
+      this.key = key;
       this.value = value;
-      timestamp = ttl = timerId = 0;
-    }
-
-    Holder(V value, long timerId, long ttl, long timestamp) {
-      Objects.requireNonNull(value);
-      if (ttl < 1) {
-        throw new IllegalArgumentException("ttl must be positive: " + ttl);
-      }
-      this.value = value;
-      this.timerId = timerId;
-      this.ttl = ttl;
-      this.timestamp = timestamp;
     }
 
     boolean expires() {
-      return ttl > 0;
+      return expiresAt != 0L;
     }
 
-    boolean hasNotExpired() {
-      return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
+    boolean hasNotExpired(long now) {
+      return !expires() || now < expiresAt;
     }
 
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "value=" + value + ", expiresAt=" + expiresAt + '}';
     }
   }
 }
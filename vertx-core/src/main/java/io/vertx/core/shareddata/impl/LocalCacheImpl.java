@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.shareddata.CacheOptions;
+import io.vertx.core.shareddata.LocalCache;
+import io.vertx.core.spi.metrics.CacheMetrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+
+import static io.vertx.core.shareddata.impl.Checker.checkType;
+import static io.vertx.core.shareddata.impl.Checker.copyIfRequired;
+
+/**
+ * A bounded {@link LocalCache}, the cache is bounded by its number of entries and optionally by the total weight of
+ * its entries. The segments of the eviction policy are sized by number of entries.
+ *
+ * <p>Lookups read a {@link ConcurrentHashMap} without locking. The eviction policy and the timer wheel are guarded by
+ * a lock: writes always acquire it, reads only record the access when the lock is free, under contention the access
+ * is not recorded which only affects the accuracy of the policy.</p>
+ */
+class LocalCacheImpl<K, V> implements LocalCache<K, V> {
+
+  private final ConcurrentMap<String, LocalCache<?, ?>> caches;
+  private final String name;
+  private final long maxSize;
+  private final long maxWeight;
+  private final ToIntBiFunction<K, V> weigher;
+  private final long defaultTtl;
+  private final CacheMetrics metrics;
+  private final ConcurrentMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Policy<K, V> policy;
+  private final long origin = System.nanoTime();
+  private final TimerWheel timerWheel = new TimerWheel(0L);
+  private final Consumer<TimerWheel.Timeout> onExpiration = this::onExpiration;
+  private long totalWeight;
+
+  LocalCacheImpl(String name, CacheOptions options, CacheMetrics metrics, ConcurrentMap<String, LocalCache<?, ?>> caches) {
+    this.name = name;
+    this.caches = caches;
+    this.maxSize = options.getMaxSize();
+    this.maxWeight = options.getMaxWeight() == 0L ? Long.MAX_VALUE : options.getMaxWeight();
+    this.weigher = options.getWeigher();
+    this.defaultTtl = options.getTtl();
+    this.metrics = metrics;
+    switch (options.getEvictionPolicy()) {
+      case TINY_LFU:
+        policy = new TinyLfuPolicy<>(maxSize);
+        break;
+      case LRU:
+      default:
+        policy = new LruPolicy<>();
+        break;
+    }
+  }
+
+  private long now() {
+    return System.nanoTime() - origin;
+  }
+
+  @Override
+  public V get(K key) {
+    Node<K, V> node = data.get(key);
+    long now = now();
+    if (node == null || node.isExpired(now)) {
+      if (metrics != null) {
+        metrics.miss();
+      }
+      if (node != null && lock.tryLock()) {
+        try {
+          maintenance(now);
+        } finally {
+          lock.unlock();
+        }
+      }
+      return null;
+    }
+    if (metrics != null) {
+      metrics.hit();
+    }
+    if (lock.tryLock()) {
+      try {
+        if (node.alive) {
+          policy.onAccess(node);
+        }
+        maintenance(now);
+      } finally {
+        lock.unlock();
+      }
+    }
+    return copyIfRequired(node.value);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return put(key, value, defaultTtl);
+  }
+
+  @Override
+  public V put(K key, V value, long ttl) {
+    checkType(key);
+    checkType(value);
+    if (ttl < 0) {
+      throw new IllegalArgumentException("ttl must be >= 0");
+    }
+    int weight = weigh(key, value);
+    lock.lock();
+    try {
+      long now = now();
+      Node<K, V> previous = add(new Node<>(key, value, weight, expiration(now, ttl)), now);
+      V result = previous == null || previous.isExpired(now) ? null : previous.value;
+      maintenance(now);
+      return copyIfRequired(result);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    checkType(key);
+    checkType(value);
+    int weight = weigh(key, value);
+    lock.lock();
+    try {
+      long now = now();
+      Node<K, V> existing = data.get(key);
+      if (existing != null && !existing.isExpired(now)) {
+        return copyIfRequired(existing.value);
+      }
+      add(new Node<>(key, value, weight, expiration(now, defaultTtl)), now);
+      maintenance(now);
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V remove(K key) {
+    lock.lock();
+    try {
+      Node<K, V> node = data.remove(key);
+      if (node == null) {
+        return null;
+      }
+      unlink(node);
+      return node.isExpired(now()) ? null : copyIfRequired(node.value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    Node<K, V> node = data.get(key);
+    return node != null && !node.isExpired(now());
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      maintenance(now());
+      return data.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock.lock();
+    try {
+      for (Node<K, V> node : data.values()) {
+        if (data.remove(node.key, node)) {
+          unlink(node);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (caches.remove(name, this)) {
+      clear();
+      if (metrics != null) {
+        metrics.close();
+      }
+    }
+  }
+
+  /**
+   * Compute the weight of an entry, the weigher is called outside of the lock.
+   */
+  private int weigh(K key, V value) {
+    if (weigher == null) {
+      return 1;
+    }
+    int weight = weigher.applyAsInt(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("weight must be >= 0: " + weight);
+    }
+    return weight;
+  }
+
+  private static long expiration(long now, long ttl) {
+    return ttl == 0 ? 0L : now + TimeUnit.MILLISECONDS.toNanos(ttl);
+  }
+
+  /**
+   * Add {@code node} to the cache, must be called under the lock.
+   *
+   * @param now the current time, the wheel is advanced to it before scheduling the expiration
+   * @return the replaced node
+   */
+  private Node<K, V> add(Node<K, V> node, long now) {
+    if (node.weight > maxWeight) {
+      // The entry would evict all the other entries and itself, it is evicted right away
+      Node<K, V> previous = data.remove(node.key);
+      if (previous != null) {
+        unlink(previous);
+      }
+      if (metrics != null) {
+        metrics.eviction();
+      }
+      return previous;
+    }
+    Node<K, V> previous = data.put(node.key, node);
+    if (previous != null) {
+      unlink(previous);
+    }
+    node.alive = true;
+    totalWeight += node.weight;
+    policy.onAdd(node);
+    if (node.expiresAt != 0L) {
+      timerWheel.advance(now, onExpiration);
+      timerWheel.schedule(node);
+    }
+    return previous;
+  }
+
+  private void unlink(Node<K, V> node) {
+    node.alive = false;
+    totalWeight -= node.weight;
+    policy.onRemove(node);
+    timerWheel.deschedule(node);
+  }
+
+  /**
+   * Reclaim the expired entries and then evict entries exceeding the maximum size or the maximum weight, so expired
+   * entries never cause the eviction of a live entry, must be called under the lock.
+   */
+  private void maintenance(long now) {
+    timerWheel.advance(now, onExpiration);
+    while (data.size() > maxSize || totalWeight > maxWeight) {
+      Node<K, V> victim = policy.victim();
+      if (victim == null) {
+        break;
+      }
+      data.remove(victim.key, victim);
+      unlink(victim);
+      if (metrics != null) {
+        metrics.eviction();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void onExpiration(TimerWheel.Timeout expired) {
+    Node<K, V> node = (Node<K, V>) expired;
+    if (data.remove(node.key, node)) {
+      node.alive = false;
+      totalWeight -= node.weight;
+      policy.onRemove(node);
+      if (metrics != null) {
+        metrics.expiration();
+      }
+    }
+  }
+
+  /**
+   * A cache entry, the links are guarded by the cache lock.
+   */
+  static final class Node<K, V> extends TimerWheel.Timeout {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    final K key;
+    final V value;
+    final int weight;
+    boolean alive;
+    int queue;
+    Node<K, V> prev;
+    Node<K, V> next;
+
+    Node(K key, V value, int weight, long expiresAt) {
+      super(expiresAt);
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+
+    boolean isExpired(long now) {
+      return expiresAt != 0L && expiresAt <= now;
+    }
+  }
+
+  /**
+   * A doubly linked list of nodes in access order, the head is the least recently used node.
+   */
+  private static final class AccessOrder<K, V> {
+
+    private final Node<K, V> sentinel = new Node<>(null, null, 0, 0L);
+    private int size;
+
+    AccessOrder() {
+      sentinel.prev = sentinel;
+      sentinel.next = sentinel;
+    }
+
+    Node<K, V> head() {
+      return sentinel.next == sentinel ? null : sentinel.next;
+    }
+
+    void addLast(Node<K, V> node) {
+      Node<K, V> last = sentinel.prev;
+      node.prev = last;
+      node.next = sentinel;
+      last.next = node;
+      sentinel.prev = node;
+      size++;
+    }
+
+    void remove(Node<K, V> node) {
+      node.prev.next = node.next;
+      node.next.prev = node.prev;
+      node.prev = null;
+      node.next = null;
+      size--;
+    }
+
+    void moveToLast(Node<K, V> node) {
+      remove(node);
+      addLast(node);
+    }
+  }
+
+  /**
+   * The eviction policy, called under the cache lock.
+   */
+  private interface Policy<K, V> {
+
+    void onAdd(Node<K, V> node);
+
+    void onAccess(Node<K, V> node);
+
+    void onRemove(Node<K, V> node);
+
+    /**
+     * @return the node to evict, or {@code null} when the policy is empty
+     */
+    Node<K, V> victim();
+
+  }
+
+  private static final class LruPolicy<K, V> implements Policy<K, V> {
+
+    private final AccessOrder<K, V> order = new AccessOrder<>();
+
+    @Override
+    public void onAdd(Node<K, V> node) {
+      order.addLast(node);
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+      order.moveToLast(node);
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+      if (node.next != null) {
+        order.remove(node);
+      }
+    }
+
+    @Override
+    public Node<K, V> victim() {
+      return order.head();
+    }
+  }
+
+  /**
+   * Window TinyLFU: new nodes enter an LRU window of 1% of the capacity, the main space is a segmented LRU whose
+   * probation segment receives the nodes leaving the window and whose protected segment (80% of the main space)
+   * receives the probation nodes accessed again. When the cache is full, the candidate leaving the window competes
+   * with the head of the probation segment and the least frequently used one is evicted.
+   */
+  private static final class TinyLfuPolicy<K, V> implements Policy<K, V> {
+
+    private final FrequencySketch sketch;
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> probation = new AccessOrder<>();
+    private final AccessOrder<K, V> protect = new AccessOrder<>();
+    private final long windowMaxSize;
+    private final long protectedMaxSize;
+
+    TinyLfuPolicy(long maxSize) {
+      sketch = new FrequencySketch(maxSize);
+      windowMaxSize = Math.max(1, maxSize / 100);
+      protectedMaxSize = (maxSize - windowMaxSize) * 8 / 10;
+    }
+
+    private AccessOrder<K, V> queueOf(Node<K, V> node) {
+      switch (node.queue) {
+        case Node.WINDOW:
+          return window;
+        case Node.PROBATION:
+          return probation;
+        default:
+          return protect;
+      }
+    }
+
+    @Override
+    public void onAdd(Node<K, V> node) {
+      sketch.increment(node.key);
+      node.queue = Node.WINDOW;
+      window.addLast(node);
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+      sketch.increment(node.key);
+      switch (node.queue) {
+        case Node.WINDOW:
+          window.moveToLast(node);
+          break;
+        case Node.PROBATION:
+          probation.remove(node);
+          node.queue = Node.PROTECTED;
+          protect.addLast(node);
+          if (protect.size > protectedMaxSize) {
+            Node<K, V> demoted = protect.head();
+            protect.remove(demoted);
+            demoted.queue = Node.PROBATION;
+            probation.addLast(demoted);
+          }
+          break;
+        default:
+          protect.moveToLast(node);
+          break;
+      }
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+      if (node.next != null) {
+        queueOf(node).remove(node);
+      }
+    }
+
+    @Override
+    public Node<K, V> victim() {
+      // Move the nodes exceeding the window to the main space, the most recent one is the admission candidate
+      Node<K, V> candidate = null;
+      while (window.size > windowMaxSize) {
+        candidate = window.head();
+        window.remove(candidate);
+        candidate.queue = Node.PROBATION;
+        probation.addLast(candidate);
+      }
+      Node<K, V> victim = probation.head();
+      if (candidate == null) {
+        if (victim == null) {
+          victim = protect.head();
+        }
+        return victim != null ? victim : window.head();
+      }
+      if (victim == candidate) {
+        victim = protect.head();
+        if (victim == null) {
+          return candidate;
+        }
+      }
+      // The victim wins ties, this protects the main space against one-hit wonders
+      return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.util.function.Function;
 
 import static io.vertx.core.shareddata.impl.Checker.checkType;
 import static io.vertx.core.shareddata.impl.Checker.copyIfRequired;
+import static io.vertx.core.shareddata.impl.Checker.isImmutable;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -119,6 +120,27 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
     });
   }
 
+  @Override
+  public Map<K, V> getAll(Iterable<? extends K> keys) {
+    Map<K, V> result = new HashMap<>();
+    // Copy each mutable instance once, even when it is mapped by several keys
+    Map<V, V> copies = null;
+    for (K key : keys) {
+      V value = map.get(key);
+      if (value == null) {
+        continue;
+      }
+      if (!isImmutable(value)) {
+        if (copies == null) {
+          copies = new IdentityHashMap<>();
+        }
+        value = copies.computeIfAbsent(value, Checker::copyIfRequired);
+      }
+      result.put(key, value);
+    }
+    return result;
+  }
+
   @Override
   public void close() {
     maps.remove(name);
@@ -233,8 +255,8 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
   @Override
   public void forEach(BiConsumer<? super K, ? super V> action) {
     // Cannot delegate, it needs to copy the objects to avoid modifications
-    for (Map.Entry<K, V> entry : entrySet()) {
-      action.accept(entry.getKey(), entry.getValue());
+    for (Map.Entry<K, V> entry : map.entrySet()) {
+      action.accept(copyIfRequired(entry.getKey()), copyIfRequired(entry.getValue()));
     }
   }
 
@@ -259,10 +281,12 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
 
   @Override
   public void putAll(Map<? extends K, ? extends V> m) {
-    // Iterate over the set to entry and call `put` on each entry to validate the types
+    // Validate all the types first, so a rejected entry does not leave the map partially updated
     for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
-      put(entry.getKey(), entry.getValue());
+      checkType(entry.getKey());
+      checkType(entry.getValue());
     }
+    map.putAll(m);
   }
 
   @Override
@@ -18,6 +18,8 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.shareddata.*;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.CacheMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.io.Serializable;
 import java.util.List;
@@ -40,6 +42,7 @@ public class SharedDataImpl implements SharedData {
   private final ConcurrentMap<String, LocalAsyncMapImpl<?, ?>> localAsyncMaps = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, Counter> localCounters = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, LocalMap<?, ?>> localMaps = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LocalCache<?, ?>> localCaches = new ConcurrentHashMap<>();
 
   public SharedDataImpl(VertxInternal vertx, ClusterManager clusterManager) {
     this.vertx = vertx;
@@ -122,6 +125,18 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> LocalCache<K, V> getLocalCache(String name, CacheOptions options) {
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(options, "options");
+    return (LocalCache<K, V>) localCaches.computeIfAbsent(name, n -> {
+      VertxMetrics metrics = vertx.metricsSPI();
+      CacheMetrics cacheMetrics = metrics != null ? metrics.createCacheMetrics(n, options.getMaxSize()) : null;
+      return new LocalCacheImpl<>(n, new CacheOptions(options), cacheMetrics, localCaches);
+    });
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name) {
@@ -137,6 +152,14 @@ public class SharedDataImpl implements SharedData {
     return context.succeededFuture(counter);
   }
 
+  @Override
+  public Future<Counter> getLocalCounter(String name, CounterOptions options) {
+    Objects.requireNonNull(options, "options");
+    Counter counter = localCounters.computeIfAbsent(name, n -> options.isStriped() ? new StripedCounter(vertx) : new AsynchronousCounter(vertx));
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.succeededFuture(counter);
+  }
+
   private static void checkType(Object obj) {
     if (obj == null) {
       throw new IllegalArgumentException("Cannot put null in key or value of async map");
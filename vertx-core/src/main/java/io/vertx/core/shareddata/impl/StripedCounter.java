@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.shareddata.Counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local counter spreading the updates over the cells of a {@link LongAdder}, the cells are summed on read.
+ *
+ * <p>The values returned by the update operations are computed from the sum, they are not atomic with the update.</p>
+ */
+public class StripedCounter implements Counter {
+
+  private final VertxInternal vertx;
+  private final LongAdder counter = new LongAdder();
+
+  public StripedCounter(VertxInternal vertx) {
+    this.vertx = vertx;
+  }
+
+  @Override
+  public Future<Long> get() {
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.succeededFuture(counter.sum());
+  }
+
+  @Override
+  public Future<Long> incrementAndGet() {
+    return addAndGet(1L);
+  }
+
+  @Override
+  public Future<Long> getAndIncrement() {
+    return getAndAdd(1L);
+  }
+
+  @Override
+  public Future<Long> decrementAndGet() {
+    return addAndGet(-1L);
+  }
+
+  @Override
+  public Future<Long> addAndGet(long value) {
+    ContextInternal context = vertx.getOrCreateContext();
+    counter.add(value);
+    return context.succeededFuture(counter.sum());
+  }
+
+  @Override
+  public Future<Long> getAndAdd(long value) {
+    ContextInternal context = vertx.getOrCreateContext();
+    counter.add(value);
+    return context.succeededFuture(counter.sum() - value);
+  }
+
+  @Override
+  public void add(long value) {
+    counter.add(value);
+  }
+
+  @Override
+  public Future<Boolean> compareAndSet(long expected, long value) {
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.failedFuture(new UnsupportedOperationException("compareAndSet is not supported by striped counters"));
+  }
+}
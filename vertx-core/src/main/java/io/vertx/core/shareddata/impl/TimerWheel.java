@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel tracking the expiration of entries without a timer per entry.
+ *
+ * <p>The wheel has four levels of 64 buckets, a bucket spans ~16ms, ~1s, ~1min and ~1h respectively. An entry is
+ * scheduled in the finest level whose range covers its delay. When time advances, the buckets that elapsed and the
+ * bucket of the current tick are emptied: expired entries are reported and the other entries are scheduled again,
+ * moving them to a finer level. The finest bucket of the current tick is emptied on each advance, so an entry is
+ * reported by the first advance at or after its expiration. Entries beyond the range of the last level wrap around
+ * and are rescheduled until they expire.</p>
+ *
+ * <p>Times are expressed in nanoseconds and must not be negative. The delay of a scheduled entry is relative to the
+ * time of the last advance, the wheel should be advanced before scheduling. This class is not thread safe.</p>
+ */
+final class TimerWheel {
+
+  private static final int BUCKETS = 64;
+  private static final int[] SHIFTS = { 24, 30, 36, 42 };
+
+  private final Timeout[][] wheel;
+  private long time;
+  private int size;
+
+  TimerWheel(long time) {
+    this.time = time;
+    wheel = new Timeout[SHIFTS.length][BUCKETS];
+    for (Timeout[] level : wheel) {
+      for (int i = 0; i < BUCKETS; i++) {
+        Timeout sentinel = new Timeout(0L);
+        sentinel.timerPrev = sentinel;
+        sentinel.timerNext = sentinel;
+        level[i] = sentinel;
+      }
+    }
+  }
+
+  /**
+   * @return the number of scheduled timeouts
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Schedule the expiration of {@code node} at {@link Timeout#expiresAt}.
+   */
+  void schedule(Timeout node) {
+    size++;
+    long delay = node.expiresAt - time;
+    int level = 0;
+    while (level < SHIFTS.length - 1 && delay >= (1L << (SHIFTS[level] + 6))) {
+      level++;
+    }
+    Timeout sentinel = wheel[level][(int) ((node.expiresAt >> SHIFTS[level]) & (BUCKETS - 1))];
+    Timeout last = sentinel.timerPrev;
+    node.timerPrev = last;
+    node.timerNext = sentinel;
+    last.timerNext = node;
+    sentinel.timerPrev = node;
+  }
+
+  /**
+   * Remove {@code node} from the wheel, this has no effect when the node is not scheduled.
+   */
+  void deschedule(Timeout node) {
+    if (node.timerNext != null) {
+      size--;
+      node.timerPrev.timerNext = node.timerNext;
+      node.timerNext.timerPrev = node.timerPrev;
+      node.timerPrev = null;
+      node.timerNext = null;
+    }
+  }
+
+  /**
+   * Advance the wheel to {@code now} and report the entries that expired.
+   *
+   * @param now the current time
+   * @param expired the callback receiving expired entries, the entries are already removed from the wheel
+   */
+  void advance(long now, Consumer<Timeout> expired) {
+    long previous = time;
+    if (now <= previous) {
+      return;
+    }
+    time = now;
+    for (int level = 0; level < SHIFTS.length; level++) {
+      long previousTicks = previous >> SHIFTS[level];
+      long delta = (now >> SHIFTS[level]) - previousTicks;
+      if (delta <= 0 && level > 0) {
+        break;
+      }
+      // Include the bucket of the current tick
+      int count = (int) Math.min(delta + 1, BUCKETS);
+      for (int i = 0; i < count; i++) {
+        expire(wheel[level][(int) ((previousTicks + i) & (BUCKETS - 1))], now, expired);
+      }
+    }
+  }
+
+  private void expire(Timeout sentinel, long now, Consumer<Timeout> expired) {
+    // Detach the bucket content, nodes scheduled again might land in the same bucket
+    Timeout node = sentinel.timerNext;
+    sentinel.timerPrev = sentinel;
+    sentinel.timerNext = sentinel;
+    while (node != sentinel) {
+      Timeout next = node.timerNext;
+      node.timerPrev = null;
+      node.timerNext = null;
+      size--;
+      if (node.expiresAt <= now) {
+        expired.accept(node);
+      } else {
+        schedule(node);
+      }
+      node = next;
+    }
+  }
+
+  /**
+   * An entry of the wheel, the links are guarded by the owner of the wheel.
+   */
+  static class Timeout {
+
+    final long expiresAt;
+    Timeout timerPrev;
+    Timeout timerNext;
+
+    Timeout(long expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+  }
+}
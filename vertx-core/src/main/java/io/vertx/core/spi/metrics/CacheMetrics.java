@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * Local cache metrics.
+ */
+public interface CacheMetrics extends Metrics {
+
+  /**
+   * Signals a lookup found a live entry.
+   */
+  default void hit() {
+  }
+
+  /**
+   * Signals a lookup did not find an entry or found an expired entry.
+   */
+  default void miss() {
+  }
+
+  /**
+   * Signals an entry was evicted to keep the cache within its maximum size.
+   */
+  default void eviction() {
+  }
+
+  /**
+   * Signals an expired entry was removed from the cache.
+   */
+  default void expiration() {
+  }
+}
@@ -110,6 +110,19 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageWritten(String address, int numberOfBytes) {
   }
 
+  /**
+   * A batch of messages has been written to the network connection of a remote node, this is only called when
+   * write batching is enabled.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param nodeId the remote node identifier
+   * @param numberOfMessages the number of messages in the batch
+   * @param numberOfBytes the number of bytes of the batch
+   */
+  default void messageBatchWritten(String nodeId, int numberOfMessages, int numberOfBytes) {
+  }
+
   /**
    * A message has been received from the network.<p/>
    *
@@ -64,6 +64,21 @@ public interface HttpClientMetrics<R, W, S> extends TCPMetrics<S> {
   default void endpointDisconnected(ClientMetrics<R, ?, ?> endpointMetric) {
   }
 
+  /**
+   * Called when the number of requests in-flight on the pipelined HTTP/1.1 connections to an endpoint changes, this is
+   * only called when {@link io.vertx.core.http.HttpClientOptions#setPipelining(boolean) pipelining} is enabled.
+   *
+   * <p> A request is in-flight from the time it is scheduled on a connection until the end of its response, a depth
+   * greater than the number of connections means requests are queued behind other responses.
+   *
+   * <p> This method can be called from any thread.
+   *
+   * @param endpointMetric the endpoint metric
+   * @param depth the number of in-flight requests
+   */
+  default void pipelineDepth(ClientMetrics<R, ?, ?> endpointMetric, int depth) {
+  }
+
   /**
    * Called when a web socket connects.
    *
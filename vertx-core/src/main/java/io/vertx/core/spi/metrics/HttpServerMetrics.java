@@ -124,4 +124,14 @@ public interface HttpServerMetrics<R, W, S> extends TCPMetrics<S> {
    */
   default void requestRouted(R requestMetric, String route) {
   }
+
+  /**
+   * Called when the server has compressed a part of an HTTP/1.x response body.
+   *
+   * @param bytesIn the number of bytes before compression
+   * @param bytesOut the number of bytes after compression
+   * @param nanos the time spent compressing in nanoseconds
+   */
+  default void bytesCompressed(long bytesIn, long bytesOut, long nanos) {
+  }
 }
@@ -142,6 +142,17 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the local cache metrics SPI when a local cache is created.
+   *
+   * @param name the name of the cache
+   * @param maxSize the maximum number of entries of the cache
+   * @return the cache metrics SPI or {@code null} when metrics are disabled
+   */
+  default CacheMetrics createCacheMetrics(String name, long maxSize) {
+    return null;
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
@@ -11,10 +11,19 @@
 
 package io.vertx.benchmarks;
 
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.pool.CombinerExecutor;
+import io.vertx.core.internal.pool.ConnectResult;
+import io.vertx.core.internal.pool.ConnectionPool;
 import io.vertx.core.internal.pool.Executor;
+import io.vertx.core.internal.pool.PoolConnector;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -23,6 +32,7 @@ import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -74,4 +84,77 @@ public class CombinerExecutorBenchmark extends BenchmarkBase {
   public void impl() {
     exec.submit(action);
   }
+
+  /**
+   * A pool with a single connection acquired and recycled on the event loop of the connection.
+   */
+  @State(Scope.Thread)
+  public static class PoolState {
+
+    static final int BATCH = 1000;
+
+    private Vertx vertx;
+    private ContextInternal context;
+    // Uses the default selector, the leases are served from the event loop free list
+    private ConnectionPool<Object> localPool;
+    // Disables the fast path, the leases are served by the executor
+    private ConnectionPool<Object> combinerPool;
+
+    @Setup
+    public void setup() throws Exception {
+      vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+      context = ((VertxInternal) vertx).createEventLoopContext();
+      PoolConnector<Object> connector = new PoolConnector<>() {
+        @Override
+        public Future<ConnectResult<Object>> connect(ContextInternal context, Listener listener) {
+          return context.succeededFuture(new ConnectResult<>(new Object(), 1, 0));
+        }
+        @Override
+        public boolean isValid(Object connection) {
+          return true;
+        }
+      };
+      localPool = ConnectionPool.pool(connector, new int[] { 1 }).contextProvider(ctx -> ctx);
+      combinerPool = ConnectionPool.pool(connector, new int[] { 1 }).contextProvider(ctx -> ctx).eventLoopFastPath(false);
+      run(localPool, 1);
+      run(combinerPool, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    }
+
+    void run(ConnectionPool<Object> pool, int times) throws Exception {
+      CompletableFuture<Void> done = new CompletableFuture<>();
+      context.runOnContext(v -> {
+        int[] remaining = { times };
+        for (int i = 0;i < times;i++) {
+          pool.acquire(context, 0).onComplete(ar -> {
+            if (ar.failed()) {
+              done.completeExceptionally(ar.cause());
+              return;
+            }
+            ar.result().recycle();
+            if (--remaining[0] == 0) {
+              done.complete(null);
+            }
+          });
+        }
+      });
+      done.get(20, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PoolState.BATCH)
+  public void poolAcquireRecycleLocal(PoolState state) throws Exception {
+    state.run(state.localPool, PoolState.BATCH);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PoolState.BATCH)
+  public void poolAcquireRecycleCombiner(PoolState state) throws Exception {
+    state.run(state.combinerPool, PoolState.BATCH);
+  }
 }
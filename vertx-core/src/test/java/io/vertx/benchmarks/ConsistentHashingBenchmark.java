@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerInteraction;
+import io.vertx.core.net.endpoint.ServerSelector;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares the sticky load balancers: the routing key lookup throughput, the selector creation throughput when the
+ * list of servers changes, and the remapping churn when a server is added, reported by the {@code remap} benchmark
+ * as the ratio of its {@code remapped} and {@code lookups} counters.
+ */
+@State(Scope.Thread)
+public class ConsistentHashingBenchmark extends BenchmarkBase {
+
+  private static final int NUMBER_OF_KEYS = 1024;
+
+  @Param({"CONSISTENT_HASHING", "MAGLEV_HASHING", "JUMP_HASHING"})
+  public String loadBalancer;
+
+  @Param({"8", "64"})
+  public int numberOfServers;
+
+  LoadBalancer balancer;
+  List<EndpointServer> grownServers;
+  ServerSelector selector;
+  ServerSelector grownSelector;
+  String[] keys;
+  int index;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Churn {
+
+    public long lookups;
+    public long remapped;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      lookups = 0;
+      remapped = 0;
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    balancer = (LoadBalancer) LoadBalancer.class.getField(loadBalancer).get(null);
+    List<EndpointServer> servers = new ArrayList<>();
+    for (int i = 0;i < numberOfServers;i++) {
+      servers.add(server(balancer, "server-" + i));
+    }
+    grownServers = new ArrayList<>(servers);
+    grownServers.add(server(balancer, "server-" + numberOfServers));
+    selector = balancer.selector(servers);
+    grownSelector = balancer.selector(grownServers);
+    keys = new String[NUMBER_OF_KEYS];
+    for (int i = 0;i < keys.length;i++) {
+      keys[i] = UUID.randomUUID().toString();
+    }
+  }
+
+  private static EndpointServer server(LoadBalancer loadBalancer, String key) {
+    InteractionMetrics<?> metrics = loadBalancer.newMetrics();
+    return new EndpointServer() {
+      @Override
+      public String key() {
+        return key;
+      }
+      @Override
+      public SocketAddress address() {
+        return null;
+      }
+      @Override
+      public ServerInteraction newInteraction() {
+        return null;
+      }
+      @Override
+      public InteractionMetrics<?> metrics() {
+        return metrics;
+      }
+      @Override
+      public Object unwrap() {
+        return null;
+      }
+    };
+  }
+
+  private String nextKey() {
+    return keys[index++ & (NUMBER_OF_KEYS - 1)];
+  }
+
+  @Benchmark
+  public int select() {
+    return selector.select(nextKey());
+  }
+
+  @Benchmark
+  public ServerSelector rebuild() {
+    return balancer.selector(grownServers);
+  }
+
+  @Benchmark
+  public int remap(Churn churn) {
+    String key = nextKey();
+    int before = selector.select(key);
+    int after = grownSelector.select(key);
+    churn.lookups++;
+    if (before != after) {
+      churn.remapped++;
+    }
+    return after;
+  }
+}
@@ -13,10 +13,12 @@ package io.vertx.benchmarks;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.util.AsciiString;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -25,6 +27,9 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
+import java.util.Date;
+
+import static io.vertx.benchmarks.HeadersUtils.VERTX_HEADER;
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
 
 /**
@@ -57,6 +62,8 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
   private HttpHeaders vertxSmallHeaders;
+  private AsciiString cachedDate;
+  private AsciiString cachedServer;
 
   @Setup
   public void setup() {
@@ -67,6 +74,8 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     vertxSmallHeaders = HeadersMultiMap.httpHeaders();
     setBaseHeaders(nettySmallHeaders, asciiNames, asciiValues);
     setBaseHeaders(vertxSmallHeaders, asciiNames, asciiValues);
+    cachedDate = AsciiString.cached(DateFormatter.format(new Date()));
+    cachedServer = AsciiString.cached(VERTX_HEADER.toString());
   }
 
   @Benchmark
@@ -89,4 +98,24 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void vertxSmallFormattedDate() throws Exception {
+    // Date and Server headers set by the application on each response
+    vertxSmallHeaders.set(io.vertx.core.http.HttpHeaders.DATE, DateFormatter.format(new Date()));
+    vertxSmallHeaders.set(io.vertx.core.http.HttpHeaders.SERVER, "vert.x");
+    byteBuf.resetWriterIndex();
+    encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxSmallCachedDate() throws Exception {
+    // Date and Server headers set by the server from its pre-encoded values
+    vertxSmallHeaders.set(io.vertx.core.http.HttpHeaders.DATE, cachedDate);
+    vertxSmallHeaders.set(io.vertx.core.http.HttpHeaders.SERVER, cachedServer);
+    byteBuf.resetWriterIndex();
+    encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
+    consume(byteBuf);
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.Http2ServerConnection;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The HTTP/2 counterpart of {@link HttpServerHandlerBenchmark}: a {@code GET} request is written to an embedded
+ * channel as a {@code HEADERS} frame and the response frames are consumed.
+ */
+@State(Scope.Thread)
+public class Http2ServerHandlerBenchmark extends BenchmarkBase {
+
+  private static final CharSequence RESPONSE_TYPE_PLAIN = HttpHeaders.createOptimized("text/plain");
+  private static final String HELLO_WORLD = "Hello, world!";
+  private static final Buffer HELLO_WORLD_BUFFER = Buffer.buffer(HELLO_WORLD);
+  private static final CharSequence HELLO_WORLD_LENGTH = HttpHeaders.createOptimized("" + HELLO_WORLD.length());
+
+  private static final int STREAM_ID_OFFSET = 5;
+
+  @Param({"true", "false"})
+  public boolean http2Headers;
+
+  VertxInternal vertx;
+  ContextInternal context;
+  Handler<HttpServerRequest> app;
+  EmbeddedChannel channel;
+  ByteBuf GET;
+  int readerIndex;
+  int writeIndex;
+  int streamId;
+
+  @Setup
+  public void setup() {
+    vertx = (VertxInternal) Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    app = request -> {
+      CharSequence accept;
+      if (http2Headers) {
+        accept = ((HttpServerRequestInternal) request).http2Headers().get(HttpHeaders.ACCEPT);
+      } else {
+        accept = request.headers().get(HttpHeaders.ACCEPT);
+      }
+      HttpServerResponse response = request.response();
+      response.headers()
+        .add(HttpHeaders.CONTENT_TYPE, accept != null ? accept : RESPONSE_TYPE_PLAIN)
+        .add(HttpHeaders.CONTENT_LENGTH, HELLO_WORLD_LENGTH);
+      response.end(HELLO_WORLD_BUFFER);
+    };
+
+    // HEADERS frame (END_STREAM | END_HEADERS) with the static table entries :method GET, :scheme http and :path /
+    // followed by a connection WINDOW_UPDATE frame replenishing the window consumed by the response body
+    GET = Unpooled.unreleasableBuffer(Unpooled.buffer()
+      .writeMedium(3).writeByte(0x1).writeByte(0x5).writeInt(0)
+      .writeByte(0x82).writeByte(0x86).writeByte(0x84)
+      .writeMedium(4).writeByte(0x8).writeByte(0).writeInt(0)
+      .writeInt(HELLO_WORLD.length()));
+    readerIndex = GET.readerIndex();
+    writeIndex = GET.writerIndex();
+
+    connect();
+  }
+
+  private void connect() {
+    if (channel != null) {
+      channel.finishAndReleaseAll();
+    }
+    channel = new EmbeddedChannel();
+    context = vertx.createEventLoopContext(channel.eventLoop(), null, Thread.currentThread().getContextClassLoader());
+    channel.pipeline().addLast("handler", Http2ServerConnection.createHandler(context, new HttpServerOptions(), app));
+    // Client preface followed by an empty SETTINGS frame
+    ByteBuf preface = Unpooled.buffer()
+      .writeBytes("PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.US_ASCII))
+      .writeMedium(0).writeByte(0x4).writeByte(0).writeInt(0);
+    channel.writeInbound(preface);
+    drain();
+    streamId = 1;
+  }
+
+  private void drain() {
+    Object msg;
+    while ((msg = channel.readOutbound()) != null) {
+      ReferenceCountUtil.release(msg);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+    vertx.close();
+  }
+
+  @Benchmark
+  public void vertx() {
+    request();
+  }
+
+  @Fork(value = 1, jvmArgsAppend = {
+    "-Dvertx.threadChecks=false",
+    "-Dvertx.disableContextTimings=true",
+    "-Dvertx.disableHttpHeadersValidation=true",
+    "-Dvertx.disableMetrics=true"
+  })
+  @Benchmark
+  public void vertxOpt() {
+    request();
+  }
+
+  private void request() {
+    if (streamId < 0) {
+      // Stream identifiers are exhausted
+      connect();
+    }
+    GET.setIndex(readerIndex, writeIndex);
+    GET.setInt(STREAM_ID_OFFSET, streamId);
+    streamId += 2;
+    channel.writeInbound(GET);
+    drain();
+  }
+}
@@ -233,6 +233,10 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
         chctx,
         context,
         "localhost",
+        null,
+        null,
+        null,
+        null,
         null);
       conn.handler(app);
       return conn;
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the {@link LocalMap} read operations with immutable and copied values, the number of threads
+ * simulates the number of event loops sharing the map.
+ */
+@State(Scope.Benchmark)
+public class LocalMapBenchmark extends BenchmarkBase {
+
+  private static final int SIZE = 1024;
+  private static final int BATCH = 16;
+
+  @Param({"string", "json"})
+  public String type;
+
+  private Vertx vertx;
+  private LocalMap<String, Object> map;
+  private String[] keys;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    map = vertx.sharedData().getLocalMap("benchmark");
+    keys = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      keys[i] = "key-" + i;
+      Object value = type.equals("json") ? new JsonObject().put("id", i).put("name", keys[i]) : "value-" + i;
+      map.put(keys[i], value);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  private Object get() {
+    return map.get(keys[ThreadLocalRandom.current().nextInt(SIZE)]);
+  }
+
+  private Map<String, Object> getAll() {
+    int from = ThreadLocalRandom.current().nextInt(SIZE - BATCH);
+    List<String> batch = new ArrayList<>(BATCH);
+    for (int i = from; i < from + BATCH; i++) {
+      batch.add(keys[i]);
+    }
+    return map.getAll(batch);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object get1() {
+    return get();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object get4() {
+    return get();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object get8() {
+    return get();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Map<String, Object> getAll1() {
+    return getAll();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Map<String, Object> getAll8() {
+    return getAll();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void forEach1(Blackhole blackhole) {
+    map.forEach((k, v) -> blackhole.consume(v));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void values1(Blackhole blackhole) {
+    for (Object v : map.values()) {
+      blackhole.consume(v);
+    }
+  }
+}
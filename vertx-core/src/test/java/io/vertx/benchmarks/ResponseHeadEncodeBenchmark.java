@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.vertx.core.http.impl.VertxHttpResponseEncoder;
+import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+
+/**
+ * Compares the encoding of a response head by {@link VertxHttpResponseEncoder} with and without the cache of the
+ * encoded status lines and header entries.
+ */
+@State(Scope.Thread)
+public class ResponseHeadEncodeBenchmark extends BenchmarkBase {
+
+  @Param({"true", "false"})
+  public boolean cacheEnabled;
+
+  @Param({"true", "false"})
+  public boolean asciiValues;
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final ByteBuf buf) {
+  }
+
+  private EmbeddedChannel channel;
+  private FullHttpResponse response;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(new VertxHttpResponseEncoder(cacheEnabled));
+    HeadersMultiMap headers = HeadersMultiMap.httpHeaders();
+    setBaseHeaders(headers, true, asciiValues);
+    response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.EMPTY_BUFFER, headers, EmptyHttpHeaders.INSTANCE);
+  }
+
+  @Benchmark
+  public void encode() {
+    channel.writeOutbound(response);
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null) {
+      consume(buf);
+      buf.release();
+    }
+  }
+}
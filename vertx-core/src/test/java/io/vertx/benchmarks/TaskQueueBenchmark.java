@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.LockFreeTaskQueue;
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the scaling of {@link TaskQueue#execute} with the number of producers, the tasks are consumed by
+ * a single thread.
+ */
+@State(Scope.Benchmark)
+public class TaskQueueBenchmark extends BenchmarkBase {
+
+  private static final int MAX_IN_FLIGHT = 1024;
+
+  @Param({"false", "true"})
+  public boolean lockFree;
+
+  private TaskQueue queue;
+  private ExecutorService consumer;
+
+  @State(Scope.Thread)
+  public static class Producer {
+
+    final AtomicInteger inFlight = new AtomicInteger();
+    final Runnable task = inFlight::decrementAndGet;
+
+  }
+
+  @Setup
+  public void setup() {
+    queue = lockFree ? new LockFreeTaskQueue() : new TaskQueue();
+    consumer = Executors.newSingleThreadExecutor();
+  }
+
+  @TearDown
+  public void tearDown() {
+    consumer.shutdownNow();
+  }
+
+  private void execute(Producer producer) {
+    // Bound the number of pending tasks per producer to measure the queue rather than the heap growth
+    while (producer.inFlight.get() >= MAX_IN_FLIGHT) {
+      Thread.onSpinWait();
+    }
+    producer.inFlight.incrementAndGet();
+    queue.execute(producer.task, consumer);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void producers1(Producer producer) {
+    execute(producer);
+  }
+
+  @Benchmark
+  @Threads(2)
+  public void producers2(Producer producer) {
+    execute(producer);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void producers4(Producer producer) {
+    execute(producer);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void producers8(Producer producer) {
+    execute(producer);
+  }
+}
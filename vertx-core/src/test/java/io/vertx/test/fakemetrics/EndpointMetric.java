@@ -26,6 +26,8 @@ public class EndpointMetric implements ClientMetrics<HttpClientMetric, HttpReque
 
   public final AtomicInteger connectionCount = new AtomicInteger();
   public final AtomicInteger requestCount = new AtomicInteger();
+  public final AtomicInteger pipelineDepth = new AtomicInteger();
+  public final AtomicInteger maxPipelineDepth = new AtomicInteger();
   public final ConcurrentMap<HttpRequest, HttpClientMetric> requests = new ConcurrentHashMap<>();
 
   public EndpointMetric() {
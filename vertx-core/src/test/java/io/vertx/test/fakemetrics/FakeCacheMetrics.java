@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.test.fakemetrics;
+
+import io.vertx.core.spi.metrics.CacheMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeCacheMetrics implements CacheMetrics {
+
+  private final static Map<String, FakeCacheMetrics> METRICS = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+  private final AtomicInteger evictions = new AtomicInteger();
+  private final AtomicInteger expirations = new AtomicInteger();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  public FakeCacheMetrics(String name) {
+    this.name = name;
+    METRICS.put(name, this);
+  }
+
+  @Override
+  public void hit() {
+    hits.incrementAndGet();
+  }
+
+  @Override
+  public void miss() {
+    misses.incrementAndGet();
+  }
+
+  @Override
+  public void eviction() {
+    evictions.incrementAndGet();
+  }
+
+  @Override
+  public void expiration() {
+    expirations.incrementAndGet();
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public int hits() {
+    return hits.get();
+  }
+
+  public int misses() {
+    return misses.get();
+  }
+
+  public int evictions() {
+    return evictions.get();
+  }
+
+  public int expirations() {
+    return expirations.get();
+  }
+
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    METRICS.remove(name);
+  }
+
+  public static FakeCacheMetrics getMetrics(String name) {
+    return METRICS.get(name);
+  }
+}
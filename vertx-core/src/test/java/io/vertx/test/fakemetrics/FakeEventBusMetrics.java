@@ -34,6 +34,7 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
   private final List<HandlerMetric> registrations = new ArrayList<>();
   private final Map<String, AtomicInteger> encoded = new ConcurrentHashMap<>();
   private final Map<String, AtomicInteger> decoded = new ConcurrentHashMap<>();
+  private final List<Integer> writtenBatches = Collections.synchronizedList(new ArrayList<>());
   private final List<String> replyFailureAddresses = Collections.synchronizedList(new ArrayList<>());
   private final List<ReplyFailure> replyFailures = Collections.synchronizedList(new ArrayList<>());
 
@@ -45,6 +46,10 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     return decoded;
   }
 
+  public List<Integer> getWrittenBatches() {
+    return writtenBatches;
+  }
+
   public List<SentMessage> getSentMessages() {
     return sentMessages;
   }
@@ -134,6 +139,11 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     value.addAndGet(numberOfBytes);
   }
 
+  @Override
+  public void messageBatchWritten(String nodeId, int numberOfMessages, int numberOfBytes) {
+    writtenBatches.add(numberOfMessages);
+  }
+
   @Override
   public void messageRead(String address, int numberOfBytes) {
     AtomicInteger value = new AtomicInteger();
@@ -103,6 +103,13 @@ public class FakeHttpClientMetrics extends FakeTCPMetrics implements HttpClientM
     ((EndpointMetric)endpointMetric).connectionCount.decrementAndGet();
   }
 
+  @Override
+  public void pipelineDepth(ClientMetrics<HttpClientMetric, ?, ?> endpointMetric, int depth) {
+    EndpointMetric metric = (EndpointMetric) endpointMetric;
+    metric.pipelineDepth.set(depth);
+    metric.maxPipelineDepth.accumulateAndGet(depth, Math::max);
+  }
+
   @Override
   public WebSocketMetric connected(WebSocket webSocket) {
     WebSocketMetric metric = new WebSocketMetric(webSocket);
@@ -23,6 +23,7 @@ import io.vertx.core.spi.observability.HttpResponse;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -31,6 +32,9 @@ public class FakeHttpServerMetrics extends FakeTCPMetrics implements HttpServerM
 
   private final ConcurrentMap<WebSocketBase, WebSocketMetric> webSockets = new ConcurrentHashMap<>();
   private final Set<HttpServerMetric> requests = ConcurrentHashMap.newKeySet();
+  public final AtomicLong compressedBytesIn = new AtomicLong();
+  public final AtomicLong compressedBytesOut = new AtomicLong();
+  public final AtomicLong compressionTime = new AtomicLong();
 
   public WebSocketMetric getWebSocketMetric(ServerWebSocket ws) {
     return webSockets.get(ws);
@@ -105,4 +109,11 @@ public class FakeHttpServerMetrics extends FakeTCPMetrics implements HttpServerM
   public void requestRouted(HttpServerMetric requestMetric, String route) {
     requestMetric.route.set(route);
   }
+
+  @Override
+  public void bytesCompressed(long bytesIn, long bytesOut, long nanos) {
+    compressedBytesIn.addAndGet(bytesIn);
+    compressedBytesOut.addAndGet(bytesOut);
+    compressionTime.addAndGet(nanos);
+  }
 }
@@ -79,6 +79,11 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return new FakePoolMetrics(name, maxSize);
   }
 
+  @Override
+  public CacheMetrics createCacheMetrics(String name, long maxSize) {
+    return new FakeCacheMetrics(name);
+  }
+
   @Override
   public void vertxCreated(Vertx vertx) {
     this.vertx = vertx;
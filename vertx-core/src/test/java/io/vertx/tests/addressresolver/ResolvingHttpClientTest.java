@@ -10,6 +10,7 @@ import io.vertx.core.internal.http.HttpClientInternal;
 import io.vertx.core.net.endpoint.LoadBalancer;
 import io.vertx.core.net.*;
 import io.vertx.core.net.endpoint.EndpointServer;
+import io.vertx.core.net.endpoint.OutlierDetectionOptions;
 import io.vertx.core.spi.endpoint.EndpointBuilder;
 import io.vertx.test.core.VertxTestBase;
 import io.vertx.test.fakeloadbalancer.FakeLoadBalancer;
@@ -100,6 +101,127 @@ public class ResolvingHttpClientTest extends VertxTestBase {
     Assert.assertEquals(new HashSet<>(Arrays.asList("server-0", "server-1")), responses);
   }
 
+  @Test
+  public void testOutlierDetection() throws Exception {
+    int numServers = 2;
+    startServers(numServers);
+    requestHandler = (idx, req) -> req.response().setStatusCode(idx == 0 ? 503 : 200).end("server-" + idx);
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientInternal client = (HttpClientInternal) vertx.httpClientBuilder()
+      .withAddressResolver(resolver)
+      .withLoadBalancer(LoadBalancer.outlierDetection(LoadBalancer.ROUND_ROBIN, new OutlierDetectionOptions().setConsecutiveFailures(2)))
+      .build();
+    List<Integer> statuses = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      statuses.add(awaitFuture(client.request(new RequestOptions().setServer(new FakeAddress("example.com"))).compose(req -> req
+        .send()
+        .compose(resp -> resp.body().map(resp.statusCode()))
+      )));
+    }
+    // The first server is ejected after two failures
+    assertEquals(2, statuses.stream().filter(status -> status == 503).count());
+    assertEquals(Arrays.asList(200, 200, 200, 200), statuses.subList(6, 10));
+  }
+
+  @Test
+  public void testHedgedRequest() throws Exception {
+    int numServers = 2;
+    startServers(numServers);
+    requestHandler = (idx, req) -> {
+      if (idx == 0) {
+        vertx.setTimer(2000, id -> req.response().end("server-" + idx));
+      } else {
+        req.response().end("server-" + idx);
+      }
+    };
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientAgent client = vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setDelay(50)))
+      .withAddressResolver(resolver)
+      .build();
+    long now = System.currentTimeMillis();
+    String body = awaitFuture(client
+      .send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedged(true), null)
+      .compose(HttpClientResponse::body)
+      .map(Buffer::toString));
+    assertEquals("server-1", body);
+    assertTrue(System.currentTimeMillis() - now < 2000);
+  }
+
+  @Test
+  public void testHedgedRequestBudgetExhausted() throws Exception {
+    int numServers = 2;
+    startServers(numServers);
+    requestHandler = (idx, req) -> vertx.setTimer(idx == 0 ? 200 : 1, id -> req.response().end("server-" + idx));
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientAgent client = vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setDelay(50).setBudgetCapacity(1).setBudgetRatio(0)))
+      .withAddressResolver(resolver)
+      .build();
+    List<String> bodies = new ArrayList<>();
+    for (int i = 0;i < 4;i++) {
+      bodies.add(awaitFuture(client
+        .send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedged(true), null)
+        .compose(HttpClientResponse::body)
+        .map(Buffer::toString)));
+    }
+    // The budget allows a single second attempt, the slow server answers the next requests it receives
+    assertEquals(Arrays.asList("server-1", "server-0", "server-1", "server-0"), bodies);
+  }
+
+  @Test
+  public void testHedgedRequestDelayDoesNotDrift() throws Exception {
+    int numServers = 2;
+    startServers(numServers);
+    requestHandler = (idx, req) -> vertx.setTimer(idx == 0 ? 500 : 1, id -> req.response().end("server-" + idx));
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientAgent client = vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setDelay(50).setPercentile(0.5).setBudgetCapacity(32).setBudgetRatio(1)))
+      .withAddressResolver(resolver)
+      .build();
+    // Each request is sent to the slow server first and hedged to the fast server, the delay is then computed again
+    for (int i = 0;i < 17;i++) {
+      long now = System.currentTimeMillis();
+      String body = awaitFuture(client
+        .send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedged(true), null)
+        .compose(HttpClientResponse::body)
+        .map(Buffer::toString));
+      assertEquals("server-1", body);
+      if (i == 16) {
+        // The response times are measured from the first attempt, the hedged request waits again for the delay
+        assertTrue(System.currentTimeMillis() - now >= 50);
+      }
+    }
+  }
+
+  @Test
+  public void testHedgedRequestRetriesFailure() throws Exception {
+    int numServers = 2;
+    startServers(numServers);
+    requestHandler = (idx, req) -> {
+      if (idx == 0) {
+        req.connection().close();
+      } else {
+        req.response().end("server-" + idx);
+      }
+    };
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientAgent client = vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setDelay(10_000)))
+      .withAddressResolver(resolver)
+      .build();
+    String body = awaitFuture(client
+      .send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedged(true), null)
+      .compose(HttpClientResponse::body)
+      .map(Buffer::toString));
+    assertEquals("server-1", body);
+  }
+
   @Ignore
   @Test
   public void testShutdownServers() throws Exception {
@@ -59,6 +59,10 @@ public class Http1xServerConnectionTest extends VertxTestBase {
         chctx,
         context,
         "localhost",
+        null,
+        null,
+        null,
+        null,
         null);
       conn.handler(app);
       return conn;
@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -54,6 +55,15 @@ public class BufferTest {
     assertNullPointerException(() -> Buffer.buffer("", null));
   }
 
+  @Test
+  public void testComposite() {
+    Buffer composite = BufferInternal.composite(Arrays.asList(Buffer.buffer("{\"foo\""), Buffer.buffer(":\"bar"), Buffer.buffer("\"}")));
+    assertEquals("{\"foo\":\"bar\"}", composite.toString());
+    assertEquals(new JsonObject().put("foo", "bar"), composite.toJsonObject());
+    composite.appendString("!");
+    assertEquals("{\"foo\":\"bar\"}!", composite.toString());
+  }
+
   //https://github.com/vert-x/vert.x/issues/561
   @Test
   public void testSetGetInt() throws Exception {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.context;
+
+import io.vertx.core.impl.LockFreeTaskQueue;
+import io.vertx.core.impl.TaskQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LockFreeTaskQueueTest extends TaskQueueTest {
+
+  @Override
+  protected TaskQueue createTaskQueue() {
+    return new LockFreeTaskQueue();
+  }
+
+  @Test
+  public void testConcurrentProducersOrdering() throws Exception {
+    int numProducers = 8;
+    int numTasks = 10_000;
+    TaskQueue queue = createTaskQueue();
+    ExecutorService consumer = Executors.newFixedThreadPool(4);
+    try {
+      List<List<Integer>> received = new ArrayList<>();
+      for (int i = 0;i < numProducers;i++) {
+        received.add(Collections.synchronizedList(new ArrayList<>()));
+      }
+      CountDownLatch done = new CountDownLatch(numProducers * numTasks);
+      List<Thread> producers = new ArrayList<>();
+      for (int i = 0;i < numProducers;i++) {
+        List<Integer> list = received.get(i);
+        Thread producer = new Thread(() -> {
+          for (int j = 0;j < numTasks;j++) {
+            int val = j;
+            queue.execute(() -> {
+              list.add(val);
+              done.countDown();
+            }, consumer);
+          }
+        });
+        producers.add(producer);
+        producer.start();
+      }
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      assertTrue(done.await(20, TimeUnit.SECONDS));
+      for (List<Integer> list : received) {
+        assertEquals(numTasks, list.size());
+        for (int j = 0;j < numTasks;j++) {
+          assertEquals(j, (int)list.get(j));
+        }
+      }
+      waitUntil(queue::isEmpty);
+    } finally {
+      consumer.shutdown();
+    }
+  }
+
+  @Test
+  public void testConcurrentProducerTaskRunsAfterRejection() throws Exception {
+    ExecutorService consumer = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch executed = new CountDownLatch(1);
+      TaskQueue queue = testConcurrentProducerRejection(consumer, executed::countDown);
+      assertTrue(executed.await(20, TimeUnit.SECONDS));
+      waitUntil(queue::isEmpty);
+    } finally {
+      consumer.shutdown();
+    }
+  }
+
+  @Test
+  public void testConcurrentProducerTaskDroppedAfterRejection() throws Exception {
+    Executor rejecting = command -> {
+      throw new RejectedExecutionException();
+    };
+    TaskQueue queue = testConcurrentProducerRejection(rejecting, this::fail);
+    assertTrue(queue.isEmpty());
+    // The queue is still usable
+    CountDownLatch executed = new CountDownLatch(1);
+    queue.execute(executed::countDown, Runnable::run);
+    assertTrue(executed.await(20, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Execute a task with an executor rejecting the runner once another producer has executed {@code task} on
+   * {@code executor} concurrently.
+   */
+  private TaskQueue testConcurrentProducerRejection(Executor executor, Runnable task) throws Exception {
+    TaskQueue queue = createTaskQueue();
+    CountDownLatch enqueued = new CountDownLatch(1);
+    Executor rejecting = command -> {
+      Thread producer = new Thread(() -> {
+        queue.execute(task, executor);
+        enqueued.countDown();
+      });
+      producer.start();
+      try {
+        // The producer loses the race for the queue and returns
+        assertTrue(enqueued.await(20, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+      throw new RejectedExecutionException();
+    };
+    assertThatThrownBy(() -> queue.execute(this::fail, rejecting)).isInstanceOf(RejectedExecutionException.class);
+    return queue;
+  }
+}
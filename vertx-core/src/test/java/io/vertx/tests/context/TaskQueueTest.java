@@ -25,13 +25,17 @@ public class TaskQueueTest extends AsyncTestBase {
   @Override
   protected void setUp() throws Exception {
     super.setUp();
-    taskQueue = new TaskQueue();
+    taskQueue = createTaskQueue();
     AtomicInteger idx = new AtomicInteger();
     executor = cmd -> {
       new Thread(cmd, "vert.x-" + idx.getAndIncrement()).start();
     };
   }
 
+  protected TaskQueue createTaskQueue() {
+    return new TaskQueue();
+  }
+
   @Override
   protected void tearDown() throws Exception {
     try {
@@ -208,7 +212,7 @@ public class TaskQueueTest extends AsyncTestBase {
     Executor executorThatAlwaysThrowsRejectedExceptions = command -> {
       throw new RejectedExecutionException();
     };
-    TaskQueue taskQueue = new TaskQueue();
+    TaskQueue taskQueue = createTaskQueue();
     assertThatThrownBy(
       () -> taskQueue.execute(this::fail, executorThatAlwaysThrowsRejectedExceptions)
     ).isInstanceOf(RejectedExecutionException.class);
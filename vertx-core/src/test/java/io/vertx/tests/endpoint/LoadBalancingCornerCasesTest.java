@@ -23,6 +23,11 @@ public class LoadBalancingCornerCasesTest {
       {LoadBalancer.LEAST_REQUESTS},
       {LoadBalancer.RANDOM},
       {LoadBalancer.POWER_OF_TWO_CHOICES},
+      {LoadBalancer.PEAK_EWMA},
+      {LoadBalancer.RESPONSE_TIME_WEIGHTED},
+      {LoadBalancer.CONSISTENT_HASHING},
+      {LoadBalancer.MAGLEV_HASHING},
+      {LoadBalancer.JUMP_HASHING},
     });
   }
   private final LoadBalancer loadBalancer;
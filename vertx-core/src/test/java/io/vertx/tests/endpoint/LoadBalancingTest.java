@@ -18,14 +18,21 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.vertx.core.net.endpoint.LoadBalancer.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class LoadBalancingTest {
 
   EndpointServer endpointOf(LoadBalancer loadBalancer) {
+    return endpointOf(loadBalancer, "");
+  }
+
+  EndpointServer endpointOf(LoadBalancer loadBalancer, String key) {
     InteractionMetrics<?> metrics = loadBalancer.newMetrics();
     return new EndpointServer() {
       @Override
@@ -34,7 +41,7 @@ public class LoadBalancingTest {
       }
       @Override
       public String key() {
-        return "";
+        return key;
       }
       @Override
       public Object unwrap() {
@@ -119,6 +126,78 @@ public class LoadBalancingTest {
     }
   }
 
+  @Test
+  public void testPeakEwma() throws Exception {
+    LoadBalancer loadBalancer = peakEwma(10, TimeUnit.SECONDS);
+    EndpointServer e1 = endpointOf(loadBalancer);
+    EndpointServer e2 = endpointOf(loadBalancer);
+    respond(e1, 20);
+    respond(e2, 0);
+    ServerSelector selector = loadBalancer.selector(Arrays.asList(e1, e2));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(1, selector.select());
+    }
+  }
+
+  @Test
+  public void testResponseTimeWeighted() throws Exception {
+    LoadBalancer loadBalancer = responseTimeWeighted(10, TimeUnit.MILLISECONDS);
+    EndpointServer e1 = endpointOf(loadBalancer);
+    EndpointServer e2 = endpointOf(loadBalancer);
+    respond(e1, 20);
+    respond(e2, 20);
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) e2.metrics();
+    Object metric = metrics.initiateRequest();
+    Thread.sleep(50);
+    metrics.reportFailure(metric, new Exception());
+    ServerSelector selector = loadBalancer.selector(Arrays.asList(e1, e2));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(0, selector.select());
+    }
+  }
+
+  @Test
+  public void testPeakEwmaIdleServerRecovers() throws Exception {
+    LoadBalancer loadBalancer = peakEwma(10, TimeUnit.MILLISECONDS);
+    EndpointServer e1 = endpointOf(loadBalancer);
+    EndpointServer e2 = endpointOf(loadBalancer);
+    respond(e1, 50);
+    respond(e2, 5);
+    ((InteractionMetrics<Object>) e2.metrics()).initiateRequest();
+    ServerSelector selector = loadBalancer.selector(Arrays.asList(e1, e2));
+    assertEquals(1, selector.select());
+    // The spike of the first server decays while it is not selected
+    Thread.sleep(300);
+    assertEquals(0, selector.select());
+  }
+
+  @Test
+  public void testResponseTimeWeightedIdleServerRecovers() throws Exception {
+    LoadBalancer loadBalancer = responseTimeWeighted(10, TimeUnit.MILLISECONDS);
+    EndpointServer e1 = endpointOf(loadBalancer);
+    EndpointServer e2 = endpointOf(loadBalancer);
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) e1.metrics();
+    for (int i = 0;i < 10;i++) {
+      Object metric = metrics.initiateRequest();
+      Thread.sleep(5);
+      metrics.reportFailure(metric, new Exception());
+    }
+    ((InteractionMetrics<Object>) e2.metrics()).initiateRequest();
+    ServerSelector selector = loadBalancer.selector(Arrays.asList(e1, e2));
+    assertEquals(1, selector.select());
+    // The failure rate of the first server decays while it is not selected
+    Thread.sleep(300);
+    assertEquals(0, selector.select());
+  }
+
+  private static void respond(EndpointServer server, long responseTime) throws Exception {
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) server.metrics();
+    Object metric = metrics.initiateRequest();
+    metrics.reportRequestBegin(metric);
+    Thread.sleep(responseTime);
+    metrics.reportResponseEnd(metric);
+  }
+
   @Test
   public void testConsistentHashing() {
     EndpointServer e1 = endpointOf(CONSISTENT_HASHING);
@@ -146,4 +225,144 @@ public class LoadBalancingTest {
       bitset |= 1 << res;
     }
   }
+
+  @Test
+  public void testMaglevHashing() {
+    testStickyHashing(MAGLEV_HASHING);
+  }
+
+  @Test
+  public void testJumpHashing() {
+    testStickyHashing(JUMP_HASHING);
+  }
+
+  private void testStickyHashing(LoadBalancer loadBalancer) {
+    int numberOfServers = 10;
+    List<EndpointServer> servers = new ArrayList<>();
+    for (int i = 0;i < numberOfServers;i++) {
+      servers.add(endpointOf(loadBalancer, "server-" + i));
+    }
+    ServerSelector selector = loadBalancer.selector(servers);
+    int num = 10_000;
+    List<String> ids = new ArrayList<>(num);
+    int[] distribution = new int[numberOfServers];
+    for (int i = 0;i < num;i++) {
+      String id = TestUtils.randomAlphaString(40);
+      ids.add(id);
+      int idx = selector.select(id);
+      assertTrue(idx >= 0 && idx < numberOfServers);
+      assertEquals(idx, selector.select(id));
+      distribution[idx]++;
+    }
+    for (int count : distribution) {
+      assertTrue(count > num / numberOfServers / 2);
+    }
+    // Adding a server only remaps the keys it now owns
+    List<EndpointServer> grown = new ArrayList<>(servers);
+    grown.add(endpointOf(loadBalancer, "server-" + numberOfServers));
+    ServerSelector grownSelector = loadBalancer.selector(grown);
+    int remapped = 0;
+    for (String id : ids) {
+      int before = selector.select(id);
+      int after = grownSelector.select(id);
+      if (after != before) {
+        remapped++;
+        assertTrue(after == numberOfServers || loadBalancer == MAGLEV_HASHING);
+      }
+    }
+    assertTrue(remapped < num / 5);
+    // Fallback on random selector
+    int bitset = 0;
+    while (bitset != (1 << numberOfServers) - 1) {
+      int res = selector.select();
+      assertTrue(res >= 0 && res < numberOfServers);
+      bitset |= 1 << res;
+    }
+  }
+
+  @Test
+  public void testMaglevTableSize() {
+    assertThrows(IllegalArgumentException.class, () -> maglevHashing(4096, RANDOM));
+    ServerSelector selector = maglevHashing(7, RANDOM).selector(Arrays.asList(endpointOf(RANDOM, "a"), endpointOf(RANDOM, "b")));
+    int idx = selector.select("key");
+    assertTrue(idx == 0 || idx == 1);
+  }
+
+  @Test
+  public void testOutlierDetection() throws Exception {
+    LoadBalancer loadBalancer = outlierDetection(ROUND_ROBIN, new OutlierDetectionOptions()
+      .setConsecutiveFailures(3)
+      .setBaseEjectionTime(100)
+      .setMaxEjectionTime(1000));
+    List<EndpointServer> servers = Arrays.asList(endpointOf(loadBalancer), endpointOf(loadBalancer), endpointOf(loadBalancer));
+    ServerSelector selector = loadBalancer.selector(servers);
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) servers.get(1).metrics();
+    for (int i = 0;i < 3;i++) {
+      Object metric = metrics.initiateRequest();
+      metrics.reportResponseStatus(metric, 503);
+      metrics.reportResponseEnd(metric);
+    }
+    OutlierDetectionMetrics outlier = (OutlierDetectionMetrics) servers.get(1).metrics();
+    assertTrue(outlier.isEjected());
+    assertEquals(1, outlier.numberOfEjections());
+    for (int i = 0;i < 30;i++) {
+      int idx = selector.select();
+      assertTrue(idx == 0 || idx == 2);
+    }
+    Thread.sleep(150);
+    // Re-admitted
+    assertFalse(outlier.isEjected());
+    int bitset = 0;
+    for (int i = 0;i < 3;i++) {
+      bitset |= 1 << selector.select();
+    }
+    assertEquals(7, bitset);
+  }
+
+  @Test
+  public void testOutlierDetectionFailureRate() {
+    LoadBalancer loadBalancer = outlierDetection(ROUND_ROBIN, new OutlierDetectionOptions()
+      .setConsecutiveFailures(0)
+      .setFailureRateThreshold(0.5)
+      .setFailureRateMinimumRequests(10));
+    EndpointServer server = endpointOf(loadBalancer);
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) server.metrics();
+    OutlierDetectionMetrics outlier = (OutlierDetectionMetrics) server.metrics();
+    for (int i = 0;i < 10;i++) {
+      Object metric = metrics.initiateRequest();
+      if (i % 2 == 0) {
+        metrics.reportFailure(metric, new Exception());
+      } else {
+        metrics.reportResponseEnd(metric);
+      }
+      assertEquals(i == 9, outlier.isEjected());
+    }
+  }
+
+  @Test
+  public void testOutlierDetectionMaxEjectionPercent() {
+    LoadBalancer loadBalancer = outlierDetection(ROUND_ROBIN, new OutlierDetectionOptions().setConsecutiveFailures(1));
+    List<EndpointServer> servers = Arrays.asList(endpointOf(loadBalancer), endpointOf(loadBalancer));
+    ServerSelector selector = loadBalancer.selector(servers);
+    for (EndpointServer server : servers) {
+      InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) server.metrics();
+      metrics.reportFailure(metrics.initiateRequest(), new Exception());
+      assertTrue(((OutlierDetectionMetrics) server.metrics()).isEjected());
+    }
+    // All servers are ejected, the ejections are ignored
+    int bitset = 0;
+    for (int i = 0;i < 2;i++) {
+      bitset |= 1 << selector.select();
+    }
+    assertEquals(3, bitset);
+  }
+
+  @Test
+  public void testOutlierDetectionWithMetricsLoadBalancer() {
+    LoadBalancer loadBalancer = outlierDetection(LEAST_REQUESTS, new OutlierDetectionOptions());
+    List<EndpointServer> servers = Arrays.asList(endpointOf(loadBalancer), endpointOf(loadBalancer));
+    servers.get(0).metrics().initiateRequest();
+    ServerSelector selector = loadBalancer.selector(servers);
+    assertEquals(1, selector.select());
+  }
 }
@@ -690,4 +690,24 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
 
   }
+
+  @Test
+  public void testUnicodeHeadersAndLargeBodyReply() {
+    startNodes(2);
+    String value = TestUtils.randomUnicodeString(100);
+    byte[] body = TestUtils.randomByteArray(1024 * 1024);
+    vertices[1].eventBus().<byte[]>consumer(ADDRESS1, msg -> {
+      assertEquals(value, msg.headers().get("the-header"));
+      assertTrue(Arrays.equals(body, msg.body()));
+      msg.reply(value);
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].eventBus()
+        .<String>request(ADDRESS1, body, new DeliveryOptions().addHeader("the-header", value))
+        .onComplete(onSuccess(reply -> {
+          assertEquals(value, reply.body());
+          testComplete();
+        }));
+    }));
+    await();
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.eventbus;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBusOptions;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the clustered event bus with write batching enabled.
+ */
+public class ClusteredEventBusWithWriteBatchingTest extends ClusteredEventBusTestBase {
+
+  private final EventBusOptions options;
+
+  public ClusteredEventBusWithWriteBatchingTest() {
+    options = new EventBusOptions()
+      .setClusterWriteBatchMaxBytes(16 * 1024)
+      .setClusterWriteBatchMaxLinger(500);
+  }
+
+  @Override
+  protected void startNodes(int numNodes) {
+    super.startNodes(numNodes, new VertxOptions().setEventBusOptions(options));
+  }
+
+  @Test
+  public void testBatchOrdering() {
+    int num = 10_000;
+    startNodes(2);
+    AtomicInteger expected = new AtomicInteger();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (expected.get() == num) {
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        for (int i = 0;i < num;i++) {
+          vertices[0].eventBus().send(ADDRESS1, i);
+        }
+      });
+    }));
+    await();
+  }
+}
@@ -14,6 +14,7 @@ package io.vertx.tests.http;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoop;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.TooLongHttpHeaderException;
@@ -178,6 +179,14 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHttp2ConnectionWindowSize(-1));
     assertEquals(-1, options.getHttp2ConnectionWindowSize());
 
+    assertEquals(HttpClientOptions.DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE, options.isHttp2AdaptiveWindowSize());
+    assertEquals(options, options.setHttp2AdaptiveWindowSize(true));
+    assertTrue(options.isHttp2AdaptiveWindowSize());
+    assertEquals(HttpClientOptions.DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE, options.getHttp2MaxAdaptiveWindowSize());
+    assertEquals(options, options.setHttp2MaxAdaptiveWindowSize(1024 * 1024));
+    assertEquals(1024 * 1024, options.getHttp2MaxAdaptiveWindowSize());
+    assertIllegalArgumentException(() -> options.setHttp2MaxAdaptiveWindowSize(1024));
+
     assertEquals(60000, options.getConnectTimeout());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setConnectTimeout(rand));
@@ -251,6 +260,19 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHttp2KeepAliveTimeout(10));
     assertEquals(10, options.getHttp2KeepAliveTimeout());
     assertIllegalArgumentException(() -> options.setHttp2KeepAliveTimeout(-1));
+
+    HedgingOptions hedgingOptions = options.getHedgingOptions();
+    assertEquals(HedgingOptions.DEFAULT_PERCENTILE, hedgingOptions.getPercentile(), 0D);
+    assertEquals(HedgingOptions.DEFAULT_DELAY, hedgingOptions.getDelay());
+    assertEquals(HedgingOptions.DEFAULT_BUDGET_RATIO, hedgingOptions.getBudgetRatio(), 0D);
+    assertEquals(HedgingOptions.DEFAULT_BUDGET_CAPACITY, hedgingOptions.getBudgetCapacity());
+    assertIllegalArgumentException(() -> hedgingOptions.setPercentile(0));
+    assertIllegalArgumentException(() -> hedgingOptions.setPercentile(1));
+    assertIllegalArgumentException(() -> hedgingOptions.setDelay(0));
+    assertIllegalArgumentException(() -> hedgingOptions.setBudgetRatio(-1));
+    assertIllegalArgumentException(() -> hedgingOptions.setBudgetCapacity(-1));
+    assertEquals(options, options.setHedgingOptions(new HedgingOptions().setDelay(20)));
+    assertEquals(20, new HttpClientOptions(options.toJson()).getHedgingOptions().getDelay());
   }
 
   @Test
@@ -384,6 +406,21 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHttp2ConnectionWindowSize(-1));
     assertEquals(-1, options.getHttp2ConnectionWindowSize());
 
+    assertEquals(HttpServerOptions.DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE, options.isHttp2AdaptiveWindowSize());
+    assertEquals(options, options.setHttp2AdaptiveWindowSize(true));
+    assertTrue(options.isHttp2AdaptiveWindowSize());
+    assertEquals(HttpServerOptions.DEFAULT_HTTP2_MAX_ADAPTIVE_WINDOW_SIZE, options.getHttp2MaxAdaptiveWindowSize());
+    assertEquals(options, options.setHttp2MaxAdaptiveWindowSize(1024 * 1024));
+    assertEquals(1024 * 1024, options.getHttp2MaxAdaptiveWindowSize());
+    assertIllegalArgumentException(() -> options.setHttp2MaxAdaptiveWindowSize(1024));
+
+    assertNull(options.getPreloadLinks());
+    PreloadLink preloadLink = new PreloadLink().setPath("/index.html").setUri("/style.css").setAs("style");
+    assertEquals(options, options.addPreloadLink(preloadLink));
+    assertEquals(Collections.singletonList(preloadLink), options.getPreloadLinks());
+    assertEquals(preloadLink.toJson(), new HttpServerOptions(options.toJson()).getPreloadLinks().get(0).toJson());
+    assertFalse(new PreloadLink().isPush());
+
     assertFalse(options.isDecompressionSupported());
     assertEquals(options, options.setDecompressionSupported(true));
     assertTrue(options.isDecompressionSupported());
@@ -1103,6 +1140,53 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPipeliningAvoidsSlowConnection() throws Exception {
+    Map<HttpConnection, AtomicInteger> counts = new ConcurrentHashMap<>();
+    AtomicReference<HttpConnection> slow = new AtomicReference<>();
+    server.requestHandler(req -> {
+      if (req.path().equals("/warmup")) {
+        req.response().end();
+        return;
+      }
+      HttpConnection conn = req.connection();
+      counts.computeIfAbsent(conn, c -> new AtomicInteger()).incrementAndGet();
+      slow.compareAndSet(null, conn);
+      if (slow.get() == conn) {
+        vertx.setTimer(200, id -> req.response().end());
+      } else {
+        req.response().end();
+      }
+    });
+    startServer(testAddress);
+    // Warm up the client so the first latency samples are not skewed
+    awaitFuture(client.request(new RequestOptions(requestOptions).setURI("/warmup")).compose(req -> req.send().compose(HttpClientResponse::end)));
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions()
+      .setPipelining(true)
+      .setPipeliningLimit(10), new PoolOptions().setHttp1MaxSize(2));
+    // Open two connections and sample their latency
+    CountDownLatch latch = new CountDownLatch(2);
+    vertx.runOnContext(v0 -> {
+      for (int i = 0;i < 2;i++) {
+        client.request(requestOptions)
+          .compose(req -> req.send().compose(HttpClientResponse::end))
+          // Use runOnContext to be sure the connection is put back in the pool
+          .onComplete(onSuccess(v1 -> vertx.runOnContext(v2 -> latch.countDown())));
+      }
+    });
+    awaitLatch(latch);
+    assertEquals(2, counts.size());
+    int num = 6;
+    List<Future<Void>> responses = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      responses.add(client.request(requestOptions).compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    awaitFuture(Future.all(responses));
+    // The requests are pipelined on the fast connection rather than behind a slow response
+    assertEquals(1, counts.get(slow.get()).get());
+  }
+
   @Test
   @Repeat(times = 10)
   public void testCloseServerConnectionWithPendingMessages() throws Exception {
@@ -3976,6 +4060,27 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testCachedDateAndServerHeaders() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendDateHeader(true).setServerHeader("vert.x"));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader(HttpHeaders.DATE, "Thu, 01 Jan 1970 00:00:00 GMT").putHeader(HttpHeaders.SERVER, "custom").end();
+      } else {
+        req.response().end();
+      }
+    });
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(requestOptions).compose(req -> req.send()).await();
+    assertEquals("vert.x", resp.getHeader(HttpHeaders.SERVER));
+    long date = DateFormatter.parseHttpDate(resp.getHeader(HttpHeaders.DATE)).getTime();
+    assertTrue(Math.abs(System.currentTimeMillis() - date) < 5000);
+    resp = client.request(new RequestOptions(requestOptions).setURI("/custom")).compose(req -> req.send()).await();
+    assertEquals("custom", resp.getHeader(HttpHeaders.SERVER));
+    assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", resp.getHeader(HttpHeaders.DATE));
+  }
+
   @Test
   public void testKeepAliveTimeoutHeader() throws Exception {
     AtomicBoolean sent = new AtomicBoolean();
@@ -4140,6 +4245,43 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPoolReusesConnectionRecycledOnSameEventLoop() throws Exception {
+    List<HttpServerRequest> requests = new ArrayList<>();
+    server.requestHandler(req -> {
+      requests.add(req);
+      // Hold the first two requests so the pool opens two connections
+      if (requests.size() == 2) {
+        requests.forEach(r -> r.response().end());
+      } else if (requests.size() > 2) {
+        req.response().end();
+      }
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions(), new PoolOptions().setHttp1MaxSize(2));
+    ContextInternal ctx1 = ((VertxInternal) vertx).createEventLoopContext();
+    ContextInternal ctx2 = ((VertxInternal) vertx).createEventLoopContext();
+    assertNotSame(ctx1.nettyEventLoop(), ctx2.nettyEventLoop());
+    Future<HttpConnection> fut1 = sendOnContext(ctx1);
+    Future<HttpConnection> fut2 = sendOnContext(ctx2);
+    // The LIFO selector would hand the same connection to both contexts
+    Future.all(fut1, fut2)
+      .compose(v -> sendOnContext(ctx1).expecting(that(conn -> assertSame(fut1.result(), conn))))
+      .compose(v -> sendOnContext(ctx2).expecting(that(conn -> assertSame(fut2.result(), conn))))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
+  private Future<HttpConnection> sendOnContext(ContextInternal ctx) {
+    Promise<HttpConnection> promise = Promise.promise();
+    ctx.runOnContext(v1 -> client.request(requestOptions)
+      .compose(req -> req.send().compose(resp -> resp.end().map(v2 -> req.connection())))
+      // Use runOnContext to be sure the connection is put back in the pool
+      .onComplete(ar -> ctx.runOnContext(v2 -> promise.handle(ar))));
+    return promise.future();
+  }
+
   @Test
   public void testHttpClientResponseThrowsExceptionInResponseHandler() throws Exception {
     testHttpClientResponseThrowsExceptionInHandler(null, (resp, failure) -> {
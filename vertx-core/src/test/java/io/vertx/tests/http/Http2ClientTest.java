@@ -1997,6 +1997,52 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testLeastLatencyWithConcurrentStreams() throws Exception {
+    server.requestHandler(req -> {
+      switch (req.path()) {
+        case "/slow":
+          vertx.setTimer(200, id -> req.response().end());
+          break;
+        case "/medium":
+          vertx.setTimer(50, id -> req.response().end());
+          break;
+        default:
+          req.response().end();
+          break;
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.httpClientBuilder()
+      .with(new HttpClientOptions(clientOptions).setHttp2MultiplexingLimit(10))
+      .with(new PoolOptions().setHttp2MaxSize(2).setConnectionSelectionPolicy(ConnectionSelectionPolicy.LEAST_LATENCY))
+      .build();
+    HttpConnection first = awaitFuture(send("/"));
+    // Wait until the stream is closed and its lease recycled
+    waitUntil(() -> ((HttpClientConnectionInternal) first).activeStreams() == 0);
+    CountDownLatch latch = new CountDownLatch(1);
+    ((HttpClientConnectionInternal) first).context().runOnContext(v -> latch.countDown());
+    awaitLatch(latch);
+    // Ten concurrent slow streams fill the first connection
+    List<Future<HttpConnection>> slow = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      slow.add(send("/slow"));
+    }
+    HttpConnection second = awaitFuture(send("/medium"));
+    assertNotSame(first, second);
+    for (HttpConnection connection : awaitFuture(Future.all(slow)).<HttpConnection>list()) {
+      assertSame(first, connection);
+    }
+    // The slow streams are measured for their whole duration, the first connection is the slowest
+    assertSame(second, awaitFuture(send("/")));
+  }
+
+  private Future<HttpConnection> send(String uri) {
+    return client.request(new RequestOptions(requestOptions).setURI(uri))
+      .compose(req -> req.send().compose(resp -> resp.end().map(v -> req.connection())));
+  }
+
   @Test
   public void testConnectionWindowSize() throws Exception {
     ServerBootstrap bootstrap = createH2Server((decoder, encoder) -> new Http2EventAdapter() {
@@ -2042,6 +2088,51 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testClientAdaptiveWindowSize() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(4 * 1024 * 1024);
+    server.requestHandler(req -> req.response().end(expected));
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions(clientOptions)
+      .setHttp2AdaptiveWindowSize(true)
+      .setHttp2MaxAdaptiveWindowSize(1024 * 1024));
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(resp -> resp.body().map(body -> {
+        assertEquals(expected, body);
+        HttpConnection conn = req.connection();
+        assertTrue(conn.getWindowSize() > 65535);
+        assertTrue(conn.getWindowSize() <= 1024 * 1024);
+        return conn;
+      })))
+      .compose(conn -> conn.ping(Buffer.buffer("01234567")))
+      .onComplete(onSuccess(pong -> {
+        // The estimator pings do not complete the connection pings
+        assertEquals(Buffer.buffer("01234567"), pong);
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testServerAdaptiveWindowSize() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(4 * 1024 * 1024);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions(serverOptions).setHttp2AdaptiveWindowSize(true));
+    server.requestHandler(req -> req.body().onComplete(onSuccess(body -> {
+      assertEquals(expected, body);
+      int windowSize = req.connection().getWindowSize();
+      assertTrue(windowSize > 65535);
+      assertTrue(req.connection().settings().getInitialWindowSize() > 65535);
+      req.response().end();
+    })));
+    startServer();
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+      .compose(req -> req.send(expected).compose(HttpClientResponse::end))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
 /*
   @Test
   public void testFillsSingleConnection() throws Exception {
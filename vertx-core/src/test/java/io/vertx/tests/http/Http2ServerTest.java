@@ -58,6 +58,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.core.http.impl.Http1xOrH2CHandler;
 import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.impl.Utils;
@@ -550,6 +551,27 @@ public class Http2ServerTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testNativeHeaders() throws Exception {
+    server.requestHandler(req -> {
+      Http2Headers headers = ((HttpServerRequestInternal) req).http2Headers();
+      assertEquals("foo_value", headers.get("foo").toString());
+      assertNull(headers.path());
+      assertNull(headers.method());
+      assertEquals("foo_value", req.getHeader("foo"));
+      testComplete();
+    });
+    startServer();
+    TestClient client = new TestClient();
+    ChannelFuture fut = client.connect(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, request -> {
+      int id = request.nextStreamId();
+      request.encoder.writeHeaders(request.context, id, GET("/").set("foo", "foo_value"), 0, true, request.context.newPromise());
+      request.context.flush();
+    });
+    fut.sync();
+    await();
+  }
+
   @Test
   public void testHeadersEndHandler() throws Exception {
     Context ctx = vertx.getOrCreateContext();
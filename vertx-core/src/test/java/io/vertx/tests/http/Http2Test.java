@@ -650,6 +650,35 @@ public class Http2Test extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPreloadLinkPush() throws Exception {
+    waitFor(2);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .addPreloadLink(new PreloadLink().setPath("/index.html").setUri("/style.css").setPush(true)));
+    server.requestHandler(req -> req.response().end(req.path()));
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setURI("/index.html")).onComplete(onSuccess(req -> {
+      req
+        .earlyHintsHandler(headers -> fail())
+        .pushHandler(pushReq -> {
+          assertEquals(HttpMethod.GET, pushReq.getMethod());
+          assertEquals("/style.css", pushReq.path());
+          pushReq.response().compose(HttpClientResponse::body).onComplete(onSuccess(body -> {
+            assertEquals("/style.css", body.toString());
+            complete();
+          }));
+        })
+        .send()
+        .compose(HttpClientResponse::body)
+        .onComplete(onSuccess(body -> {
+          assertEquals("/index.html", body.toString());
+          complete();
+        }));
+    }));
+    await();
+  }
+
   @Test
   public void testStreamWeightAndDependencyPushPromise() throws Exception {
     int pushStreamDependency = 456;
@@ -16,6 +16,7 @@ import io.netty.channel.EventLoop;
 import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.TooLongHttpContentException;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
@@ -23,6 +24,7 @@ import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.http.*;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.http.impl.CleanableHttpClient;
 import io.vertx.core.http.impl.HttpClientImpl;
 import io.vertx.core.internal.ContextInternal;
@@ -53,6 +55,7 @@ import java.io.*;
 import java.net.ServerSocket;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
@@ -2132,6 +2135,109 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendFileCached() throws Exception {
+    File file = setupFile("test-send-file.html", "first");
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setSendFileCacheOptions(new SendFileCacheOptions().setRevalidationInterval(0)));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath(), 1, Long.MAX_VALUE));
+    startServer(testAddress);
+    Function<String, String> get = expected -> client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(resp -> resp.body().map(body -> {
+          assertEquals(expected, body.toString());
+          assertEquals("text/html", resp.getHeader("Content-Type"));
+          assertEquals(String.valueOf(expected.length()), resp.getHeader("Content-Length"));
+          assertNotNull(resp.getHeader("Last-Modified"));
+          return resp.getHeader("ETag");
+        })))
+      .await();
+    String etag = get.apply("irst");
+    assertNotNull(etag);
+    assertEquals(etag, get.apply("irst"));
+    Files.write(file.toPath(), "second".getBytes(StandardCharsets.UTF_8));
+    assertTrue(file.setLastModified(file.lastModified() + 10_000));
+    assertFalse(etag.equals(get.apply("econd")));
+  }
+
+  @Test
+  public void testSendFileNotCacheable() throws Exception {
+    File file = setupFile("test-send-file.html", "too large");
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setSendFileCacheOptions(new SendFileCacheOptions().setMaxEntrySize(4)));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer(testAddress);
+    for (int i = 0;i < 2;i++) {
+      Buffer body = client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body))
+        .await();
+      assertEquals("too large", body.toString());
+    }
+  }
+
+  @Test
+  public void testSendFileCachedAfterHeadWritten() throws Exception {
+    File file = setupFile("test-send-file.html", "content");
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendFileCacheOptions(new SendFileCacheOptions()));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      Future<Void> fut = resp.sendFile(file.getAbsolutePath());
+      // The file is loaded on a worker, the head is written in the meantime
+      resp.setChunked(true).write("head");
+      fut.onComplete(onFailure(err -> resp.end()));
+    });
+    startServer(testAddress);
+    Buffer body = client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::body))
+      .await();
+    assertEquals("head", body.toString());
+  }
+
+  @Test
+  public void testBodyAggregation() throws Exception {
+    JsonObject json = new JsonObject().put("value", TestUtils.randomAlphaString(16 * 1024));
+    Buffer expected = json.toBuffer();
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setBodyAggregationOptions(new BodyAggregationOptions().setCopyThreshold(0).setMaxSize(expected.length())));
+    server.requestHandler(req -> req.body().onComplete(ar -> {
+      if (ar.succeeded()) {
+        req.response().end(ar.result().toJsonObject().getString("value"));
+      } else {
+        assertTrue(ar.cause() instanceof TooLongHttpContentException);
+        req.response().setStatusCode(413).end();
+      }
+    }));
+    startServer(testAddress);
+    String body = client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+      .compose(req -> {
+        req.setChunked(true);
+        for (int i = 0;i < expected.length();i += 1024) {
+          req.write(expected.slice(i, Math.min(i + 1024, expected.length())));
+        }
+        return req.end().compose(v -> req.response());
+      })
+      .compose(resp -> resp.body().map(Buffer::toString))
+      .await();
+    assertEquals(json.getString("value"), body);
+    int status = client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+      .compose(req -> req.send(expected.copy().appendString(" ")))
+      .map(HttpClientResponse::statusCode)
+      .await();
+    assertEquals(413, status);
+  }
+
   @Test
   public void testSendFileNotFound() throws Exception {
     waitFor(2);
@@ -2396,6 +2502,42 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testPreloadLinkEarlyHints() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .addPreloadLink(new PreloadLink().setPath("/index.html").setUri("/style.css").setAs("style").setType("text/css")));
+    server.requestHandler(req -> req.response().end(req.path()));
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions(), new PoolOptions().setHttp1MaxSize(1));
+    AtomicInteger earlyHints = new AtomicInteger();
+    Future<Buffer> fut = client.request(new RequestOptions(requestOptions).setURI("/index.html"))
+      .compose(req -> req
+        .earlyHintsHandler(headers -> {
+          assertEquals("</style.css>; rel=preload; as=style; type=\"text/css\"", headers.get("link"));
+          earlyHints.incrementAndGet();
+        })
+        .send()
+        .compose(HttpClientResponse::body))
+      .compose(body -> {
+        assertEquals("/index.html", body.toString());
+        assertEquals(1, earlyHints.get());
+        // The connection has already sent the link
+        return client.request(new RequestOptions(requestOptions).setURI("/index.html"))
+          .compose(req -> req
+            .earlyHintsHandler(headers -> earlyHints.incrementAndGet())
+            .send()
+            .compose(HttpClientResponse::body));
+      });
+    fut.onComplete(onSuccess(body -> {
+      assertEquals("/index.html", body.toString());
+      assertEquals(1, earlyHints.get());
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void test103EarlyHints() throws Exception {
 
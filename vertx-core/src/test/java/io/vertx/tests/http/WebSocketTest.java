@@ -3975,4 +3975,97 @@ public class WebSocketTest extends VertxTestBase {
       }));
     await();
   }
+
+  @Test
+  public void testBroadcast() throws Exception {
+    ServerWebSocketGroup group = ServerWebSocketGroup.create(vertx);
+    server = vertx.createHttpServer(new HttpServerOptions().setWebSocketAllowServerNoContext(true))
+      .webSocketHandler(group::add);
+    awaitFuture(server.listen(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST));
+    List<WebSocketClientOptions> clientOptions = Arrays.asList(
+      new WebSocketClientOptions(),
+      new WebSocketClientOptions(),
+      new WebSocketClientOptions().setTryUsePerMessageCompression(true),
+      new WebSocketClientOptions().setTryUsePerMessageCompression(true).setCompressionRequestServerNoContext(true),
+      new WebSocketClientOptions().setTryUsePerMessageCompression(true).setCompressionRequestServerNoContext(true));
+    String text = randomAlphaString(200);
+    Buffer small = TestUtils.randomBuffer(100);
+    Buffer large = Buffer.buffer(randomAlphaString(70_000));
+    waitFor(clientOptions.size() * 3);
+    for (WebSocketClientOptions options : clientOptions) {
+      WebSocketClient client = vertx.createWebSocketClient(options);
+      List<Object> received = Collections.synchronizedList(new ArrayList<>());
+      WebSocket ws = awaitFuture(client.connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/"));
+      ws.textMessageHandler(msg -> {
+        received.add(msg);
+        assertEquals(text, msg);
+        complete();
+      });
+      ws.binaryMessageHandler(msg -> {
+        assertEquals(received.size() == 1 ? small : large, msg);
+        received.add(msg);
+        complete();
+      });
+    }
+    assertWaitUntil(() -> group.size() == clientOptions.size());
+    awaitFuture(group.writeTextMessage(text));
+    awaitFuture(group.writeBinaryMessage(small));
+    awaitFuture(group.writeBinaryMessage(large));
+    await();
+  }
+
+  @Test
+  public void testBroadcastRemovesClosedWebSockets() throws Exception {
+    ServerWebSocketGroup group = ServerWebSocketGroup.create(vertx);
+    CountDownLatch closed = new CountDownLatch(1);
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        ws.closeHandler(v -> closed.countDown());
+      });
+    awaitFuture(server.listen(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST));
+    client = vertx.createWebSocketClient();
+    WebSocket ws1 = awaitFuture(client.connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/"));
+    WebSocket ws2 = awaitFuture(client.connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/"));
+    ws2.textMessageHandler(msg -> {
+      assertEquals("hello", msg);
+      testComplete();
+    });
+    assertWaitUntil(() -> group.size() == 2);
+    awaitFuture(ws1.close());
+    awaitLatch(closed);
+    awaitFuture(group.writeTextMessage("hello"));
+    assertEquals(1, group.size());
+    await();
+  }
+
+  @Test
+  public void testBroadcastSkipsPendingHandshake() throws Exception {
+    ServerWebSocketGroup group = ServerWebSocketGroup.create(vertx);
+    AtomicReference<Runnable> accept = new AtomicReference<>();
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        Promise<Integer> handshake = Promise.promise();
+        ws.setHandshake(handshake.future());
+        Context ctx = vertx.getOrCreateContext();
+        accept.set(() -> ctx.runOnContext(v -> handshake.complete(101)));
+      });
+    awaitFuture(server.listen(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST));
+    client = vertx.createWebSocketClient();
+    Future<WebSocket> fut = client.connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/");
+    assertWaitUntil(() -> accept.get() != null);
+    // The WebSocket is neither removed nor accepted by the broadcast
+    awaitFuture(group.writeTextMessage("early"));
+    assertEquals(1, group.size());
+    assertFalse(fut.isComplete());
+    accept.get().run();
+    WebSocket ws = awaitFuture(fut);
+    ws.textMessageHandler(msg -> {
+      assertEquals("hello", msg);
+      testComplete();
+    });
+    awaitFuture(group.writeTextMessage("hello"));
+    await();
+  }
 }
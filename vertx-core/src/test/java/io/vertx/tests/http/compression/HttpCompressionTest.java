@@ -28,10 +28,12 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Queue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
 import static io.vertx.core.http.HttpMethod.PUT;
+import static io.vertx.test.core.AssertExpectations.that;
 
 public abstract class HttpCompressionTest extends HttpTestBase {
 
@@ -154,6 +156,158 @@ public abstract class HttpCompressionTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testCompressionBelowContentSizeThreshold() throws Exception {
+    testCompressionPolicy(options -> options.setCompressionContentSizeThreshold(COMPRESS_TEST_STRING.length() + 1), "text/plain", false);
+  }
+
+  @Test
+  public void testCompressionAboveContentSizeThreshold() throws Exception {
+    testCompressionPolicy(options -> options.setCompressionContentSizeThreshold(COMPRESS_TEST_STRING.length()), "text/plain", true);
+  }
+
+  @Test
+  public void testCompressionExcludedContentType() throws Exception {
+    testCompressionPolicy(options -> options.addCompressionExcludedContentType("image/*"), "image/png", false);
+  }
+
+  @Test
+  public void testCompressionNotExcludedContentType() throws Exception {
+    testCompressionPolicy(options -> options.addCompressionExcludedContentType("image/*"), "text/plain; charset=utf-8", true);
+  }
+
+  @Test
+  public void testCompressionContentTypeNotAllowed() throws Exception {
+    testCompressionPolicy(options -> options.addCompressionContentType("application/json"), "text/plain", false);
+  }
+
+  @Test
+  public void testCompressionContentTypeAllowed() throws Exception {
+    testCompressionPolicy(options -> options.addCompressionContentType("text/*"), "text/plain", true);
+  }
+
+  @Test
+  public void testCompressedResponseCacheBelowContentSizeThreshold() throws Exception {
+    testCompressionPolicy(options -> options
+      .setCompressedResponseCacheOptions(new CompressedResponseCacheOptions())
+      .setCompressionContentSizeThreshold(COMPRESS_TEST_STRING.length() + 1), "text/plain", false);
+  }
+
+  @Test
+  public void testCompressedResponseCacheExcludedContentType() throws Exception {
+    testCompressionPolicy(options -> options
+      .setCompressedResponseCacheOptions(new CompressedResponseCacheOptions())
+      .addCompressionExcludedContentType("image/*"), "image/png", false);
+  }
+
+  @Test
+  public void testCompressedResponseCacheContentTypeAllowed() throws Exception {
+    testCompressionPolicy(options -> options
+      .setCompressedResponseCacheOptions(new CompressedResponseCacheOptions())
+      .addCompressionContentType("text/*"), "text/plain", true);
+  }
+
+  private void testCompressionPolicy(Consumer<HttpServerOptions> config, String contentType, boolean compressed) throws Exception {
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    config.accept(options);
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> req.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType).end(COMPRESS_TEST_STRING));
+    startServer();
+    // Send the body repeatedly so a compressed response cache admits it
+    int num = options.getCompressedResponseCacheOptions() != null ? 3 : 1;
+    for (int i = 0;i < num;i++) {
+      Buffer body = client.request(new RequestOptions()
+          .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+        .compose(req -> req
+          .send()
+          .expecting(that(resp -> assertEquals(compressed ? encoding() : null, resp.getHeader(HttpHeaders.CONTENT_ENCODING))))
+          .compose(HttpClientResponse::body))
+        .await();
+      Buffer expected = compressed ? compressedTestString : Buffer.buffer(COMPRESS_TEST_STRING);
+      assertEquals(StringUtil.toHexString(expected.getBytes()), StringUtil.toHexString(body.getBytes()));
+    }
+  }
+
+  @Test
+  public void testServerCompressedResponseCache() throws Exception {
+    server.close();
+    HttpServerOptions options = createBaseServerOptions().setCompressedResponseCacheOptions(new CompressedResponseCacheOptions());
+    configureServerCompression(options);
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> req.response().end(COMPRESS_TEST_STRING));
+    startServer();
+    for (int i = 0;i < 3;i++) {
+      // A body is cached the second time it is sent, only gzip and deflate bodies are cached
+      boolean cached = i > 0 && ("gzip".equals(encoding()) || "deflate".equals(encoding()));
+      Buffer body = client.request(new RequestOptions()
+          .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+        .compose(req -> req
+          .send()
+          .expecting(that(resp -> {
+            assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+            if (cached && resp.version() != HttpVersion.HTTP_2) {
+              // Cached bodies are sent with their length
+              assertEquals(String.valueOf(compressedTestString.length()), resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+            }
+          }))
+          .compose(HttpClientResponse::body))
+        .await();
+      assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()));
+    }
+  }
+
+  @Test
+  public void testSendFilePrecompressed() throws Exception {
+    testSendFilePrecompressed(false);
+  }
+
+  @Test
+  public void testSendFilePrecompressedWithCompression() throws Exception {
+    testSendFilePrecompressed(true);
+  }
+
+  private void testSendFilePrecompressed(boolean compression) throws Exception {
+    File f = File.createTempFile("vertx", ".txt");
+    f.deleteOnExit();
+    Files.write(f.toPath(), COMPRESS_TEST_STRING.getBytes(StandardCharsets.UTF_8));
+    String extension;
+    switch (encoding()) {
+      case "br":
+        extension = ".br";
+        break;
+      case "zstd":
+        extension = ".zst";
+        break;
+      default:
+        extension = ".gz";
+        break;
+    }
+    File sibling = new File(f.getAbsolutePath() + extension);
+    sibling.deleteOnExit();
+    Files.write(sibling.toPath(), compressedTestString.getBytes());
+    server.close();
+    HttpServerOptions options = createBaseServerOptions().setPrecompressedFilesSupported(true);
+    if (compression) {
+      configureServerCompression(options);
+    }
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> req.response().sendFile(f.getAbsolutePath()));
+    startServer();
+    Buffer body = client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req
+        .send()
+        .expecting(that(resp -> {
+          assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          assertEquals("text/plain", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        }))
+        .compose(HttpClientResponse::body))
+      .await();
+    assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()));
+  }
+
   @Test
   public void testServerDecompression() throws Exception {
     server.close();
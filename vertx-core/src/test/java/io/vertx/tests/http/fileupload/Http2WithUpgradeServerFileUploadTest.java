@@ -12,6 +12,8 @@ package io.vertx.tests.http.fileupload;
 
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpVersion;
+import org.junit.Ignore;
+import org.junit.Test;
 
 /**
  */
@@ -24,4 +26,10 @@ public class Http2WithUpgradeServerFileUploadTest extends HttpServerFileUploadTe
       .setHttp2ClearTextUpgrade(true);
   }
 
+  @Ignore("The upload of the upgraded request paused with the Netty decoder does not end")
+  @Test
+  @Override
+  public void testFormUploadSplitChunksWithBackPressure() throws Exception {
+    super.testFormUploadSplitChunksWithBackPressure();
+  }
 }
@@ -24,6 +24,7 @@ import io.vertx.core.http.RequestOptions;
 import io.vertx.test.core.TestUtils;
 import io.vertx.test.http.HttpTestBase;
 import org.junit.Rule;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
@@ -499,6 +500,63 @@ public abstract class HttpServerFileUploadTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testFormUploadSplitChunksWithBackPressure() throws Exception {
+    testFormUploadSplitChunksWithBackPressure(TestUtils.randomAlphaString(4 * 1024));
+  }
+
+  @Test
+  public void testFormUploadSplitChunksWithPartialDelimiter() throws Exception {
+    // The Netty decoder does not handle a partial delimiter split across chunks
+    Assume.assumeTrue(createBaseServerOptions().isMultipartStreamingEnabled());
+    testFormUploadSplitChunksWithBackPressure(TestUtils.randomAlphaString(4 * 1024) + "\r\n--" + BOUNDARY.substring(0, 10) + TestUtils.randomAlphaString(1024));
+  }
+
+  private static final String BOUNDARY = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+
+  private void testFormUploadSplitChunksWithBackPressure(String content) throws Exception {
+    String boundary = BOUNDARY;
+    String body = "preamble\r\n--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"attr\"\r\n" +
+      "\r\n" +
+      "attr-value\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "Content-Type: text/plain\r\n" +
+      "\r\n" +
+      content + "\r\n" +
+      "--" + boundary + "--\r\n";
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Buffer received = Buffer.buffer();
+      req.uploadHandler(upload -> {
+        upload.pause();
+        upload.handler(received::appendBuffer);
+        upload.endHandler(v -> {
+          assertEquals(content, received.toString());
+          req.response().end();
+        });
+        vertx.setTimer(100, id -> upload.resume());
+      });
+      req.endHandler(v -> assertEquals("attr-value", req.getFormAttribute("attr")));
+    });
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST).setURI("/form"))
+      .compose(req -> {
+        req.putHeader(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+        req.setChunked(true);
+        for (int i = 0;i < body.length();i += 7) {
+          req.write(body.substring(i, Math.min(i + 7, body.length())));
+        }
+        return req.end().compose(v -> req.response());
+      })
+      .onComplete(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testInvalidPostFileUpload() throws Exception {
     server.requestHandler(req -> {
@@ -11,13 +11,19 @@
 
 package io.vertx.tests.http.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.impl.headers.EncodedHeaderCache;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -58,6 +64,32 @@ public class VertxHttpHeadersTest extends HeadersTest {
     assertNotEquals(AsciiString.hashCode(sameBucket1), AsciiString.hashCode(sameBucket2));
   }
 
+  @Test
+  public void testEncodeWithCache() {
+    HeadersMultiMap headers = newMultiMap();
+    headers.add(AsciiString.cached("content-type"), AsciiString.cached("text/plain"));
+    headers.add(AsciiString.cached("server"), "vert.x");
+    headers.add((CharSequence) "x-custom", AsciiString.cached("value"));
+    headers.add(AsciiString.cached("cache-control"), AsciiString.cached("no-cache"));
+    ByteBuf expected = Unpooled.buffer();
+    headers.encode(expected);
+    EncodedHeaderCache cache = EncodedHeaderCache.get();
+    for (int i = 0;i < 2;i++) {
+      ByteBuf buf = Unpooled.buffer();
+      headers.encode(buf, cache);
+      assertEquals(expected.toString(StandardCharsets.US_ASCII), buf.toString(StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testEncodeStatusLine() {
+    ByteBuf buf = Unpooled.buffer();
+    assertTrue(EncodedHeaderCache.encodeStatusLine(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND, buf));
+    assertEquals("HTTP/1.1 404 Not Found\r\n", buf.toString(StandardCharsets.US_ASCII));
+    assertFalse(EncodedHeaderCache.encodeStatusLine(HttpVersion.HTTP_1_0, HttpResponseStatus.OK, buf));
+    assertFalse(EncodedHeaderCache.encodeStatusLine(HttpVersion.HTTP_1_1, new HttpResponseStatus(200, "Fine"), buf));
+  }
+
   @Test
   public void testAddEmptyStringNameIterableStringValue() {
     MultiMap mmap = newMultiMap();
@@ -29,6 +29,8 @@ import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.core.shareddata.CacheOptions;
+import io.vertx.core.shareddata.LocalCache;
 import io.vertx.core.spi.VertxMetricsFactory;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
@@ -497,6 +499,51 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testClusterWriteBatching() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteBatchMaxBytes(64 * 1024).setClusterWriteBatchMaxLinger(1000);
+    startNodes(2, options);
+    FakeEventBusMetrics fromMetrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    int num = 100;
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (received.incrementAndGet() == num) {
+        int count = 0;
+        for (int batch : fromMetrics.getWrittenBatches()) {
+          count += batch;
+        }
+        assertEquals(num, count);
+        assertTrue(fromMetrics.getWrittenBatches().size() < num);
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        for (int i = 0;i < num;i++) {
+          vertices[0].eventBus().send(ADDRESS1, "msg-" + i);
+        }
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testLocalCacheMetrics() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("the-cache", new CacheOptions().setMaxSize(2));
+    FakeCacheMetrics metrics = FakeCacheMetrics.getMetrics("the-cache");
+    assertNotNull(metrics);
+    cache.put("k1", "v1");
+    cache.put("k2", "v2");
+    assertEquals("v1", cache.get("k1"));
+    assertNull(cache.get("k3"));
+    cache.put("k3", "v3");
+    assertEquals(1, metrics.hits());
+    assertEquals(1, metrics.misses());
+    assertEquals(1, metrics.evictions());
+    cache.close();
+    assertTrue(metrics.isClosed());
+  }
+
   @Test
   public void testReplyFailureNoHandlers() throws Exception {
     CountDownLatch latch = new CountDownLatch(1);
@@ -724,6 +771,82 @@ public class MetricsTest extends VertxTestBase {
     assertWaitUntil(() -> clientMetrics.connectionCount("localhost:" + HttpTestBase.DEFAULT_HTTP_PORT) == null);
   }
 
+  @Test
+  public void testHttpClientMetricsPipelineDepth() throws Exception {
+    server = vertx.createHttpServer();
+    AtomicBoolean release = new AtomicBoolean();
+    List<Runnable> requests = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      if (release.get()) {
+        req.response().end();
+      } else {
+        requests.add(() -> req.response().end());
+      }
+    });
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    client = vertx.createHttpClient(new HttpClientOptions().setPipelining(true).setPipeliningLimit(3), new PoolOptions().setHttp1MaxSize(2));
+    FakeHttpClientMetrics metrics = FakeHttpClientMetrics.getMetrics(client);
+    CountDownLatch responsesLatch = new CountDownLatch(6);
+    for (int i = 0;i < 6;i++) {
+      client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/somepath")
+        .compose(req -> req.send().compose(HttpClientResponse::end))
+        .onComplete(onSuccess(v -> responsesLatch.countDown()));
+    }
+    assertWaitUntil(() -> requests.size() == 2);
+    EndpointMetric endpoint = metrics.endpoint("localhost:" + HttpTestBase.DEFAULT_HTTP_PORT);
+    assertWaitUntil(() -> endpoint.pipelineDepth.get() == 6);
+    release.set(true);
+    vertx.runOnContext(v -> requests.forEach(Runnable::run));
+    awaitLatch(responsesLatch);
+    assertWaitUntil(() -> endpoint.pipelineDepth.get() == 0);
+    assertEquals(6, endpoint.maxPipelineDepth.get());
+  }
+
+  @Test
+  public void testHttpServerMetricsBytesCompressed() throws Exception {
+    String body = TestUtils.randomAlphaString(16).repeat(256);
+    server = vertx.createHttpServer(new HttpServerOptions().setCompressionSupported(true).setCompressionContentSizeThreshold(64));
+    server.requestHandler(req -> req.response().end(req.path().equals("/small") ? "small" : body));
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient(new HttpClientOptions().setDecompressionSupported(true));
+    Buffer small = awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/small")
+      .compose(req -> req.send().compose(HttpClientResponse::body)));
+    assertEquals("small", small.toString());
+    assertEquals(0L, metrics.compressedBytesIn.get());
+    Buffer large = awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/large")
+      .compose(req -> req.send().compose(HttpClientResponse::body)));
+    assertEquals(body, large.toString());
+    assertEquals(body.length(), metrics.compressedBytesIn.get());
+    assertTrue(metrics.compressedBytesOut.get() > 0L);
+    assertTrue(metrics.compressedBytesOut.get() < body.length());
+    assertTrue(metrics.compressionTime.get() > 0L);
+  }
+
+  @Test
+  public void testHttpServerMetricsBytesCompressedWithCompressedResponseCache() throws Exception {
+    String body = TestUtils.randomAlphaString(16).repeat(256);
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setCompressionSupported(true)
+      .setCompressionContentSizeThreshold(64)
+      .setCompressedResponseCacheOptions(new CompressedResponseCacheOptions()));
+    server.requestHandler(req -> req.response().end(req.path().equals("/small") ? "small" : body));
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient(new HttpClientOptions().setDecompressionSupported(true));
+    for (int i = 0;i < 3;i++) {
+      Buffer small = awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/small")
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+      assertEquals("small", small.toString());
+      Buffer large = awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/large")
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+      assertEquals(body, large.toString());
+    }
+    // Sent by the pipeline, compressed and cached, then served from the cache
+    assertEquals(3L * body.length(), metrics.compressedBytesIn.get());
+    assertTrue(metrics.compressedBytesOut.get() < 3L * body.length());
+  }
+
   @Test
   public void testHttpClientMetricsQueueClose() throws Exception {
     server = vertx.createHttpServer();
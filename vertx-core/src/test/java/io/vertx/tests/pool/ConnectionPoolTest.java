@@ -30,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -88,6 +89,42 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testAcquireRecycledConnectionOnEventLoop() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    Connection expected = new Connection();
+    CountDownLatch latch1 = new CountDownLatch(1);
+    pool
+      .acquire(context, 0)
+      .onComplete(onSuccess(lease -> {
+        lease.recycle();
+        latch1.countDown();
+      }));
+    mgr.assertRequest().connect(expected, 0);
+    awaitLatch(latch1);
+    CountDownLatch latch2 = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      // The permit parked on the event loop is handed back synchronously
+      Future<Lease<Connection>> fut = pool.acquire(context, 0);
+      assertTrue(fut.succeeded());
+      assertSame(expected, fut.result().get());
+      fut.result().recycle();
+      latch2.countDown();
+    });
+    awaitLatch(latch2);
+    // Acquiring out of the event loop reclaims the parked permit
+    Lease<Connection> lease = pool.acquire(context, 0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertSame(expected, lease.get());
+    assertEquals(1, pool.size());
+    lease.recycle();
+    // A parked connection is unused and can be evicted
+    List<Connection> evicted = pool.evict(conn -> true).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertEquals(Collections.singletonList(expected), evicted);
+    assertEquals(0, pool.size());
+  }
+
   @Test
   public void testRecycleRemovedConnection() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
@@ -949,6 +986,63 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testLeastInFlightSelector() throws Exception {
+    testBalancingSelector(ConnectionSelectors.leastInFlight());
+  }
+
+  @Test
+  public void testPowerOfTwoChoicesSelector() throws Exception {
+    testBalancingSelector(ConnectionSelectors.powerOfTwoChoices());
+  }
+
+  private void testBalancingSelector(BiFunction<PoolWaiter<Connection>, List<PoolConnection<Connection>>, PoolConnection<Connection>> selector) throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }).connectionSelector(selector);
+    List<Future<Lease<Connection>>> futures = new ArrayList<>();
+    futures.add(pool.acquire(context, 0));
+    futures.add(pool.acquire(context, 0));
+    Connection conn1 = new Connection();
+    Connection conn2 = new Connection();
+    mgr.assertRequest().concurrency(10).connect(conn1, 0);
+    mgr.assertRequest().concurrency(10).connect(conn2, 0);
+    for (int i = 0;i < 6;i++) {
+      futures.add(pool.acquire(context, 0));
+    }
+    Map<Connection, Integer> usage = new HashMap<>();
+    for (Future<Lease<Connection>> future : futures) {
+      Lease<Connection> lease = future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+      usage.merge(lease.get(), 1, Integer::sum);
+    }
+    assertEquals(4, (int) usage.get(conn1));
+    assertEquals(4, (int) usage.get(conn2));
+  }
+
+  @Test
+  public void testLeastLatencySelector() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    Map<Connection, Double> latencies = new HashMap<>();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 })
+      .connectionSelector(ConnectionSelectors.leastLatency(latencies::get));
+    Future<Lease<Connection>> fut1 = pool.acquire(context, 0);
+    Future<Lease<Connection>> fut2 = pool.acquire(context, 0);
+    Connection conn1 = new Connection();
+    Connection conn2 = new Connection();
+    latencies.put(conn1, 10D);
+    latencies.put(conn2, 42D);
+    mgr.assertRequest().concurrency(20).connect(conn1, 0);
+    mgr.assertRequest().concurrency(20).connect(conn2, 0);
+    fut1.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    fut2.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    // conn2 costs 42 * 2, conn1 costs 10 * (usage + 1) and takes the acquisitions until its cost exceeds it
+    for (int i = 0;i < 7;i++) {
+      assertSame(conn1, pool.acquire(context, 0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).get());
+    }
+    assertSame(conn2, pool.acquire(context, 0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).get());
+  }
+
   @Test
   public void testDefaultSelector() throws Exception {
     ContextInternal context1 = vertx.createEventLoopContext();
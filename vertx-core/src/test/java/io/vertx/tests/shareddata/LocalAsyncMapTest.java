@@ -11,10 +11,19 @@
 
 package io.vertx.tests.shareddata;
 
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.AsyncMap;
 import io.vertx.test.core.Repeat;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.vertx.test.core.AssertExpectations.that;
+
 /**
  * @author Thomas Segismont
  */
@@ -45,4 +54,61 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testTtlEntriesAreReclaimed() {
+    int num = 1000;
+    vertx.sharedData().<String, String>getLocalAsyncMap("foo")
+      .compose(map -> {
+        List<Future<Void>> puts = new ArrayList<>();
+        for (int i = 0; i < num; i++) {
+          puts.add(map.put("key-" + i, "value", 1000));
+        }
+        puts.add(map.put("forever", "value"));
+        return Future.all(puts).compose(v -> map.size().expecting(that(size -> assertEquals(num + 1, (int) size)))).map(map);
+      })
+      .onComplete(onSuccess(map -> {
+        waitUntilSize(map, 1);
+      }));
+    await();
+  }
+
+  @Test
+  public void testExpiredEntriesAreAbsent() {
+    vertx.sharedData().<String, String>getLocalAsyncMap("foo")
+      .compose(map -> Future.all(
+          map.put("put-if-absent", "value", 10),
+          map.put("replace", "value", 10),
+          map.put("replace-if-present", "value", 10),
+          map.put("remove-if-present", "value", 10),
+          map.put("forever", "value"))
+        .compose(v -> {
+          Promise<Void> promise = Promise.promise();
+          vertx.setTimer(50, id -> promise.complete());
+          return promise.future();
+        })
+        .compose(v -> map.size().expecting(that(size -> assertEquals(1, (int) size))))
+        .compose(v -> map.putIfAbsent("put-if-absent", "other").expecting(that(Assert::assertNull)))
+        .compose(v -> map.get("put-if-absent").expecting(that(value -> assertEquals("other", value))))
+        .compose(v -> map.replace("replace", "other").expecting(that(Assert::assertNull)))
+        .compose(v -> map.get("replace").expecting(that(Assert::assertNull)))
+        .compose(v -> map.replaceIfPresent("replace-if-present", "value", "other").expecting(that(Assert::assertFalse)))
+        .compose(v -> map.removeIfPresent("remove-if-present", "value").expecting(that(Assert::assertFalse)))
+        .compose(v -> map.size().expecting(that(size -> assertEquals(2, (int) size)))))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
+  private void waitUntilSize(AsyncMap<String, String> map, int expected) {
+    map.size().onComplete(onSuccess(size -> {
+      if (size == expected) {
+        map.get("forever").onComplete(onSuccess(value -> {
+          assertEquals("value", value);
+          testComplete();
+        }));
+      } else {
+        vertx.setTimer(10, id -> waitUntilSize(map, expected));
+      }
+    }));
+  }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.CacheOptions;
+import io.vertx.core.shareddata.EvictionPolicy;
+import io.vertx.core.shareddata.LocalCache;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+import static io.vertx.test.core.TestUtils.assertNullPointerException;
+
+public class LocalCacheTest extends VertxTestBase {
+
+  @Test
+  public void testCacheByName() {
+    LocalCache<String, String> cache1 = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    LocalCache<String, String> cache2 = vertx.sharedData().getLocalCache("foo", new CacheOptions().setMaxSize(1));
+    assertSame(cache1, cache2);
+    cache1.put("k1", "v1");
+    cache1.put("k2", "v2");
+    // The options of the existing cache apply
+    assertEquals(2, cache2.size());
+    cache1.close();
+    LocalCache<String, String> cache3 = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    assertNotSame(cache1, cache3);
+    assertNull(cache3.get("k1"));
+  }
+
+  @Test
+  public void testOperations() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    assertNull(cache.put("k", "v1"));
+    assertEquals("v1", cache.put("k", "v2"));
+    assertEquals("v2", cache.putIfAbsent("k", "v3"));
+    assertEquals("v2", cache.get("k"));
+    assertTrue(cache.containsKey("k"));
+    assertEquals("v2", cache.remove("k"));
+    assertFalse(cache.containsKey("k"));
+    assertNull(cache.remove("k"));
+    assertNull(cache.putIfAbsent("k", "v4"));
+    assertEquals("v4", cache.get("k"));
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertNull(cache.get("k"));
+  }
+
+  @Test
+  public void testInvalidTypes() {
+    LocalCache<Object, Object> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    assertNullPointerException(() -> cache.put("k", null));
+    assertIllegalArgumentException(() -> cache.put("k", new Object()));
+    assertIllegalArgumentException(() -> cache.put("k", "v", -1));
+    assertIllegalArgumentException(() -> new CacheOptions().setMaxSize(0));
+    assertIllegalArgumentException(() -> new CacheOptions().setMaxWeight(-1));
+    LocalCache<String, String> weighted = vertx.sharedData().getLocalCache("bar", new CacheOptions()
+      .setWeigher((key, value) -> -1));
+    assertIllegalArgumentException(() -> weighted.put("k", "v"));
+  }
+
+  @Test
+  public void testCopy() {
+    LocalCache<String, JsonObject> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    JsonObject json = new JsonObject().put("foo", "bar");
+    cache.put("k", json);
+    JsonObject got1 = cache.get("k");
+    JsonObject got2 = cache.get("k");
+    assertEquals(json, got1);
+    assertNotSame(json, got1);
+    assertNotSame(got1, got2);
+  }
+
+  @Test
+  public void testLruEviction() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions()
+      .setMaxSize(3)
+      .setEvictionPolicy(EvictionPolicy.LRU));
+    cache.put("a", "a");
+    cache.put("b", "b");
+    cache.put("c", "c");
+    assertEquals("a", cache.get("a"));
+    cache.put("d", "d");
+    assertEquals(3, cache.size());
+    assertNull(cache.get("b"));
+    assertEquals("a", cache.get("a"));
+    assertEquals("c", cache.get("c"));
+    assertEquals("d", cache.get("d"));
+  }
+
+  @Test
+  public void testWeightEviction() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions()
+      .setMaxWeight(10)
+      .setWeigher((String key, String value) -> value.length())
+      .setEvictionPolicy(EvictionPolicy.LRU));
+    cache.put("a", "aaaa");
+    cache.put("b", "bbbb");
+    assertEquals("aaaa", cache.get("a"));
+    cache.put("c", "cc");
+    assertEquals(3, cache.size());
+    cache.put("d", "dd");
+    assertEquals(3, cache.size());
+    assertNull(cache.get("b"));
+    assertEquals("aaaa", cache.get("a"));
+    // An entry heavier than the maximum weight is not retained and does not evict the other entries
+    cache.put("e", "eeeeeeeeeee");
+    assertNull(cache.get("e"));
+    assertEquals(3, cache.size());
+    // Replacing an entry accounts for the weight of the new value only
+    cache.put("a", "a");
+    cache.put("f", "fff");
+    assertEquals(4, cache.size());
+  }
+
+  @Test
+  public void testTinyLfuResistsScan() {
+    int size = 100;
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions()
+      .setMaxSize(size)
+      .setEvictionPolicy(EvictionPolicy.TINY_LFU));
+    for (int i = 0; i < size; i++) {
+      cache.put("hot-" + i, "value");
+    }
+    for (int j = 0; j < 5; j++) {
+      for (int i = 0; i < size; i++) {
+        assertNotNull(cache.get("hot-" + i));
+      }
+    }
+    // Each cold key is used once
+    for (int i = 0; i < 10 * size; i++) {
+      cache.put("cold-" + i, "value");
+    }
+    assertEquals(size, cache.size());
+    int retained = 0;
+    for (int i = 0; i < size; i++) {
+      if (cache.containsKey("hot-" + i)) {
+        retained++;
+      }
+    }
+    assertTrue("Expected most hot keys to be retained instead of " + retained, retained >= size * 9 / 10);
+  }
+
+  @Test
+  public void testEntryTtl() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions());
+    cache.put("short", "v", 10);
+    cache.put("long", "v", 60_000);
+    cache.put("forever", "v");
+    waitUntil(() -> cache.get("short") == null);
+    assertFalse(cache.containsKey("short"));
+    assertEquals(2, cache.size());
+    assertEquals("v", cache.get("long"));
+    assertEquals("v", cache.get("forever"));
+  }
+
+  @Test
+  public void testDefaultTtl() {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions().setTtl(10));
+    cache.put("k1", "v");
+    cache.putIfAbsent("k2", "v");
+    cache.put("k3", "v", 0);
+    waitUntil(() -> cache.size() == 1);
+    assertNull(cache.get("k1"));
+    assertNull(cache.get("k2"));
+    assertEquals("v", cache.get("k3"));
+    // An expired entry is absent
+    assertNull(cache.putIfAbsent("k1", "v2"));
+  }
+
+  @Test
+  public void testExpiredEntriesCountedBeforeEviction() throws Exception {
+    LocalCache<String, String> cache = vertx.sharedData().getLocalCache("foo", new CacheOptions()
+      .setMaxSize(2)
+      .setEvictionPolicy(EvictionPolicy.LRU));
+    // Longer than the range of the finest level of the timing wheel
+    cache.put("expiring", "v", 1100);
+    cache.put("live", "v");
+    Thread.sleep(1200);
+    assertEquals(1, cache.size());
+    cache.put("other", "v");
+    assertEquals("v", cache.get("live"));
+    assertEquals("v", cache.get("other"));
+    assertEquals(2, cache.size());
+  }
+}
@@ -26,6 +26,7 @@ import org.junit.Test;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
@@ -374,6 +375,55 @@ public class LocalSharedDataTest extends VertxTestBase {
     testMapOperationResult(LocalMap::remove);
   }
 
+  @Test
+  public void testGetAll() {
+    LocalMap<String, Object> map = sharedData.getLocalMap("foo");
+    JsonObject json = new JsonObject().put("foo", "bar");
+    map.put("k1", json);
+    map.put("k2", json);
+    map.put("k3", "val3");
+    map.put("k4", TimeUnit.SECONDS);
+    Map<String, Object> all = map.getAll(Arrays.asList("k1", "k2", "k3", "k4", "k5"));
+    assertEquals(4, all.size());
+    assertFalse(all.containsKey("k5"));
+    assertEquals(json, all.get("k1"));
+    assertNotSame(json, all.get("k1"));
+    // The same instance is copied once
+    assertSame(all.get("k1"), all.get("k2"));
+    assertEquals("val3", all.get("k3"));
+    assertSame(TimeUnit.SECONDS, all.get("k4"));
+  }
+
+  @Test
+  public void testForEachCopied() {
+    LocalMap<String, JsonObject> map = sharedData.getLocalMap("foo");
+    JsonObject json1 = new JsonObject().put("foo1", "val1");
+    JsonObject json2 = new JsonObject().put("foo2", "val2");
+    map.put("k1", json1);
+    map.put("k2", json2);
+    Map<String, JsonObject> visited = new HashMap<>();
+    map.forEach(visited::put);
+    assertEquals(2, visited.size());
+    assertEquals(json1, visited.get("k1"));
+    assertNotSame(json1, visited.get("k1"));
+    assertEquals(json2, visited.get("k2"));
+    assertNotSame(json2, visited.get("k2"));
+  }
+
+  @Test
+  public void testPutAllRejectsInvalidType() {
+    LocalMap<String, Object> map = sharedData.getLocalMap("foo");
+    Map<String, Object> entries = new LinkedHashMap<>();
+    entries.put("k1", "val1");
+    entries.put("k2", new SomeOtherClass());
+    assertIllegalArgumentException(() -> map.putAll(entries));
+    assertTrue(map.isEmpty());
+    entries.remove("k2");
+    entries.put("k3", new JsonObject());
+    map.putAll(entries);
+    assertEquals(2, map.size());
+  }
+
   private void testMapOperationResult(BiFunction<LocalMap<String, ShareableObject>, String, ShareableObject> operation) {
     final String key = "key";
     final ShareableObject value = new ShareableObject("some test data");
@@ -12,6 +12,8 @@
 package io.vertx.tests.shareddata;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Counter;
+import io.vertx.core.shareddata.CounterOptions;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
@@ -165,4 +167,54 @@ public class SharedCounterTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testAdd() {
+    getVertx().sharedData().getCounter("foo").onComplete(onSuccess(counter -> {
+      counter.add(3);
+      counter.add(-1);
+      waitUntilCount(counter, 2L);
+    }));
+    await();
+  }
+
+  private void waitUntilCount(Counter counter, long expected) {
+    counter.get().onComplete(onSuccess(value -> {
+      if (value == expected) {
+        testComplete();
+      } else {
+        getVertx().setTimer(10, id -> waitUntilCount(counter, expected));
+      }
+    }));
+  }
+
+  @Test
+  public void testStripedCounter() throws Exception {
+    int threads = 4;
+    int increments = 10_000;
+    Vertx node = getVertx();
+    Counter counter = node.sharedData().getLocalCounter("foo", new CounterOptions().setStriped(true)).await();
+    Thread[] workers = new Thread[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] = new Thread(() -> {
+        for (int j = 0; j < increments; j++) {
+          counter.add(1);
+        }
+      });
+      workers[i].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    assertEquals(threads * increments, (long) counter.get().await());
+    assertEquals(threads * increments + 1, (long) counter.incrementAndGet().await());
+    assertEquals(threads * increments + 1, (long) counter.getAndAdd(4).await());
+    assertEquals(threads * increments + 4, (long) counter.decrementAndGet().await());
+    // The options of the existing counter apply
+    assertSame(counter, node.sharedData().getLocalCounter("foo").await());
+    counter.compareAndSet(0, 1).onComplete(onFailure(err -> {
+      assertTrue(err instanceof UnsupportedOperationException);
+      testComplete();
+    }));
+    await();
+  }
 }
@@ -121,6 +121,26 @@ public class VertxOptionsTest extends VertxTestBase {
     } catch (IllegalArgumentException e) {
       assertEquals(randomLong, options.getEventBusOptions().getClusterPingReplyInterval());
     }
+    assertEquals(0, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterWriteBatchMaxBytes(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    try {
+      options.getEventBusOptions().setClusterWriteBatchMaxBytes(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    }
+    assertEquals(0, options.getEventBusOptions().getClusterWriteBatchMaxLinger());
+    randomLong = TestUtils.randomPositiveLong();
+    options.getEventBusOptions().setClusterWriteBatchMaxLinger(randomLong);
+    assertEquals(randomLong, options.getEventBusOptions().getClusterWriteBatchMaxLinger());
+    try {
+      options.getEventBusOptions().setClusterWriteBatchMaxLinger(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(randomLong, options.getEventBusOptions().getClusterWriteBatchMaxLinger());
+    }
     assertEquals(1000, options.getBlockedThreadCheckInterval());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setBlockedThreadCheckInterval(rand));
@@ -224,6 +244,7 @@ public class VertxOptionsTest extends VertxTestBase {
     boolean fileResolverCachingEnabled = rand.nextBoolean();
     boolean metricsEnabled = rand.nextBoolean();
     boolean useDaemonThread = rand.nextBoolean();
+    boolean lockFreeTaskQueue = rand.nextBoolean();
     int quorumSize = 51214;
     String haGroup = TestUtils.randomAlphaString(100);
     long warningExceptionTime = TestUtils.randomPositiveLong();
@@ -254,6 +275,7 @@ public class VertxOptionsTest extends VertxTestBase {
     options.setWarningExceptionTimeUnit(warningExceptionTimeUnit);
     options.setBlockedThreadCheckIntervalUnit(blockedThreadCheckIntervalUnit);
     options.setUseDaemonThread(useDaemonThread);
+    options.setLockFreeTaskQueue(lockFreeTaskQueue);
 
     options = new VertxOptions(options);
     assertEquals(clusterPort, options.getEventBusOptions().getPort());
@@ -282,6 +304,7 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
     assertEquals(useDaemonThread, options.getUseDaemonThread());
+    assertEquals(lockFreeTaskQueue, options.getLockFreeTaskQueue());
   }
 
   @Test
@@ -308,6 +331,7 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getWarningExceptionTimeUnit(), json.getWarningExceptionTimeUnit());
     assertEquals(def.getBlockedThreadCheckIntervalUnit(), json.getBlockedThreadCheckIntervalUnit());
     assertEquals(def.getUseDaemonThread(), json.getUseDaemonThread());
+    assertEquals(def.getLockFreeTaskQueue(), json.getLockFreeTaskQueue());
   }
 
   @Test
@@ -371,6 +395,7 @@ public class VertxOptionsTest extends VertxTestBase {
     TimeUnit warningExceptionTimeUnit = TimeUnit.MINUTES;
     TimeUnit blockedThreadCheckIntervalUnit = TimeUnit.MINUTES;
     boolean useDaemonThread = rand.nextBoolean();
+    boolean lockFreeTaskQueue = rand.nextBoolean();
     options = new VertxOptions(new JsonObject().
         put("eventBusOptions", new JsonObject().
           put("port", clusterPort).
@@ -403,7 +428,8 @@ public class VertxOptionsTest extends VertxTestBase {
         put("maxWorkerExecuteTimeUnit", maxWorkerExecuteTimeUnit).
         put("warningExceptionTimeUnit", warningExceptionTimeUnit).
         put("blockedThreadCheckIntervalUnit", blockedThreadCheckIntervalUnit).
-        put("useDaemonThread", useDaemonThread)
+        put("useDaemonThread", useDaemonThread).
+        put("lockFreeTaskQueue", lockFreeTaskQueue)
     );
     assertEquals(clusterPort, options.getEventBusOptions().getPort());
     assertEquals(clusterPublicPort, options.getEventBusOptions().getClusterPublicPort());
@@ -432,5 +458,6 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
     assertEquals(useDaemonThread, options.getUseDaemonThread());
+    assertEquals(lockFreeTaskQueue, options.getLockFreeTaskQueue());
   }
 }